@@ -0,0 +1,144 @@
+package com.example.simplengine.Animation;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Sequência de quadros de uma spritesheet, com as regiões de cada quadro
+ * calculadas uma única vez. O clip é imutável e pode ser compartilhado por
+ * qualquer quantidade de sprites; o estado de reprodução fica no {@link Animator}.
+ */
+public final class AnimationClip {
+
+    private final BufferedImage sheet;
+    // x, y, largura e altura de cada quadro, em sequência
+    private final int[] regions;
+    private final int frameCount;
+    private final double fps;
+    private final boolean loop;
+
+    /**
+     * Cria um clip a partir de regiões explícitas.
+     *
+     * @param sheet Imagem com todos os quadros
+     * @param regions x, y, largura e altura de cada quadro, em sequência
+     * @param fps Quadros por segundo
+     * @param loop Se true, volta ao primeiro quadro ao terminar
+     * @throws IllegalArgumentException Se alguma região estiver fora da imagem
+     */
+    public AnimationClip(BufferedImage sheet, int[] regions, double fps, boolean loop) {
+        if (sheet == null) {
+            throw new IllegalArgumentException("A spritesheet não pode ser nula");
+        }
+        if (regions == null || regions.length == 0 || regions.length % 4 != 0) {
+            throw new IllegalArgumentException("As regiões devem ter 4 valores por quadro");
+        }
+        if (!(fps > 0)) {
+            throw new IllegalArgumentException("O fps deve ser positivo");
+        }
+        for (int i = 0; i < regions.length; i += 4) {
+            int x = regions[i], y = regions[i + 1], w = regions[i + 2], h = regions[i + 3];
+            if (x < 0 || y < 0 || w <= 0 || h <= 0 || x + w > sheet.getWidth() || y + h > sheet.getHeight()) {
+                throw new IllegalArgumentException(
+                    String.format("O quadro %d (%d,%d,%d,%d) está fora dos limites da imagem (%d,%d)",
+                        i / 4, x, y, w, h, sheet.getWidth(), sheet.getHeight())
+                );
+            }
+        }
+        this.sheet = sheet;
+        this.regions = regions.clone();
+        this.frameCount = regions.length / 4;
+        this.fps = fps;
+        this.loop = loop;
+    }
+
+    /**
+     * Cria um clip com quadros de tamanho fixo dispostos em grade, lidos da
+     * esquerda para a direita e de cima para baixo.
+     *
+     * @param first Índice do primeiro quadro na grade
+     * @param count Quantidade de quadros
+     */
+    public static AnimationClip fromGrid(BufferedImage sheet, int frameWidth, int frameHeight,
+                                         int first, int count, double fps, boolean loop) {
+        if (sheet == null) {
+            throw new IllegalArgumentException("A spritesheet não pode ser nula");
+        }
+        if (frameWidth <= 0 || frameHeight <= 0 || first < 0 || count <= 0) {
+            throw new IllegalArgumentException("Dimensões e quantidade de quadros devem ser positivas");
+        }
+        int columns = sheet.getWidth() / frameWidth;
+        if (columns == 0) {
+            throw new IllegalArgumentException("O quadro é mais largo que a spritesheet");
+        }
+        int[] regions = new int[count * 4];
+        for (int i = 0; i < count; i++) {
+            int index = first + i;
+            regions[i * 4] = (index % columns) * frameWidth;
+            regions[i * 4 + 1] = (index / columns) * frameHeight;
+            regions[i * 4 + 2] = frameWidth;
+            regions[i * 4 + 3] = frameHeight;
+        }
+        return new AnimationClip(sheet, regions, fps, loop);
+    }
+
+    /**
+     * Cria um clip com todos os quadros da grade.
+     */
+    public static AnimationClip fromGrid(BufferedImage sheet, int frameWidth, int frameHeight, double fps, boolean loop) {
+        if (sheet == null) {
+            throw new IllegalArgumentException("A spritesheet não pode ser nula");
+        }
+        if (frameWidth <= 0 || frameHeight <= 0) {
+            throw new IllegalArgumentException("Dimensões e quantidade de quadros devem ser positivas");
+        }
+        int count = (sheet.getWidth() / frameWidth) * (sheet.getHeight() / frameHeight);
+        return fromGrid(sheet, frameWidth, frameHeight, 0, count, fps, loop);
+    }
+
+    /**
+     * Índice do quadro exibido no tempo dado (em segundos desde o início).
+     */
+    public int frameAt(double time) {
+        if (time <= 0) return 0;
+        long frame = (long) (time * fps + 1e-9);
+        if (loop) return (int) (frame % frameCount);
+        return (int) Math.min(frame, frameCount - 1);
+    }
+
+    public BufferedImage getSheet() {
+        return sheet;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public double getFps() {
+        return fps;
+    }
+
+    public boolean isLoop() {
+        return loop;
+    }
+
+    /** @return Duração de uma passagem completa, em segundos */
+    public double getDuration() {
+        return frameCount / fps;
+    }
+
+    public int getFrameX(int frame) {
+        return regions[frame * 4];
+    }
+
+    public int getFrameY(int frame) {
+        return regions[frame * 4 + 1];
+    }
+
+    public int getFrameWidth(int frame) {
+        return regions[frame * 4 + 2];
+    }
+
+    public int getFrameHeight(int frame) {
+        return regions[frame * 4 + 3];
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.simplengine.Animation;
+
+import java.awt.Graphics2D;
+
+/**
+ * Estado de reprodução de um {@link AnimationClip}: tempo, quadro atual e
+ * velocidade. Cada sprite animado tem o seu Animator, enquanto o clip é
+ * compartilhado.
+ *
+ * O quadro é desenhado direto da região na spritesheet, sem criar subimagens.
+ */
+public final class Animator {
+
+    private AnimationClip clip;
+    private double time;
+    private double speed = 1.0;
+    private int frame;
+    private boolean playing = true;
+
+    public Animator() { }
+
+    public Animator(AnimationClip clip) {
+        this.clip = clip;
+    }
+
+    /**
+     * Troca o clip e volta ao início. Se o clip já for o atual, nada muda,
+     * então pode ser chamado a cada frame (ex.: play(correndo) enquanto o jogador anda).
+     */
+    public void play(AnimationClip clip) {
+        playing = true;
+        if (clip == this.clip) return;
+        this.clip = clip;
+        restart();
+    }
+
+    public void restart() {
+        time = 0;
+        frame = 0;
+        playing = true;
+    }
+
+    public void pause() {
+        playing = false;
+    }
+
+    public void resume() {
+        playing = true;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * Avança a animação.
+     *
+     * @param dt Tempo desde o último update, em segundos
+     */
+    public void update(double dt) {
+        if (!playing || clip == null) return;
+        time += dt * speed;
+        if (clip.isLoop()) {
+            // Mantém o tempo pequeno para não perder precisão em animações longas.
+            double duration = clip.getDuration();
+            if (time >= duration) time %= duration;
+        }
+        frame = clip.frameAt(time);
+    }
+
+    /**
+     * @return true se o clip não repete e já chegou ao último quadro
+     */
+    public boolean isFinished() {
+        return clip != null && !clip.isLoop() && time >= clip.getDuration();
+    }
+
+    /**
+     * Desenha o quadro atual escalado para o retângulo dado.
+     */
+    public void draw(Graphics2D g, int x, int y, int width, int height) {
+        if (g == null || clip == null) return;
+        final int sx = clip.getFrameX(frame);
+        final int sy = clip.getFrameY(frame);
+        g.drawImage(clip.getSheet(),
+                x, y, x + width, y + height,
+                sx, sy, sx + clip.getFrameWidth(frame), sy + clip.getFrameHeight(frame),
+                null);
+    }
+
+    public AnimationClip getClip() {
+        return clip;
+    }
+
+    public int getFrame() {
+        return frame;
+    }
+
+    /**
+     * Vai direto para um quadro.
+     */
+    public void setFrame(int frame) {
+        if (clip == null) return;
+        if (frame < 0 || frame >= clip.getFrameCount()) {
+            throw new IllegalArgumentException("Quadro fora do clip: " + frame);
+        }
+        this.frame = frame;
+        this.time = frame / clip.getFps();
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Multiplicador de velocidade (1 = normal, 2 = dobro, 0.5 = metade).
+     */
+    public void setSpeed(double speed) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("A velocidade não pode ser negativa");
+        }
+        this.speed = speed;
+    }
+}
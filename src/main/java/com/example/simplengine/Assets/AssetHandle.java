@@ -0,0 +1,129 @@
+package com.example.simplengine.Assets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Referência para um asset carregado em segundo plano pelo AssetManager.
+ *
+ * O valor só fica visível em get() depois de publicado por
+ * {@link AssetManager#update()}, chamado na thread do jogo; assim o jogo nunca
+ * observa um asset pela metade. Quem precisar esperar fora da thread do jogo
+ * (ex.: uma thread de tela de carregamento) pode usar getFuture(), que também
+ * só completa nesse update().
+ *
+ * @param <T> Tipo do asset (ex.: BufferedImage)
+ */
+public final class AssetHandle<T> {
+
+    private final String path;
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final List<Consumer<T>> listeners = new ArrayList<>();
+
+    private volatile T value;
+    private volatile Throwable error;
+    private volatile boolean published;
+
+    AssetHandle(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return O asset publicado, ou null se ainda não estiver pronto
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * @return true depois que o asset foi publicado na thread do jogo
+     */
+    public boolean isReady() {
+        return published && error == null;
+    }
+
+    /**
+     * @return true se o carregamento terminou com erro
+     */
+    public boolean isFailed() {
+        return published && error != null;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Future completado em {@link AssetManager#update()}, depois que o asset foi
+     * publicado (e, para sons, registrado no SoundPlayer). Completa com erro se
+     * o carregamento ou esse registro falhar. Como depende do update(), não
+     * espere por ele na própria thread do jogo.
+     */
+    public CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    /**
+     * Registra uma ação executada na thread do jogo (dentro de AssetManager.update)
+     * quando o asset estiver pronto. Se já estiver, a ação roda imediatamente.
+     * A ação também é chamada de novo sempre que o asset for recarregado.
+     */
+    public void onLoad(Consumer<T> listener) {
+        T current;
+        synchronized (listeners) {
+            listeners.add(listener);
+            current = isReady() ? value : null;
+        }
+        if (current != null) {
+            listener.accept(current);
+        }
+    }
+
+    public void removeListener(Consumer<T> listener) {
+        synchronized (listeners) {
+            listeners.remove(listener);
+        }
+    }
+
+    void complete(T loaded) {
+        future.complete(loaded);
+    }
+
+    void fail(Throwable cause) {
+        future.completeExceptionally(cause);
+    }
+
+    /**
+     * Publica o resultado e notifica os listeners. Deve rodar na thread do jogo.
+     */
+    void publish(T loaded, Throwable cause) {
+        if (cause != null && isReady()) {
+            // Recarga falhou (ex.: arquivo salvo pela metade): mantém a versão anterior.
+            System.err.println("AssetHandle error: falha ao recarregar " + path + ": " + cause.getMessage());
+            return;
+        }
+        this.error = cause;
+        if (cause == null) {
+            this.value = loaded;
+        }
+        this.published = true;
+
+        if (cause != null) return;
+
+        Object[] snapshot;
+        synchronized (listeners) {
+            snapshot = listeners.toArray();
+        }
+        for (Object listener : snapshot) {
+            @SuppressWarnings("unchecked")
+            Consumer<T> consumer = (Consumer<T>) listener;
+            consumer.accept(loaded);
+        }
+    }
+}
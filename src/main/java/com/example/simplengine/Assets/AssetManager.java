@@ -0,0 +1,494 @@
+package com.example.simplengine.Assets;
+
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import com.example.simplengine.GameObjects.SpriteObject;
+import com.example.simplengine.SimpleSound.SoundBuffer;
+import com.example.simplengine.SimpleSound.SoundPlayer;
+
+/**
+ * Carrega imagens e sons em um pool de threads, sem bloquear o GameLoop.
+ *
+ * Leitura de disco e decodificação rodam nas threads de carregamento; o
+ * resultado é publicado na thread do jogo quando {@link #update()} é chamado
+ * (normalmente no início do updater). O progresso agregado pode ser usado em
+ * telas de carregamento.
+ */
+public class AssetManager {
+
+    private static volatile AssetManager instance;
+
+    private final ExecutorService workers;
+    private final Map<String, AssetHandle<?>> handles = new ConcurrentHashMap<>();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requested = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final List<Mount> mounts = new CopyOnWriteArrayList<>();
+    private volatile AssetWatcher watcher;
+
+    private record Packed(AssetPack pack, String name) { }
+
+    private static final class Mount {
+        final String prefix;
+        final AssetPack pack;
+
+        Mount(String prefix, AssetPack pack) {
+            this.prefix = prefix;
+            this.pack = pack;
+        }
+    }
+
+    /**
+     * Cria um gerenciador com uma thread por núcleo (no máximo 4).
+     */
+    public AssetManager() {
+        this(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * @param threads Número de threads de carregamento
+     * @throws IllegalArgumentException Se threads não for positivo
+     */
+    public AssetManager(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("O número de threads deve ser maior que 0");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread t = new Thread(r, "SimplEngine-AssetLoader-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        this.workers = Executors.newFixedThreadPool(threads, factory);
+    }
+
+    public static AssetManager getInstance() {
+        if (instance == null) {
+            synchronized (AssetManager.class) {
+                if (instance == null) {
+                    instance = new AssetManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Monta um pacote de assets. Caminhos pedidos a loadImage/loadSound que existirem
+     * no pacote são lidos dele em vez do disco.
+     */
+    public void mount(AssetPack pack) {
+        mount("", pack);
+    }
+
+    /**
+     * Monta um pacote sob um prefixo. Ex.: com prefixo "assets/", o caminho
+     * "assets/player.png" é procurado como "player.png" no pacote.
+     */
+    public void mount(String prefix, AssetPack pack) {
+        if (pack == null) {
+            throw new IllegalArgumentException("O pacote não pode ser nulo");
+        }
+        mounts.add(new Mount(prefix == null ? "" : prefix.replace('\\', '/'), pack));
+    }
+
+    public void unmount(AssetPack pack) {
+        mounts.removeIf(m -> m.pack == pack);
+    }
+
+    /**
+     * Procura o caminho nos pacotes montados, do mais recente para o mais antigo.
+     *
+     * @return Pacote e nome da entrada, ou null se o caminho não estiver em nenhum pacote
+     */
+    private Packed resolve(String path) {
+        String normalized = path.replace('\\', '/');
+        for (int i = mounts.size() - 1; i >= 0; i--) {
+            Mount mount = mounts.get(i);
+            if (normalized.startsWith(mount.prefix)) {
+                String name = normalized.substring(mount.prefix.length());
+                if (mount.pack.contains(name)) {
+                    return new Packed(mount.pack, name);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Carrega uma imagem em segundo plano. Pedidos repetidos para o mesmo caminho
+     * retornam o mesmo handle.
+     */
+    @SuppressWarnings("unchecked")
+    public AssetHandle<BufferedImage> loadImage(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("O caminho não pode ser nulo");
+        }
+        final String key = "image:" + path;
+        return (AssetHandle<BufferedImage>) handles.computeIfAbsent(key, k -> {
+            AssetHandle<BufferedImage> handle = submitImage(new AssetHandle<>(path));
+            watchIfEnabled(path, key);
+            return handle;
+        });
+    }
+
+    /**
+     * Carrega um som em segundo plano e o registra no SoundPlayer com o nome dado,
+     * na thread do jogo, quando estiver pronto. Para WAV, o arquivo é lido e
+     * decodificado nas threads de carregamento.
+     */
+    @SuppressWarnings("unchecked")
+    public AssetHandle<String> loadSound(String soundName, String path) {
+        if (soundName == null || path == null) {
+            throw new IllegalArgumentException("Nome e caminho do som não podem ser nulos");
+        }
+        final String key = "sound:" + soundName;
+        return (AssetHandle<String>) handles.computeIfAbsent(key, k -> {
+            AssetHandle<String> handle = submitSound(new AssetHandle<>(path), soundName);
+            watchIfEnabled(path, key);
+            return handle;
+        });
+    }
+
+    private AssetHandle<BufferedImage> submitImage(AssetHandle<BufferedImage> handle) {
+        final String path = handle.getPath();
+        return submit(handle, () -> readImage(path), null);
+    }
+
+    private AssetHandle<String> submitSound(AssetHandle<String> handle, String soundName) {
+        final String path = handle.getPath();
+        if (path.toLowerCase().endsWith(".wav")) {
+            final SoundBuffer[] decoded = new SoundBuffer[1];
+            final boolean[] fromPack = new boolean[1];
+            return submit(handle, () -> {
+                fromPack[0] = resolve(path) != null;
+                try (AudioInputStream stream = readWav(path)) {
+                    decoded[0] = SoundBuffer.fromStream(stream);
+                }
+                return soundName;
+            }, () -> publishSound(soundName, path, decoded[0], fromPack[0]));
+        }
+        if (path.toLowerCase().endsWith(".mp3")) {
+            final SoundBuffer[] decoded = new SoundBuffer[1];
+            final boolean[] fromPack = new boolean[1];
+            return submit(handle, () -> {
+                final boolean mono = SoundPlayer.getPcmCache().isDownmixToMono();
+                Packed packed = resolve(path);
+                if (packed != null) {
+                    decoded[0] = SoundBuffer.fromMp3(packed.pack().openStream(packed.name()), path, mono);
+                    fromPack[0] = true;
+                } else {
+                    decoded[0] = SoundBuffer.fromMp3(path, mono);
+                }
+                return soundName;
+            }, () -> publishSound(soundName, path, decoded[0], fromPack[0]));
+        }
+        return submit(handle, () -> soundName, () -> {
+            if (SoundPlayer.loadSound(soundName, path) == SoundPlayer.INVALID_HANDLE) {
+                throw new IllegalStateException("Não foi possível carregar o som: " + path);
+            }
+        });
+    }
+
+    /**
+     * Entrega um som decodificado ao SoundPlayer. Sons de arquivos vão para o
+     * PcmCache e seguem o limite dele; sem arquivo no disco para decodificar
+     * de novo, o som do pacote fica em memória.
+     */
+    private static void publishSound(String soundName, String path, SoundBuffer decoded, boolean fromPack) {
+        if (fromPack) {
+            SoundPlayer.loadDecodedSound(soundName, decoded);
+        } else {
+            SoundPlayer.loadDecodedFile(soundName, path, decoded);
+        }
+    }
+
+    /**
+     * Recarrega um asset já pedido, reaproveitando o mesmo handle. A decodificação
+     * roda nas threads de carregamento e a troca acontece no próximo update(),
+     * notificando os listeners de {@link AssetHandle#onLoad}.
+     *
+     * @param key Chave interna ("image:" + caminho ou "sound:" + nome)
+     * @return false se não houver asset com essa chave
+     */
+    @SuppressWarnings("unchecked")
+    boolean reload(String key) {
+        AssetHandle<?> handle = handles.get(key);
+        if (handle == null) return false;
+        if (key.startsWith("image:")) {
+            submitImage((AssetHandle<BufferedImage>) handle);
+        } else {
+            submitSound((AssetHandle<String>) handle, key.substring("sound:".length()));
+        }
+        return true;
+    }
+
+    /**
+     * Recarrega a imagem do caminho dado, se ela tiver sido carregada antes.
+     */
+    public boolean reloadImage(String path) {
+        return reload("image:" + path);
+    }
+
+    /**
+     * Recarrega o som registrado com o nome dado, se ele tiver sido carregado antes.
+     */
+    public boolean reloadSound(String soundName) {
+        return reload("sound:" + soundName);
+    }
+
+    /**
+     * Liga ou desliga o hot-reload. Com ele ligado, arquivos de imagens e sons
+     * carregados do disco são observados e recarregados quando salvos.
+     *
+     * @param debounceMillis Tempo sem novas alterações antes de recarregar
+     */
+    public synchronized void setHotReload(boolean enabled, long debounceMillis) {
+        if (enabled && watcher == null) {
+            try {
+                AssetWatcher created = new AssetWatcher(this, debounceMillis);
+                for (Map.Entry<String, AssetHandle<?>> entry : handles.entrySet()) {
+                    if (resolve(entry.getValue().getPath()) == null) {
+                        created.watch(Paths.get(entry.getValue().getPath()), entry.getKey());
+                    }
+                }
+                created.start();
+                watcher = created;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível iniciar o hot-reload", e);
+            }
+        } else if (!enabled && watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    public void setHotReload(boolean enabled) {
+        setHotReload(enabled, AssetWatcher.DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public boolean isHotReload() {
+        return watcher != null;
+    }
+
+    private void watchIfEnabled(String path, String key) {
+        AssetWatcher current = watcher;
+        if (current != null && resolve(path) == null) {
+            try {
+                current.watch(Paths.get(path), key);
+            } catch (IOException e) {
+                System.err.println("AssetManager error: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Mantém a imagem do sprite sincronizada com o handle: aplica quando carregar e
+     * de novo a cada recarga. O sprite é referenciado fracamente, então sprites
+     * descartados não ficam presos ao handle. Se o sprite tiver um tamanho
+     * diferente do da imagem, esse tamanho é preservado. É a única forma de um
+     * sprite acompanhar o hot reload: sprites criados a partir de um caminho
+     * não passam pelo AssetManager.
+     */
+    public static void bind(AssetHandle<BufferedImage> handle, SpriteObject sprite) {
+        handle.onLoad(new SpriteBinding(handle, sprite));
+    }
+
+    private static final class SpriteBinding implements Consumer<BufferedImage> {
+        private final AssetHandle<BufferedImage> handle;
+        private final WeakReference<SpriteObject> sprite;
+
+        SpriteBinding(AssetHandle<BufferedImage> handle, SpriteObject sprite) {
+            this.handle = handle;
+            this.sprite = new WeakReference<>(sprite);
+        }
+
+        @Override
+        public void accept(BufferedImage image) {
+            SpriteObject target = sprite.get();
+            if (target == null) {
+                handle.removeListener(this);
+                return;
+            }
+            BufferedImage current = target.getImage();
+            boolean customSize = current != null
+                    && (target.getBaseWidth() != current.getWidth() || target.getBaseHeight() != current.getHeight());
+            target.setImage(image, customSize);
+        }
+    }
+
+    private <T> AssetHandle<T> submit(AssetHandle<T> handle, Callable<T> loader, Runnable onGameThread) {
+        requested.incrementAndGet();
+        workers.execute(() -> {
+            T loaded = null;
+            Throwable error = null;
+            try {
+                loaded = loader.call();
+            } catch (Throwable t) {
+                error = t;
+            }
+            final T result = loaded;
+            final Throwable cause = error;
+            // O future só completa depois do passo na thread do jogo, então quem
+            // espera por ele já encontra o asset registrado e publicado.
+            pending.add(() -> {
+                Throwable failure = cause;
+                if (failure == null && onGameThread != null) {
+                    try {
+                        onGameThread.run();
+                    } catch (Throwable t) {
+                        failure = t;
+                    }
+                }
+                try {
+                    handle.publish(result, failure);
+                } finally {
+                    if (failure == null) {
+                        handle.complete(result);
+                    } else {
+                        handle.fail(failure);
+                    }
+                }
+            });
+            finished.incrementAndGet();
+        });
+        return handle;
+    }
+
+    /**
+     * Publica os assets que terminaram de carregar. Chame uma vez por frame na
+     * thread do jogo; os callbacks de {@link AssetHandle#onLoad} rodam aqui.
+     *
+     * @return Quantidade de assets publicados neste frame
+     */
+    public int update() {
+        int published = 0;
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+            published++;
+        }
+        return published;
+    }
+
+    /**
+     * @return Fração dos pedidos já processados, de 0 a 1 (1 quando não há pedidos)
+     */
+    public float getProgress() {
+        int total = requested.get();
+        return total == 0 ? 1f : Math.min(1f, finished.get() / (float) total);
+    }
+
+    public int getRequestedCount() {
+        return requested.get();
+    }
+
+    public int getFinishedCount() {
+        return finished.get();
+    }
+
+    /**
+     * @return true quando todos os pedidos foram processados e publicados
+     */
+    public boolean isIdle() {
+        return finished.get() == requested.get() && pending.isEmpty();
+    }
+
+    /**
+     * Esquece os handles em cache para que os caminhos possam ser carregados de novo.
+     */
+    public void clear() {
+        handles.clear();
+    }
+
+    /**
+     * Encerra as threads de carregamento.
+     */
+    public void shutdown() {
+        setHotReload(false);
+        workers.shutdownNow();
+    }
+
+    private BufferedImage readImage(String path) throws IOException {
+        Packed packed = resolve(path);
+        if (packed != null) {
+            return toCompatible(packed.pack().readImage(packed.name()));
+        }
+        return decodeImage(path);
+    }
+
+    private AudioInputStream readWav(String path) throws Exception {
+        Packed packed = resolve(path);
+        if (packed != null) {
+            return packed.pack().openAudio(packed.name());
+        }
+        return decodeWav(path);
+    }
+
+    static BufferedImage decodeImage(String path) throws IOException {
+        BufferedImage image = ImageIO.read(Paths.get(path).toFile());
+        if (image == null) {
+            throw new IOException("Não foi possível carregar a imagem: " + path);
+        }
+        return toCompatible(image);
+    }
+
+    /**
+     * Converte a imagem para o formato da tela, evitando conversões a cada drawImage.
+     */
+    static BufferedImage toCompatible(BufferedImage image) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return image;
+        }
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        if (image.getColorModel().equals(gc.getColorModel(image.getTransparency()))) {
+            return image;
+        }
+        int transparency = image.getColorModel().hasAlpha() ? Transparency.TRANSLUCENT : Transparency.OPAQUE;
+        BufferedImage compatible = gc.createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        Graphics2D g = compatible.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return compatible;
+    }
+
+    private static AudioInputStream decodeWav(String path) throws Exception {
+        byte[] bytes = Files.readAllBytes(Paths.get(path));
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new ByteArrayInputStream(bytes))) {
+            AudioFormat format = source.getFormat();
+            byte[] pcm = source.readAllBytes();
+            return new AudioInputStream(new ByteArrayInputStream(pcm), format, pcm.length / format.getFrameSize());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.simplengine.Assets;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+
+/**
+ * Arquivo único com vários assets já decodificados, lido via FileChannel.map.
+ *
+ * Imagens são guardadas como pixels ARGB e sons como blocos PCM, então abrir um
+ * asset é apenas uma cópia a partir das páginas mapeadas (ou nenhuma cópia, para
+ * {@link #getData(String)}), sem open/stat/read por arquivo nem decodificação.
+ * Use {@link AssetPacker} para gerar o arquivo a partir de um diretório.
+ *
+ * Formato (big-endian): cabeçalho MAGIC, VERSION, quantidade de entradas; índice
+ * com nome UTF-8, tipo, offset, tamanho e quatro inteiros de metadados; depois os
+ * dados de cada entrada alinhados a 8 bytes.
+ */
+public final class AssetPack implements Closeable {
+
+    static final int MAGIC = 0x5345504B; // "SEPK"
+    static final int VERSION = 1;
+
+    /**
+     * Tipo do conteúdo de uma entrada.
+     */
+    public enum EntryType {
+        /** Pixels ARGB; metadados: largura, altura. */
+        IMAGE,
+        /** PCM; metadados: sample rate (bits de float), bits por amostra, canais, flags (1 = signed, 2 = big-endian). */
+        PCM,
+        /** Bytes originais do arquivo. */
+        RAW
+    }
+
+    static final class Entry {
+        final String name;
+        final EntryType type;
+        final long offset;
+        final long length;
+        final int[] meta;
+
+        Entry(String name, EntryType type, long offset, long length, int[] meta) {
+            this.name = name;
+            this.type = type;
+            this.offset = offset;
+            this.length = length;
+            this.meta = meta;
+        }
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    private AssetPack(Path path, FileChannel channel, MappedByteBuffer buffer, Map<String, Entry> entries) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    /**
+     * Abre e mapeia um pacote de assets.
+     *
+     * @throws IOException Se o arquivo não existir ou não for um pacote válido
+     */
+    public static AssetPack open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+                throw new IOException("Arquivo não é um pacote de assets: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Versão de pacote não suportada: " + version);
+            }
+
+            int count = buffer.getInt();
+            Map<String, Entry> entries = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                byte[] nameBytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+                EntryType type = EntryType.values()[buffer.get()];
+                long offset = buffer.getLong();
+                long length = buffer.getLong();
+                int[] meta = { buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt() };
+                if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+                    throw new IOException("Entrada corrompida no pacote: " + name);
+                }
+                if (type == EntryType.IMAGE
+                        && (meta[0] <= 0 || meta[1] <= 0 || (long) meta[0] * meta[1] * 4 != length)) {
+                    throw new IOException("Dimensões da imagem não batem com os dados no pacote: " + name);
+                }
+                entries.put(name, new Entry(name, type, offset, length, meta));
+            }
+            return new AssetPack(path, channel, buffer, entries);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            if (e instanceof IOException) throw (IOException) e;
+            throw new IOException("Pacote de assets corrompido: " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * @return O tipo da entrada, ou null se ela não existir
+     */
+    public EntryType getType(String name) {
+        Entry entry = entries.get(name);
+        return entry == null ? null : entry.type;
+    }
+
+    /**
+     * Retorna uma visão somente leitura dos bytes da entrada, sem cópia.
+     */
+    public ByteBuffer getData(String name) throws IOException {
+        return slice(require(name));
+    }
+
+    /**
+     * Cria uma imagem ARGB a partir dos pixels guardados no pacote, com uma
+     * única cópia em bloco das páginas mapeadas para o raster da imagem.
+     */
+    public BufferedImage readImage(String name) throws IOException {
+        Entry entry = require(name);
+        if (entry.type != EntryType.IMAGE) {
+            throw new IOException("A entrada não é uma imagem: " + name);
+        }
+        BufferedImage image = new BufferedImage(entry.meta[0], entry.meta[1], BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        slice(entry).asIntBuffer().get(pixels);
+        return image;
+    }
+
+    /**
+     * Retorna o formato de áudio de uma entrada PCM.
+     */
+    public AudioFormat getAudioFormat(String name) throws IOException {
+        Entry entry = require(name);
+        if (entry.type != EntryType.PCM) {
+            throw new IOException("A entrada não é um áudio PCM: " + name);
+        }
+        return toFormat(entry.meta);
+    }
+
+    /**
+     * Abre um stream de áudio que lê o PCM diretamente das páginas mapeadas.
+     */
+    public AudioInputStream openAudio(String name) throws IOException {
+        AudioFormat format = getAudioFormat(name);
+        ByteBuffer data = slice(entries.get(name));
+        return new AudioInputStream(new BufferInputStream(data), format, data.remaining() / format.getFrameSize());
+    }
+
+    /**
+     * Abre um stream sobre os bytes da entrada, lidos direto das páginas mapeadas.
+     * Usado para arquivos guardados como {@link EntryType#RAW}, como MP3s.
+     */
+    public InputStream openStream(String name) throws IOException {
+        return new BufferInputStream(slice(require(name)));
+    }
+
+    private Entry require(String name) throws IOException {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IOException("Asset não encontrado no pacote: " + name);
+        }
+        return entry;
+    }
+
+    private ByteBuffer slice(Entry entry) {
+        return buffer.slice((int) entry.offset, (int) entry.length).asReadOnlyBuffer().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    static int[] toMeta(AudioFormat format) {
+        int flags = (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED ? 1 : 0) | (format.isBigEndian() ? 2 : 0);
+        return new int[] { Float.floatToIntBits(format.getSampleRate()), format.getSampleSizeInBits(), format.getChannels(), flags };
+    }
+
+    static AudioFormat toFormat(int[] meta) {
+        return new AudioFormat(Float.intBitsToFloat(meta[0]), meta[1], meta[2], (meta[3] & 1) != 0, (meta[3] & 2) != 0);
+    }
+
+    /**
+     * O mapeamento é liberado pelo GC; fechar o pacote apenas fecha o canal.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer data;
+
+        BufferInputStream(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return data.hasRemaining() ? data.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!data.hasRemaining()) return -1;
+            int n = Math.min(len, data.remaining());
+            data.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+}
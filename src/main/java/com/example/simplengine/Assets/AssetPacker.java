@@ -0,0 +1,176 @@
+package com.example.simplengine.Assets;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+/**
+ * Gera um {@link AssetPack} a partir de um diretório.
+ *
+ * Imagens (png, jpg, jpeg, bmp, gif) são decodificadas para ARGB, arquivos WAV
+ * para PCM e qualquer outro arquivo é copiado como está. Os nomes das entradas
+ * são os caminhos relativos ao diretório, separados por '/'.
+ *
+ * Uso: java -cp simplengine.jar com.example.simplengine.Assets.AssetPacker &lt;diretório&gt; &lt;saída.pack&gt;
+ */
+public final class AssetPacker {
+
+    private static final int ENTRY_FIXED_SIZE = 2 + 1 + 8 + 8 + 16;
+    private static final int HEADER_SIZE = 12;
+    private static final int ALIGNMENT = 8;
+
+    private AssetPacker() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: AssetPacker <diretório> <saída.pack>");
+            System.exit(1);
+        }
+        int count = pack(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("AssetPacker: " + count + " assets gravados em " + args[1]);
+    }
+
+    /**
+     * Empacota todos os arquivos de um diretório (recursivamente).
+     *
+     * @return Quantidade de entradas gravadas
+     * @throws IOException Se algum arquivo não puder ser lido ou o pacote não puder ser gravado
+     */
+    public static int pack(Path directory, Path output) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Diretório não encontrado: " + directory);
+        }
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(p -> !p.toAbsolutePath().equals(output.toAbsolutePath()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        List<String> names = new ArrayList<>(files.size());
+        long indexSize = HEADER_SIZE;
+        for (Path file : files) {
+            String name = directory.relativize(file).toString().replace('\\', '/');
+            int nameLength = name.getBytes(StandardCharsets.UTF_8).length;
+            if (nameLength > 0xFFFF) {
+                throw new IOException("Nome de asset muito longo: " + name);
+            }
+            names.add(name);
+            indexSize += ENTRY_FIXED_SIZE + nameLength;
+        }
+
+        List<AssetPack.Entry> entries = new ArrayList<>(files.size());
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            long position = align(indexSize);
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                String name = names.get(i);
+
+                AssetPack.EntryType type;
+                int[] meta;
+                ByteBuffer payload;
+
+                String lower = name.toLowerCase();
+                BufferedImage image = isImage(lower) ? ImageIO.read(file.toFile()) : null;
+                if (image != null) {
+                    type = AssetPack.EntryType.IMAGE;
+                    meta = new int[] { image.getWidth(), image.getHeight(), 0, 0 };
+                    payload = encodePixels(image);
+                } else if (lower.endsWith(".wav")) {
+                    type = AssetPack.EntryType.PCM;
+                    AudioFormat[] format = new AudioFormat[1];
+                    payload = ByteBuffer.wrap(decodePcm(file, format));
+                    meta = AssetPack.toMeta(format[0]);
+                } else {
+                    type = AssetPack.EntryType.RAW;
+                    meta = new int[4];
+                    payload = ByteBuffer.wrap(Files.readAllBytes(file));
+                }
+
+                long length = payload.remaining();
+                while (payload.hasRemaining()) {
+                    channel.write(payload, position + (length - payload.remaining()));
+                }
+                entries.add(new AssetPack.Entry(name, type, position, length, meta));
+                position = align(position + length);
+            }
+
+            ByteBuffer index = ByteBuffer.allocate((int) indexSize).order(ByteOrder.BIG_ENDIAN);
+            index.putInt(AssetPack.MAGIC);
+            index.putInt(AssetPack.VERSION);
+            index.putInt(entries.size());
+            for (AssetPack.Entry entry : entries) {
+                byte[] nameBytes = entry.name.getBytes(StandardCharsets.UTF_8);
+                index.putShort((short) nameBytes.length);
+                index.put(nameBytes);
+                index.put((byte) entry.type.ordinal());
+                index.putLong(entry.offset);
+                index.putLong(entry.length);
+                for (int value : entry.meta) {
+                    index.putInt(value);
+                }
+            }
+            index.flip();
+            long written = 0;
+            while (index.hasRemaining()) {
+                written += channel.write(index, written);
+            }
+        }
+        return entries.size();
+    }
+
+    private static boolean isImage(String lower) {
+        return lower.endsWith(".png") || lower.endsWith(".jpg") || lower.endsWith(".jpeg")
+                || lower.endsWith(".bmp") || lower.endsWith(".gif");
+    }
+
+    private static ByteBuffer encodePixels(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        ByteBuffer payload = ByteBuffer.allocate(pixels.length * 4).order(ByteOrder.BIG_ENDIAN);
+        payload.asIntBuffer().put(pixels);
+        return payload;
+    }
+
+    private static byte[] decodePcm(Path file, AudioFormat[] formatOut) throws IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(file.toFile())) {
+            AudioFormat format = source.getFormat();
+            AudioInputStream pcm = source;
+            if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED
+                    && format.getEncoding() != AudioFormat.Encoding.PCM_UNSIGNED) {
+                AudioFormat target = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+                pcm = AudioSystem.getAudioInputStream(target, source);
+                format = target;
+            }
+            formatOut[0] = format;
+            return pcm.readAllBytes();
+        } catch (javax.sound.sampled.UnsupportedAudioFileException e) {
+            throw new IOException("Formato de áudio não suportado: " + file, e);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+}
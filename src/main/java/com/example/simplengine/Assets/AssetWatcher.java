@@ -0,0 +1,127 @@
+package com.example.simplengine.Assets;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Observa os arquivos de assets carregados e pede ao AssetManager que os
+ * recarregue quando forem salvos.
+ *
+ * Cada diretório é registrado uma única vez no WatchService. Editores costumam
+ * gerar várias escritas seguidas ao salvar, então um arquivo só é recarregado
+ * depois de ficar {@code debounceMillis} sem novas alterações.
+ *
+ * A recarga troca só o valor do {@link AssetHandle}. Sprites seguem a troca
+ * apenas se estiverem ligados por {@link AssetManager#bind}; um
+ * {@code new SpriteObject(path)} lê o arquivo por conta própria e um
+ * {@code AnimationClip} guarda a spritesheet com que foi criado, então ambos
+ * mantêm a imagem antiga (recrie o clip em {@link AssetHandle#onLoad}).
+ */
+final class AssetWatcher implements AutoCloseable {
+
+    static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private final AssetManager manager;
+    private final long debounceNanos;
+    private final WatchService service;
+    private final Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+    private final Map<Path, Set<String>> files = new ConcurrentHashMap<>();
+    private final Map<Path, Long> deadlines = new HashMap<>();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    AssetWatcher(AssetManager manager, long debounceMillis) throws IOException {
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("O debounce não pode ser negativo");
+        }
+        this.manager = manager;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.service = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, "SimplEngine-AssetWatcher");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Passa a observar um arquivo; alterações nele recarregam o asset com a chave dada.
+     */
+    void watch(Path file, String key) throws IOException {
+        Path absolute = file.toAbsolutePath().normalize();
+        Path directory = absolute.getParent();
+        if (directory == null) return;
+        synchronized (directories) {
+            if (!directories.containsKey(directory)) {
+                directories.put(directory, directory.register(service,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE));
+            }
+        }
+        files.computeIfAbsent(absolute, k -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void run() {
+        final long pollMillis = Math.max(10, TimeUnit.NANOSECONDS.toMillis(debounceNanos) / 2);
+        while (running) {
+            WatchKey key;
+            try {
+                key = service.poll(pollMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+
+            if (key != null) {
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+                    Path changed = directory.resolve((Path) event.context());
+                    if (files.containsKey(changed)) {
+                        deadlines.put(changed, System.nanoTime() + debounceNanos);
+                    }
+                }
+                key.reset();
+            }
+
+            fireExpired(System.nanoTime());
+        }
+    }
+
+    private void fireExpired(long now) {
+        Iterator<Map.Entry<Path, Long>> it = deadlines.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Path, Long> entry = it.next();
+            if (now - entry.getValue() < 0) continue;
+            it.remove();
+            Set<String> keys = files.get(entry.getKey());
+            if (keys == null) continue;
+            for (String key : keys) {
+                manager.reload(key);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            service.close();
+        } catch (IOException e) {
+            System.err.println("AssetWatcher error: " + e.getMessage());
+        }
+        thread.interrupt();
+    }
+}
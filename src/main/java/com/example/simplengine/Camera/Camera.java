@@ -9,7 +9,11 @@ public final class Camera {
     private float zoom;
     private float followSpeed;
 
-    private Camera() {
+    /**
+     * Cria uma câmera independente. Use getInstance() para a câmera padrão
+     * usada por Canvas; câmeras extras servem para viewports e superfícies adicionais.
+     */
+    public Camera() {
         position = new Vector2(0, 0);
         zoom = 1.0f;
         followSpeed = 0.1f;
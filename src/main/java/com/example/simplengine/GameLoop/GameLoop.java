@@ -6,17 +6,24 @@ public class GameLoop {
 	private volatile long targetFrameNanos = 1_000_000_000L / targetFps;
 
 	private volatile boolean running = false;
+
 	private Thread loopThread;
 
 	public interface Updater { void update(double dtSeconds); }
 
 	public interface Renderer { void render(); }
 
+	/** Aplica a entrada pendente no início do tick (ex.: {@code InputManager.getInstance()::poll}) */
+	public interface InputPoller { void poll(); }
+
 	private Updater updater;
 	private Renderer renderer;
+	private volatile InputPoller inputPoller;
 
 	private volatile int currentFps = 0;
 
+	private volatile long lastFrameWorkNanos = 0;
+
 	public GameLoop() { }
 
 	public GameLoop(Updater updater, Renderer renderer) {
@@ -56,6 +63,13 @@ public class GameLoop {
 	public void setUpdater(Updater updater) { this.updater = updater; }
 	public void setRenderer(Renderer renderer) { this.renderer = renderer; }
 
+	/**
+	 * Define o que é chamado no início de cada tick, antes do updater, para que
+	 * o update veja os eventos de entrada já aplicados. null (padrão) não faz nada.
+	 */
+	public void setInputPoller(InputPoller inputPoller) { this.inputPoller = inputPoller; }
+	public InputPoller getInputPoller() { return inputPoller; }
+
 	public void setTargetFps(int fps) {
 		if (fps <= 0) return;
 		this.targetFps = fps;
@@ -65,6 +79,12 @@ public class GameLoop {
 	public int getTargetFps() { return targetFps; }
 	public int getCurrentFps() { return currentFps; }
 
+	/** @return Orçamento de cada frame em nanossegundos, derivado de setTargetFps */
+	public long getTargetFrameNanos() { return targetFrameNanos; }
+
+	/** @return Tempo gasto em update + render no último frame, em nanossegundos */
+	public long getLastFrameWorkNanos() { return lastFrameWorkNanos; }
+
 	private void runLoop() {
 		long lastTime = System.nanoTime();
 		long lastFpsTick = lastTime;
@@ -75,6 +95,11 @@ public class GameLoop {
 			final double dtSeconds = (frameStart - lastTime) / 1_000_000_000.0;
 			lastTime = frameStart;
 
+			final InputPoller poller = inputPoller;
+			if (poller != null) {
+				try { poller.poll(); } catch (Throwable t) {}
+			}
+
 			if (updater != null) {
 				try { updater.update(dtSeconds); } catch (Throwable t) {}
 			}
@@ -85,6 +110,7 @@ public class GameLoop {
 
 			final long afterWork = System.nanoTime();
 			final long workNanos = afterWork - frameStart;
+			lastFrameWorkNanos = workNanos;
 			long remaining = targetFrameNanos - workNanos;
 
 			if (remaining > 0) {
@@ -1,5 +1,7 @@
 package com.example.simplengine.GameObjects;
 
+import com.example.simplengine.Physics.SweepHit;
+import com.example.simplengine.Physics.SweptAabb;
 import com.example.simplengine.Vectors.Vector2;
 import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
@@ -18,6 +20,14 @@ public abstract class GameObject {
 
     private Vector2 speed;
 
+    private boolean continuous;
+
+    private SweepHit lastHit;
+
+    private SweepHit sweepScratch;
+
+    private static final int MAX_SLIDES = 3;
+
     public Vector2 getSpeed() {
         return speed;
     }
@@ -40,6 +50,95 @@ public abstract class GameObject {
         position.setY(position.getY() + speed.getY() * dt);
     }
 
+    /**
+     * Atualiza o objeto como {@link #update(double)} e, se a colisão contínua
+     * estiver ligada e o deslocamento do tick for maior que o próprio tamanho,
+     * refaz o movimento com swept AABB contra os obstáculos: o objeto para no
+     * ponto de contato (deslizando ao longo da superfície) em vez de atravessá-lo.
+     * Objetos lentos fazem só o passo normal, sem custo extra.
+     *
+     * @param solids Obstáculos a considerar
+     * @return true se algum obstáculo foi atingido neste tick (veja {@link #getLastHit()})
+     */
+    public boolean update(double dt, Iterable<? extends GameObject> solids) {
+        Vector2 start = getPosition();
+        final double startX = start == null ? 0 : start.getX();
+        final double startY = start == null ? 0 : start.getY();
+        final Rectangle2D.Float before = getBounds();
+
+        update(dt);
+        if (!continuous || solids == null) return false;
+
+        Vector2 pos = getPosition();
+        double dx = pos.getX() - startX;
+        double dy = pos.getY() - startY;
+        if (Math.abs(dx) <= before.width && Math.abs(dy) <= before.height) return false;
+
+        if (sweepScratch == null) sweepScratch = new SweepHit();
+        final SweepHit hit = sweepScratch;
+        pos.setX(startX);
+        pos.setY(startY);
+
+        boolean hitAny = false;
+        double firstTime = 0, normalX = 0, normalY = 0;
+        GameObject firstOther = null;
+        for (int i = 0; i <= MAX_SLIDES && (dx != 0 || dy != 0); i++) {
+            if (!SweptAabb.sweep(this, dx, dy, solids, hit)) {
+                pos.setX(pos.getX() + dx);
+                pos.setY(pos.getY() + dy);
+                break;
+            }
+            double t = hit.getTime();
+            pos.setX(pos.getX() + dx * t);
+            pos.setY(pos.getY() + dy * t);
+            if (!hitAny) {
+                hitAny = true;
+                firstTime = t;
+                normalX = hit.getNormalX();
+                normalY = hit.getNormalY();
+                firstOther = hit.getOther();
+            }
+
+            // Remove a componente contra a superfície e desliza com o que sobrou.
+            Vector2 velocity = getSpeed();
+            if (hit.getNormalX() != 0) {
+                if (velocity != null) velocity.setX(0);
+                dx = 0;
+                dy *= 1 - t;
+            } else {
+                if (velocity != null) velocity.setY(0);
+                dy = 0;
+                dx *= 1 - t;
+            }
+        }
+        // Um tick sem impacto não apaga o último impacto registrado.
+        if (hitAny) {
+            if (lastHit == null) lastHit = new SweepHit();
+            lastHit.set(firstTime, normalX, normalY, firstOther);
+        }
+        return hitAny;
+    }
+
+    /**
+     * Liga a colisão contínua usada por {@link #update(double, Iterable)}, para
+     * objetos rápidos (projéteis) que poderiam atravessar paredes finas.
+     */
+    public void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+    }
+
+    public boolean isContinuous() {
+        return continuous;
+    }
+
+    /**
+     * @return O primeiro impacto do último {@link #update(double, Iterable)} que
+     * atingiu algo, ou null se nunca houve impacto
+     */
+    public SweepHit getLastHit() {
+        return lastHit;
+    }
+
     public abstract void render(Graphics2D g);
 
     public abstract Rectangle2D.Float getBounds();
@@ -71,6 +71,9 @@ public class Rect extends GameObject {
 
     @Override
     public boolean intersects(GameObject other) {
+        if (other instanceof SpriteObject && ((SpriteObject) other).isPixelPerfect()) {
+            return other.intersects(this);
+        }
         Rectangle2D.Float a = this.getBounds();
         Rectangle2D.Float b = other.getBounds();
         return a.x <= b.x + b.width &&
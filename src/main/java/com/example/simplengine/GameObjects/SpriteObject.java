@@ -1,7 +1,12 @@
 package com.example.simplengine.GameObjects;
 
+import com.example.simplengine.Animation.AnimationClip;
+import com.example.simplengine.Animation.Animator;
+import com.example.simplengine.Physics.CollisionMask;
+import com.example.simplengine.Render.MipChain;
 import com.example.simplengine.Vectors.Vector2;
 import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -15,6 +20,14 @@ public class SpriteObject extends GameObject {
     private int height;
     private float scaleX;
     private float scaleY;
+    private boolean mipmapping = true;
+    private MipChain mips;
+    private Animator animator;
+    private boolean pixelPerfect;
+    // Última máscara de getCollisionMask() e de onde ela veio (imagem ou clipe + quadro)
+    private Object maskSource;
+    private int maskFrame;
+    private CollisionMask mask;
 
     /**
      * Cria um Sprite carregando uma imagem do caminho especificado.
@@ -114,6 +127,112 @@ public class SpriteObject extends GameObject {
         this.height = height;
     }
 
+    /**
+     * Define o animador do sprite. Enquanto houver um, o sprite desenha o quadro
+     * atual do clip em vez da imagem, e update(dt) avança a animação. Se o sprite
+     * ainda não tiver tamanho, usa o tamanho do primeiro quadro.
+     *
+     * @param animator Animador, ou null para voltar a desenhar a imagem
+     */
+    public void setAnimator(Animator animator) {
+        this.animator = animator;
+        if (animator != null && animator.getClip() != null && (width == 0 || height == 0)) {
+            AnimationClip clip = animator.getClip();
+            this.width = clip.getFrameWidth(0);
+            this.height = clip.getFrameHeight(0);
+        }
+    }
+
+    public Animator getAnimator() {
+        return animator;
+    }
+
+    /**
+     * Atalho para tocar um clip, criando o animador se necessário.
+     */
+    public void play(AnimationClip clip) {
+        if (animator == null) {
+            setAnimator(new Animator(clip));
+        } else {
+            animator.play(clip);
+        }
+    }
+
+    @Override
+    public void update(double dt) {
+        super.update(dt);
+        if (animator != null) {
+            animator.update(dt);
+        }
+    }
+
+    /**
+     * Liga ou desliga a colisão por pixel. Com ela ligada, intersects() só retorna
+     * true se pixels opacos dos dois objetos se sobrepuserem (depois do teste de
+     * caixas). A máscara da imagem é calculada aqui, uma única vez por imagem.
+     */
+    public void setPixelPerfect(boolean pixelPerfect) {
+        this.pixelPerfect = pixelPerfect;
+        if (pixelPerfect) {
+            getCollisionMask();
+        }
+    }
+
+    public boolean isPixelPerfect() {
+        return pixelPerfect;
+    }
+
+    /**
+     * Máscara de colisão do que está sendo desenhado (imagem ou quadro atual da
+     * animação) no tamanho atual do sprite, ou null se não houver imagem.
+     */
+    public CollisionMask getCollisionMask() {
+        final Object source;
+        final int frame;
+        AnimationClip clip = animator != null ? animator.getClip() : null;
+        if (clip != null) {
+            source = clip;
+            frame = animator.getFrame();
+        } else if (image != null) {
+            source = image;
+            frame = 0;
+        } else {
+            return null;
+        }
+        int w = getWidth();
+        int h = getHeight();
+        if (w <= 0 || h <= 0) return null;
+
+        // Mesmo quadro no mesmo tamanho: reaproveita sem consultar os caches da máscara
+        CollisionMask cached = mask;
+        if (cached != null && source == maskSource && frame == maskFrame
+                && cached.getWidth() == w && cached.getHeight() == h) {
+            return cached;
+        }
+        CollisionMask base = clip != null
+                ? CollisionMask.of(clip.getSheet()).region(clip.getFrameX(frame), clip.getFrameY(frame),
+                        clip.getFrameWidth(frame), clip.getFrameHeight(frame))
+                : CollisionMask.of(image);
+        cached = base.scaled(w, h);
+        maskSource = source;
+        maskFrame = frame;
+        mask = cached;
+        return cached;
+    }
+
+    /**
+     * Liga ou desliga o uso de versões reduzidas da imagem quando o sprite é
+     * desenhado bem menor do que o original (ex.: zoom da câmera afastado).
+     * Ligado por padrão.
+     */
+    public void setMipmapping(boolean mipmapping) {
+        this.mipmapping = mipmapping;
+    }
+
+    public boolean isMipmapping() {
+        return mipmapping;
+    }
+
     /**
      * Retorna a largura base do sprite (sem aplicar a escala).
      * 
@@ -161,6 +280,7 @@ public class SpriteObject extends GameObject {
      */
     public void setImage(BufferedImage image) {
         this.image = image;
+        this.mips = null;
         if (image != null) {
             this.width = image.getWidth();
             this.height = image.getHeight();
@@ -181,6 +301,7 @@ public class SpriteObject extends GameObject {
      */
     public void setImage(BufferedImage image, boolean keepSize) {
         this.image = image;
+        this.mips = null;
         if (!keepSize && image != null) {
             this.width = image.getWidth();
             this.height = image.getHeight();
@@ -231,6 +352,7 @@ public class SpriteObject extends GameObject {
         }
         
         this.image = sourceImage.getSubimage(x, y, width, height);
+        this.mips = null;
         if (!keepSize) {
             this.width = width;
             this.height = height;
@@ -279,7 +401,18 @@ public class SpriteObject extends GameObject {
 
     @Override
     public void render(Graphics2D g) {
-        if (g == null || image == null) return;
+        render(g, Double.NaN);
+    }
+
+    /**
+     * Desenha o sprite sabendo a escala atual de {@code g} (ex.:
+     * {@link com.example.simplengine.Render.Viewport#getDrawScale()}), o que evita
+     * copiar a transformação para escolher o mip level.
+     *
+     * @param drawScale Escala de {@code g}; NaN para lê-la da transformação
+     */
+    public void render(Graphics2D g, double drawScale) {
+        if (g == null) return;
 
         Vector2 pos = getPosition();
         int x = (int) pos.getX();
@@ -287,7 +420,46 @@ public class SpriteObject extends GameObject {
         int w = getWidth();
         int h = getHeight();
 
-        g.drawImage(image, x, y, w, h, null);
+        if (animator != null && animator.getClip() != null) {
+            animator.draw(g, x, y, w, h);
+            return;
+        }
+        if (image == null) return;
+
+        BufferedImage drawn = image;
+        if (mipmapping) {
+            drawn = Double.isNaN(drawScale)
+                    ? selectImage(g.getTransform(), w, h)
+                    : selectImage(Math.max(Math.abs(w) * drawScale / image.getWidth(),
+                            Math.abs(h) * drawScale / image.getHeight()));
+        }
+        g.drawImage(drawn, x, y, w, h, null);
+    }
+
+    /**
+     * Escolhe o mip level da imagem para o tamanho efetivo na tela, que combina
+     * o tamanho do sprite com a escala da transformação (zoom da câmera).
+     */
+    BufferedImage selectImage(AffineTransform transform, int w, int h) {
+        if (!mipmapping) return image;
+        double sx = Math.hypot(transform.getScaleX(), transform.getShearY());
+        double sy = Math.hypot(transform.getShearX(), transform.getScaleY());
+        return selectImage(Math.max(Math.abs(w) * sx / image.getWidth(), Math.abs(h) * sy / image.getHeight()));
+    }
+
+    /**
+     * Os níveis são gerados em segundo plano (veja {@link MipChain#readyForScale});
+     * até ficarem prontos, a imagem original é desenhada.
+     */
+    private BufferedImage selectImage(double scale) {
+        if (scale >= 0.5) return image;
+
+        MipChain chain = mips;
+        if (chain == null) {
+            chain = MipChain.of(image);
+            mips = chain;
+        }
+        return chain.readyForScale(image, scale);
     }
 
     @Override
@@ -305,9 +477,32 @@ public class SpriteObject extends GameObject {
     public boolean intersects(GameObject other) {
         Rectangle2D.Float a = this.getBounds();
         Rectangle2D.Float b = other.getBounds();
-        return a.x <= b.x + b.width &&
+        boolean boxes = a.x <= b.x + b.width &&
                a.x + a.width >= b.x &&
                a.y <= b.y + b.height &&
                a.y + a.height >= b.y;
+        if (!boxes) return false;
+
+        SpriteObject sprite = other instanceof SpriteObject ? (SpriteObject) other : null;
+        boolean otherPixelPerfect = sprite != null && sprite.pixelPerfect;
+        if (!pixelPerfect && !otherPixelPerfect) return true;
+
+        CollisionMask mine = pixelPerfect ? getCollisionMask() : null;
+        CollisionMask theirs = otherPixelPerfect ? sprite.getCollisionMask() : null;
+        int ax = (int) Math.floor(a.x);
+        int ay = (int) Math.floor(a.y);
+        int bx = (int) Math.floor(b.x);
+        int by = (int) Math.floor(b.y);
+
+        if (mine != null && theirs != null) {
+            return mine.overlaps(theirs, bx - ax, by - ay);
+        }
+        if (mine != null) {
+            return mine.overlapsRect(bx - ax, by - ay, (int) Math.ceil(b.width), (int) Math.ceil(b.height));
+        }
+        if (theirs != null) {
+            return theirs.overlapsRect(ax - bx, ay - by, (int) Math.ceil(a.width), (int) Math.ceil(a.height));
+        }
+        return true;
     }
 }
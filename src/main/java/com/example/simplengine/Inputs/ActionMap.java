@@ -0,0 +1,214 @@
+package com.example.simplengine.Inputs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapa de ações e eixos nomeados ("pular", "mover_x") ligados a teclas e
+ * botões do mouse.
+ *
+ * Cada ligação é compilada, no momento do bind, para uma máscara de ordinais
+ * de {@link Keys} e uma máscara de botões do {@link MouseManager}. Avaliar
+ * uma ação no tick é um AND entre máscaras, sem percorrer listas de teclas;
+ * religar em tempo de execução só recompila as máscaras daquela ação.
+ *
+ * Os botões do mouse contam para {@link #isDown}; "acabou de apertar/soltar"
+ * vem só das teclas, porque o MouseManager guarda apenas o estado atual.
+ * Use na thread do jogo.
+ */
+public class ActionMap {
+
+    public static final int INVALID_ACTION = -1;
+
+    private static final class Action {
+        final EnumSet<Keys> keys = EnumSet.noneOf(Keys.class);
+        final long[] keyMask = new long[Keys.WORDS];
+        int buttonMask;
+
+        void compile() {
+            Arrays.fill(keyMask, 0L);
+            for (Keys key : keys) {
+                keyMask[key.ordinal() >>> 6] |= 1L << key.ordinal();
+            }
+        }
+    }
+
+    private static final class Axis {
+        final Action negative = new Action();
+        final Action positive = new Action();
+    }
+
+    private final InputManager input;
+    private final MouseManager mouse;
+
+    private final List<Action> actions = new ArrayList<>();
+    private final Map<String, Integer> actionIds = new HashMap<>();
+    private final Map<String, Axis> axes = new HashMap<>();
+
+    public ActionMap() {
+        this(InputManager.getInstance(), MouseManager.getInstance());
+    }
+
+    public ActionMap(InputManager input, MouseManager mouse) {
+        this.input = input;
+        this.mouse = mouse;
+    }
+
+    /**
+     * Liga (ou religa) as teclas de uma ação, substituindo as anteriores.
+     * Os botões do mouse já ligados são mantidos.
+     *
+     * @return Id da ação, para consultas sem busca por nome
+     */
+    public int bind(String action, Keys... keys) {
+        int id = getOrCreate(action);
+        setKeys(actions.get(id), keys);
+        return id;
+    }
+
+    /**
+     * Liga os botões do mouse de uma ação, substituindo os anteriores.
+     *
+     * @param buttonMask Combinação de {@link MouseManager#BUTTON_LEFT},
+     *                   {@link MouseManager#BUTTON_MIDDLE} e {@link MouseManager#BUTTON_RIGHT}
+     */
+    public int bindMouse(String action, int buttonMask) {
+        int id = getOrCreate(action);
+        actions.get(id).buttonMask = buttonMask;
+        return id;
+    }
+
+    /** Acrescenta uma tecla à ação sem mexer nas outras */
+    public int addKey(String action, Keys key) {
+        int id = getOrCreate(action);
+        Action a = actions.get(id);
+        a.keys.add(key);
+        a.compile();
+        return id;
+    }
+
+    /** Tira uma tecla da ação */
+    public void removeKey(String action, Keys key) {
+        int id = getActionId(action);
+        if (id == INVALID_ACTION) return;
+        Action a = actions.get(id);
+        a.keys.remove(key);
+        a.compile();
+    }
+
+    /**
+     * Remove todas as ligações da ação. O id continua válido (e a ação
+     * simplesmente nunca fica ativa) até ela ser ligada de novo.
+     */
+    public void unbind(String action) {
+        int id = getActionId(action);
+        if (id == INVALID_ACTION) return;
+        Action a = actions.get(id);
+        a.keys.clear();
+        a.buttonMask = 0;
+        a.compile();
+    }
+
+    /** @return Id da ação, ou {@link #INVALID_ACTION} se ela não existe */
+    public int getActionId(String action) {
+        Integer id = actionIds.get(action);
+        return id != null ? id : INVALID_ACTION;
+    }
+
+    /** @return Teclas ligadas à ação (cópia) */
+    public EnumSet<Keys> getKeys(String action) {
+        int id = getActionId(action);
+        return id == INVALID_ACTION ? EnumSet.noneOf(Keys.class) : EnumSet.copyOf(actions.get(id).keys);
+    }
+
+    public boolean isDown(String action) {
+        return isDown(getActionId(action));
+    }
+
+    public boolean isPressed(String action) {
+        return isPressed(getActionId(action));
+    }
+
+    public boolean isReleased(String action) {
+        return isReleased(getActionId(action));
+    }
+
+    /** @return Se alguma tecla ou botão da ação está segurado */
+    public boolean isDown(int action) {
+        if (action < 0 || action >= actions.size()) return false;
+        return isDown(actions.get(action));
+    }
+
+    /** @return Se alguma tecla da ação foi apertada neste tick */
+    public boolean isPressed(int action) {
+        if (action < 0 || action >= actions.size()) return false;
+        return input.anyPressed(actions.get(action).keyMask);
+    }
+
+    /** @return Se alguma tecla da ação foi solta neste tick */
+    public boolean isReleased(int action) {
+        if (action < 0 || action >= actions.size()) return false;
+        return input.anyReleased(actions.get(action).keyMask);
+    }
+
+    /**
+     * Liga um eixo a dois grupos de teclas, substituindo os anteriores.
+     *
+     * @param negative Teclas que empurram o eixo para -1
+     * @param positive Teclas que empurram o eixo para +1
+     */
+    public void bindAxis(String axis, Keys[] negative, Keys[] positive) {
+        Axis a = axes.computeIfAbsent(axis, k -> new Axis());
+        setKeys(a.negative, negative);
+        setKeys(a.positive, positive);
+    }
+
+    /** Liga os botões do mouse de cada lado do eixo */
+    public void bindAxisMouse(String axis, int negativeButtons, int positiveButtons) {
+        Axis a = axes.computeIfAbsent(axis, k -> new Axis());
+        a.negative.buttonMask = negativeButtons;
+        a.positive.buttonMask = positiveButtons;
+    }
+
+    public void unbindAxis(String axis) {
+        axes.remove(axis);
+    }
+
+    /**
+     * @return -1, 0 ou 1; os dois lados segurados juntos se anulam. Eixo
+     *         inexistente vale 0.
+     */
+    public float getAxis(String axis) {
+        Axis a = axes.get(axis);
+        if (a == null) return 0f;
+        float value = 0f;
+        if (isDown(a.negative)) value -= 1f;
+        if (isDown(a.positive)) value += 1f;
+        return value;
+    }
+
+    private boolean isDown(Action a) {
+        return (mouse.getButtonMask() & a.buttonMask) != 0 || input.anyDown(a.keyMask);
+    }
+
+    private static void setKeys(Action a, Keys[] keys) {
+        a.keys.clear();
+        for (Keys key : keys) {
+            a.keys.add(key);
+        }
+        a.compile();
+    }
+
+    private int getOrCreate(String action) {
+        Integer id = actionIds.get(action);
+        if (id != null) return id;
+        actions.add(new Action());
+        int created = actions.size() - 1;
+        actionIds.put(action, created);
+        return created;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.simplengine.Inputs;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fila circular de eventos de teclado sem locks, para um produtor (a thread do
+ * AWT, nos listeners) e um consumidor (o game loop, em {@link InputManager#poll()}).
+ *
+ * Cada evento é um código inteiro ({@code ordinal << 1 | pressionado}) e o
+ * instante em que aconteceu. Os contadores só crescem e são publicados com
+ * release/acquire, então o consumidor sempre vê o evento completo.
+ */
+final class InputEventQueue {
+
+    private final int[] codes;
+    private final long[] times;
+    private final int mask;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong read = new AtomicLong();
+    private volatile long dropped;
+
+    /**
+     * @param capacity Capacidade em eventos; arredondada para potência de dois
+     */
+    InputEventQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade deve ser positiva");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.codes = new int[size];
+        this.times = new long[size];
+        this.mask = size - 1;
+    }
+
+    static int encode(Keys key, boolean pressed) {
+        return key.ordinal() << 1 | (pressed ? 1 : 0);
+    }
+
+    /**
+     * Enfileira um evento. Só o produtor chama.
+     * @return false se a fila estava cheia (o evento é descartado e contado)
+     */
+    boolean offer(int code, long time) {
+        final long w = written.get();
+        if (w - read.getAcquire() >= codes.length) {
+            dropped++;
+            return false;
+        }
+        final int index = (int) w & mask;
+        codes[index] = code;
+        times[index] = time;
+        written.setRelease(w + 1);
+        return true;
+    }
+
+    /**
+     * Retira todos os eventos pendentes (até o tamanho dos arrays). Só o consumidor chama.
+     * @return Quantos eventos foram copiados
+     */
+    int drain(int[] codeTarget, long[] timeTarget) {
+        final long r = read.get();
+        final int n = (int) Math.min(Math.min(codeTarget.length, timeTarget.length), written.getAcquire() - r);
+        for (int i = 0; i < n; i++) {
+            final int index = (int) (r + i) & mask;
+            codeTarget[i] = codes[index];
+            timeTarget[i] = times[index];
+        }
+        read.setRelease(r + n);
+        return n;
+    }
+
+    int capacity() {
+        return codes.length;
+    }
+
+    /** @return Eventos descartados por falta de espaço */
+    long getDropped() {
+        return dropped;
+    }
+}
@@ -3,31 +3,53 @@ package com.example.simplengine.Inputs;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.HashSet;
-import java.util.Set;
-
+import java.util.Arrays;
+
+/**
+ * Estado do teclado.
+ *
+ * Os listeners do AWT não mexem no estado: só enfileiram os eventos, com o
+ * instante em que aconteceram, numa fila sem locks. O game loop chama
+ * {@link #poll()} uma vez no começo de cada tick para aplicar os eventos
+ * pendentes; até o próximo poll, todas as leituras veem o mesmo estado.
+ * Loops que seguem o contrato antigo e só chamam {@link #update()} no fim do
+ * frame continuam recebendo os eventos.
+ *
+ * Os estados "segurada", "acabou de apertar" e "acabou de soltar" são máscaras
+ * de bits indexadas pelo ordinal da tecla ({@link Keys#WORDS} palavras de 64
+ * bits): limpar o tick é zerar palavras e consultar uma tecla é testar um bit.
+ */
 public class InputManager {
 
+    /** Eventos que cabem na fila entre dois ticks */
+    static final int QUEUE_CAPACITY = 256;
+
     private static InputManager instance;
 
-    private final Set<Keys> keysDown = new HashSet<>();
+    private final long[] keysDown = new long[Keys.WORDS];
+
+    private final long[] keysPressed = new long[Keys.WORDS];
+
+    private final long[] keysReleased = new long[Keys.WORDS];
 
-    private final Set<Keys> keysPressed = new HashSet<>();
+    private final long[] pressTimes = new long[Keys.COUNT];
 
-    private final Set<Keys> keysReleased = new HashSet<>();
+    private final InputEventQueue queue = new InputEventQueue(QUEUE_CAPACITY);
+    private final int[] drainedCodes = new int[QUEUE_CAPACITY];
+    private final long[] drainedTimes = new long[QUEUE_CAPACITY];
 
     private final KeyListener keyListener;
 
+    // true se update() já limpou e aplicou eventos desde o último poll
+    private boolean clearedByUpdate;
+
     private InputManager() {
         keyListener = new KeyAdapter() {
             @Override
             public void keyPressed(KeyEvent e) {
                 Keys key = Keys.fromKeyCode(e.getKeyCode());
                 if (key != null) {
-                    if (!keysDown.contains(key)) {
-                        keysPressed.add(key);
-                    }
-                    keysDown.add(key);
+                    queue.offer(InputEventQueue.encode(key, true), e.getWhen());
                 }
             }
 
@@ -35,8 +57,7 @@ public class InputManager {
             public void keyReleased(KeyEvent e) {
                 Keys key = Keys.fromKeyCode(e.getKeyCode());
                 if (key != null) {
-                    keysDown.remove(key);
-                    keysReleased.add(key);
+                    queue.offer(InputEventQueue.encode(key, false), e.getWhen());
                 }
             }
         };
@@ -53,24 +74,115 @@ public class InputManager {
         return keyListener;
     }
 
+    /**
+     * Começa um novo tick: limpa os estados de "acabou de apertar/soltar" e
+     * aplica, em ordem, os eventos que chegaram desde o último poll. Uma tecla
+     * apertada e solta entre dois ticks aparece como pressionada e solta no
+     * mesmo tick, em vez de se perder.
+     *
+     * Registre-o no GameLoop com {@code setInputPoller(InputManager.getInstance()::poll)};
+     * quem controla o próprio loop deve chamá-lo no início de cada update.
+     */
+    public void poll() {
+        if (!clearedByUpdate) {
+            clearTransient();
+        }
+        clearedByUpdate = false;
+        drain();
+    }
+
+    /**
+     * Fim do frame, no contrato antigo: limpa os estados de "acabou de
+     * apertar/soltar" e já aplica os eventos pendentes, que ficam visíveis no
+     * próximo frame. Prefira {@link #poll()} no início do tick; se os dois forem
+     * chamados, o poll seguinte não apaga o que este update aplicou.
+     */
     public void update() {
-        keysPressed.clear();
-        keysReleased.clear();
+        clearTransient();
+        drain();
+        clearedByUpdate = true;
+    }
+
+    private void drain() {
+        int count;
+        do {
+            count = queue.drain(drainedCodes, drainedTimes);
+            for (int i = 0; i < count; i++) {
+                final int code = drainedCodes[i];
+                final int ordinal = code >>> 1;
+                final int word = ordinal >>> 6;
+                final long bit = 1L << ordinal;
+                if ((code & 1) != 0) {
+                    if ((keysDown[word] & bit) == 0) {
+                        keysDown[word] |= bit;
+                        keysPressed[word] |= bit;
+                        pressTimes[ordinal] = drainedTimes[i];
+                    }
+                } else {
+                    keysDown[word] &= ~bit;
+                    keysReleased[word] |= bit;
+                }
+            }
+        } while (count == drainedCodes.length);
+    }
+
+    private void clearTransient() {
+        Arrays.fill(keysPressed, 0L);
+        Arrays.fill(keysReleased, 0L);
     }
 
     public boolean isKeyPressed(Keys key) {
-        return keysPressed.contains(key);
+        return test(keysPressed, key.ordinal());
     }
 
     public boolean isKeyReleased(Keys key) {
-        return keysReleased.contains(key);
+        return test(keysReleased, key.ordinal());
     }
 
     public boolean isKeyDown(Keys key) {
-        return keysDown.contains(key);
+        return test(keysDown, key.ordinal());
     }
 
     public boolean isKeyUp(Keys key) {
-        return !keysDown.contains(key);
+        return !test(keysDown, key.ordinal());
+    }
+
+    /** @return Se alguma tecla da máscara está segurada */
+    boolean anyDown(long[] mask) {
+        return intersects(keysDown, mask);
+    }
+
+    /** @return Se alguma tecla da máscara foi apertada neste tick */
+    boolean anyPressed(long[] mask) {
+        return intersects(keysPressed, mask);
+    }
+
+    /** @return Se alguma tecla da máscara foi solta neste tick */
+    boolean anyReleased(long[] mask) {
+        return intersects(keysReleased, mask);
+    }
+
+    private static boolean intersects(long[] state, long[] mask) {
+        for (int i = 0; i < state.length; i++) {
+            if ((state[i] & mask[i]) != 0) return true;
+        }
+        return false;
+    }
+
+    private static boolean test(long[] mask, int ordinal) {
+        return (mask[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * @return Instante (ms, relógio do AWT) em que a tecla foi apertada pela
+     *         última vez, ou 0 se nunca foi
+     */
+    public long getKeyPressedTime(Keys key) {
+        return pressTimes[key.ordinal()];
+    }
+
+    /** @return Eventos descartados porque a fila encheu entre dois polls */
+    public long getDroppedEvents() {
+        return queue.getDropped();
     }
 }
@@ -76,6 +76,29 @@ public enum Keys {
     F11(KeyEvent.VK_F11),
     F12(KeyEvent.VK_F12);
 
+    /** Cópia única de {@code values()}, que clona o array a cada chamada */
+    private static final Keys[] VALUES = values();
+
+    /** Quantidade de teclas; os ordinais vão de 0 a {@code COUNT - 1} */
+    public static final int COUNT = VALUES.length;
+
+    /** Palavras de 64 bits necessárias para guardar uma máscara de teclas */
+    static final int WORDS = (COUNT + 63) >>> 6;
+
+    /** Índice direto código do AWT -> tecla */
+    private static final Keys[] BY_KEY_CODE;
+
+    static {
+        int max = 0;
+        for (Keys k : VALUES) {
+            max = Math.max(max, k.keyCode);
+        }
+        BY_KEY_CODE = new Keys[max + 1];
+        for (Keys k : VALUES) {
+            BY_KEY_CODE[k.keyCode] = k;
+        }
+    }
+
     private final int keyCode;
 
     Keys(int keyCode) {
@@ -87,10 +110,8 @@ public enum Keys {
     }
 
     public static Keys fromKeyCode(int keyCode) {
-        for (Keys k : values()) {
-            if (k.keyCode == keyCode) return k;
-        }
-        return null;
+        if (keyCode < 0 || keyCode >= BY_KEY_CODE.length) return null;
+        return BY_KEY_CODE[keyCode];
     }
 }
 
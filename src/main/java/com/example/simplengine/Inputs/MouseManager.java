@@ -8,8 +8,13 @@ import com.example.simplengine.Vectors.Vector2;
 
 public class MouseManager implements MouseListener, MouseMotionListener {
 
+    /** Bits de {@link #getButtonMask()} */
+    public static final int BUTTON_LEFT = 1;
+    public static final int BUTTON_MIDDLE = 1 << 1;
+    public static final int BUTTON_RIGHT = 1 << 2;
+
     public static MouseManager instance;
-    private boolean leftPressed, rightPressed, middlePressed;
+    private volatile int buttons;
     private Vector2 mousePosition;
 
     private MouseManager() {
@@ -36,37 +41,40 @@ public class MouseManager implements MouseListener, MouseMotionListener {
     }
 
     public boolean isLeftPressed() {
-        return leftPressed;
+        return (buttons & BUTTON_LEFT) != 0;
     }
     
     public boolean isRightPressed() {
-        return rightPressed;
+        return (buttons & BUTTON_RIGHT) != 0;
     }
     
     public boolean isMiddlePressed() {
-        return middlePressed;
+        return (buttons & BUTTON_MIDDLE) != 0;
+    }
+
+    /**
+     * @return Botões segurados agora, como combinação de {@link #BUTTON_LEFT},
+     *         {@link #BUTTON_MIDDLE} e {@link #BUTTON_RIGHT}
+     */
+    public int getButtonMask() {
+        return buttons;
     }
 
     @Override
     public void mousePressed(MouseEvent e) {
-        if (e.getButton() == MouseEvent.BUTTON1) {
-            leftPressed = true;
-        } else if (e.getButton() == MouseEvent.BUTTON2) {
-            middlePressed = true;
-        } else if (e.getButton() == MouseEvent.BUTTON3) {
-            rightPressed = true;
-        }
+        buttons |= toMask(e.getButton());
     }
     
     @Override
     public void mouseReleased(MouseEvent e) {
-        if (e.getButton() == MouseEvent.BUTTON1) {
-            leftPressed = false;
-        } else if (e.getButton() == MouseEvent.BUTTON2) {
-            middlePressed = false;
-        } else if (e.getButton() == MouseEvent.BUTTON3) {
-            rightPressed = false;
-        }
+        buttons &= ~toMask(e.getButton());
+    }
+
+    private static int toMask(int button) {
+        if (button == MouseEvent.BUTTON1) return BUTTON_LEFT;
+        if (button == MouseEvent.BUTTON2) return BUTTON_MIDDLE;
+        if (button == MouseEvent.BUTTON3) return BUTTON_RIGHT;
+        return 0;
     }
     
     @Override
@@ -0,0 +1,158 @@
+package com.example.simplengine.Particles;
+
+/**
+ * Emissor reutilizável que cria partículas em um ParticleSystem.
+ * Guarda apenas primitivos e usa um gerador xorshift próprio, então emitir
+ * partículas não aloca memória. Um mesmo emissor pode ser reposicionado e
+ * reaproveitado para vários efeitos.
+ */
+public class ParticleEmitter {
+
+    private final ParticleSystem system;
+
+    private float x;
+    private float y;
+    private float rate;
+    private float minSpeed;
+    private float maxSpeed;
+    private float direction;
+    private float spread;
+    private float minLife;
+    private float maxLife;
+    private int color;
+    private boolean active;
+
+    private float accumulator;
+    private long seed;
+
+    /**
+     * Cria um emissor ligado a um sistema de partículas.
+     *
+     * @param system Sistema que recebe as partículas
+     * @throws IllegalArgumentException Se o sistema for nulo
+     */
+    public ParticleEmitter(ParticleSystem system) {
+        if (system == null) {
+            throw new IllegalArgumentException("O sistema de partículas não pode ser nulo");
+        }
+        this.system = system;
+        this.minSpeed = 50f;
+        this.maxSpeed = 100f;
+        this.spread = (float) (Math.PI * 2);
+        this.minLife = 0.5f;
+        this.maxLife = 1f;
+        this.color = 0xFFFFFFFF;
+        this.active = true;
+        this.seed = System.nanoTime() | 1L;
+    }
+
+    /**
+     * Emite partículas continuamente de acordo com a taxa configurada.
+     */
+    public void update(double dt) {
+        if (!active || rate <= 0f) return;
+        accumulator += rate * (float) dt;
+        final int toSpawn = (int) accumulator;
+        if (toSpawn > 0) {
+            accumulator -= toSpawn;
+            burst(toSpawn);
+        }
+    }
+
+    /**
+     * Emite uma quantidade fixa de partículas de uma vez.
+     *
+     * @return Quantidade efetivamente criada (menor se o sistema encher)
+     */
+    public int burst(int amount) {
+        for (int i = 0; i < amount; i++) {
+            final float angle = direction + (nextFloat() - 0.5f) * spread;
+            final float speed = minSpeed + (maxSpeed - minSpeed) * nextFloat();
+            final float life = minLife + (maxLife - minLife) * nextFloat();
+            if (!system.spawn(x, y, (float) Math.cos(angle) * speed, (float) Math.sin(angle) * speed, life, color)) {
+                return i;
+            }
+        }
+        return amount;
+    }
+
+    /** Zera o acúmulo de emissão para reaproveitar o emissor em outro efeito. */
+    public void reset() {
+        accumulator = 0f;
+    }
+
+    private float nextFloat() {
+        long s = seed;
+        s ^= s << 13;
+        s ^= s >>> 7;
+        s ^= s << 17;
+        seed = s;
+        return (s >>> 40) / (float) (1 << 24);
+    }
+
+    public ParticleSystem getSystem() {
+        return system;
+    }
+
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public float getX() { return x; }
+    public float getY() { return y; }
+
+    /** Partículas por segundo emitidas em update. */
+    public void setRate(float rate) {
+        this.rate = Math.max(0f, rate);
+    }
+
+    public float getRate() {
+        return rate;
+    }
+
+    public void setSpeed(float minSpeed, float maxSpeed) {
+        this.minSpeed = Math.min(minSpeed, maxSpeed);
+        this.maxSpeed = Math.max(minSpeed, maxSpeed);
+    }
+
+    /**
+     * Define a direção central (radianos) e a abertura do cone de emissão.
+     */
+    public void setDirection(float direction, float spread) {
+        this.direction = direction;
+        this.spread = spread;
+    }
+
+    public void setLife(float minLife, float maxLife) {
+        if (minLife <= 0f || maxLife <= 0f) {
+            throw new IllegalArgumentException("O tempo de vida deve ser maior que 0");
+        }
+        this.minLife = Math.min(minLife, maxLife);
+        this.maxLife = Math.max(minLife, maxLife);
+    }
+
+    public void setColor(int r, int g, int b, int a) {
+        this.color = (a & 0xFF) << 24 | (r & 0xFF) << 16 | (g & 0xFF) << 8 | (b & 0xFF);
+    }
+
+    public void setColor(java.awt.Color color) {
+        this.color = color.getRGB();
+    }
+
+    public int getColor() {
+        return color;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed == 0 ? 1L : seed;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.simplengine.Particles;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Sistema de partículas com armazenamento em arrays primitivos (struct-of-arrays).
+ * Toda a memória é alocada na construção; partículas mortas são removidas
+ * trocando-as pela última partícula viva, sem deslocar o restante.
+ *
+ * As partículas são desenhadas em coordenadas do mundo, então a transformação
+ * da câmera é aplicada normalmente por Canvas.render.
+ */
+public class ParticleSystem {
+
+    private static final int PARALLEL_CHUNK = 8192;
+    private static final int PAGE_SIZE = 512;
+    // Acima disso (~16k x 16k pixels) as partículas são desenhadas uma a uma
+    private static final int MAX_PAGES = 1024;
+    private static final int COLOR_CACHE_SIZE = 256;
+
+    private final int capacity;
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private final int[] color;
+    private int count;
+
+    private float gravity;
+    private float drag;
+    private boolean fadeOut;
+    private boolean parallel;
+    private int particleSize;
+
+    private BufferedImage batchImage;
+    private int[] batchPixels;
+    private int[] pageStart;
+    private int[] pageBounds;
+    private int[] pageOrder;
+    private final Color[] colorCache = new Color[COLOR_CACHE_SIZE];
+
+    /**
+     * Cria um sistema com capacidade fixa.
+     *
+     * @param capacity Número máximo de partículas vivas ao mesmo tempo
+     * @throws IllegalArgumentException Se a capacidade não for positiva
+     */
+    public ParticleSystem(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade deve ser maior que 0");
+        }
+        this.capacity = capacity;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.life = new float[capacity];
+        this.maxLife = new float[capacity];
+        this.color = new int[capacity];
+        this.fadeOut = true;
+        this.particleSize = 2;
+    }
+
+    /**
+     * Cria uma partícula. Não aloca memória.
+     *
+     * @param px Posição X no mundo
+     * @param py Posição Y no mundo
+     * @param pvx Velocidade X (pixels por segundo)
+     * @param pvy Velocidade Y (pixels por segundo)
+     * @param lifeSeconds Tempo de vida em segundos
+     * @param argb Cor no formato 0xAARRGGBB
+     * @return false se o sistema estiver cheio
+     */
+    public boolean spawn(float px, float py, float pvx, float pvy, float lifeSeconds, int argb) {
+        if (count == capacity || lifeSeconds <= 0f) {
+            return false;
+        }
+        final int i = count++;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        life[i] = lifeSeconds;
+        maxLife[i] = lifeSeconds;
+        color[i] = argb;
+        return true;
+    }
+
+    /**
+     * Avança a simulação e remove as partículas que morreram.
+     */
+    public void update(double dt) {
+        final int n = count;
+        if (n == 0) return;
+
+        final float fdt = (float) dt;
+        if (parallel && n > PARALLEL_CHUNK) {
+            final int chunks = (n + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                final int from = c * PARALLEL_CHUNK;
+                integrate(from, Math.min(n, from + PARALLEL_CHUNK), fdt);
+            });
+        } else {
+            integrate(0, n, fdt);
+        }
+
+        compact();
+    }
+
+    private void integrate(int from, int to, float dt) {
+        final float g = gravity * dt;
+        final float damping = drag > 0f ? Math.max(0f, 1f - drag * dt) : 1f;
+        final float[] x = this.x, y = this.y, vx = this.vx, vy = this.vy, life = this.life;
+        for (int i = from; i < to; i++) {
+            float nvx = vx[i] * damping;
+            float nvy = (vy[i] + g) * damping;
+            vx[i] = nvx;
+            vy[i] = nvy;
+            x[i] += nvx * dt;
+            y[i] += nvy * dt;
+            life[i] -= dt;
+        }
+    }
+
+    private void compact() {
+        int n = count;
+        int i = 0;
+        while (i < n) {
+            if (life[i] <= 0f) {
+                final int last = --n;
+                x[i] = x[last];
+                y[i] = y[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                life[i] = life[last];
+                maxLife[i] = maxLife[last];
+                color[i] = color[last];
+            } else {
+                i++;
+            }
+        }
+        count = n;
+    }
+
+    /**
+     * Desenha todas as partículas. A área ocupada é dividida em páginas de
+     * {@value #PAGE_SIZE} pixels; as partículas de cada página ocupada são
+     * rasterizadas em uma imagem reutilizada e enviadas com um drawImage do
+     * trecho usado, então só as regiões com partículas são limpas e enviadas.
+     * Sistemas espalhados por uma área enorme usam fillRect por partícula,
+     * com cores em cache. Nos dois casos partículas sobrepostas se misturam
+     * pelo alfa (SRC_OVER), na ordem em que estão nos arrays.
+     */
+    public void render(Graphics2D g) {
+        if (g == null || count == 0) return;
+
+        final int n = count;
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            final float px = x[i], py = y[i];
+            if (px < minX) minX = px;
+            if (px > maxX) maxX = px;
+            if (py < minY) minY = py;
+            if (py > maxY) maxY = py;
+        }
+
+        final int originX = (int) Math.floor(minX);
+        final int originY = (int) Math.floor(minY);
+        final long pagesX = ((long) Math.floor(maxX) - originX) / PAGE_SIZE + 1;
+        final long pagesY = ((long) Math.floor(maxY) - originY) / PAGE_SIZE + 1;
+
+        if (pagesX * pagesY <= MAX_PAGES) {
+            renderBatched(g, originX, originY, (int) pagesX, (int) pagesY);
+        } else {
+            renderDirect(g);
+        }
+    }
+
+    private void renderBatched(Graphics2D g, int originX, int originY, int pagesX, int pagesY) {
+        final int pages = pagesX * pagesY;
+        final int n = count;
+        final int size = particleSize;
+        if (pageStart == null || pageStart.length < pages + 1) {
+            pageStart = new int[pages + 1];
+            pageBounds = new int[pages * 4];
+        }
+        if (pageOrder == null) {
+            pageOrder = new int[capacity];
+        }
+        final int[] start = pageStart, bounds = pageBounds, order = pageOrder;
+        Arrays.fill(start, 0, pages + 1, 0);
+        for (int p = 0; p < pages; p++) {
+            bounds[p * 4] = Integer.MAX_VALUE;
+            bounds[p * 4 + 1] = Integer.MAX_VALUE;
+            bounds[p * 4 + 2] = Integer.MIN_VALUE;
+            bounds[p * 4 + 3] = Integer.MIN_VALUE;
+        }
+
+        // Conta as partículas e a área usada de cada página
+        for (int i = 0; i < n; i++) {
+            final int px = (int) Math.floor(x[i]) - originX;
+            final int py = (int) Math.floor(y[i]) - originY;
+            final int p = (py / PAGE_SIZE) * pagesX + px / PAGE_SIZE;
+            start[p + 1]++;
+            final int b = p * 4;
+            if (px < bounds[b]) bounds[b] = px;
+            if (py < bounds[b + 1]) bounds[b + 1] = py;
+            if (px + size > bounds[b + 2]) bounds[b + 2] = px + size;
+            if (py + size > bounds[b + 3]) bounds[b + 3] = py + size;
+        }
+        for (int p = 0; p < pages; p++) {
+            start[p + 1] += start[p];
+        }
+        // Ordena por página mantendo a ordem dos arrays dentro de cada uma
+        for (int i = 0; i < n; i++) {
+            final int px = (int) Math.floor(x[i]) - originX;
+            final int py = (int) Math.floor(y[i]) - originY;
+            order[start[(py / PAGE_SIZE) * pagesX + px / PAGE_SIZE]++] = i;
+        }
+
+        BufferedImage image = batchImage;
+        final int side = PAGE_SIZE + size;
+        if (image == null || image.getWidth() < side) {
+            image = new BufferedImage(side, side, BufferedImage.TYPE_INT_ARGB_PRE);
+            batchImage = image;
+            batchPixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        }
+        final int[] pixels = batchPixels;
+        final int stride = image.getWidth();
+
+        int from = 0;
+        for (int p = 0; p < pages; p++) {
+            final int to = start[p];  // depois da ordenação, start[p] é o fim da página p
+            if (to == from) continue;
+            final int left = bounds[p * 4];
+            final int top = bounds[p * 4 + 1];
+            final int width = bounds[p * 4 + 2] - left;
+            final int height = bounds[p * 4 + 3] - top;
+            for (int row = 0; row < height; row++) {
+                final int offset = row * stride;
+                Arrays.fill(pixels, offset, offset + width, 0);
+            }
+            for (int k = from; k < to; k++) {
+                final int i = order[k];
+                final int argb = premultiply(shade(i));
+                final int alpha = argb >>> 24;
+                if (alpha == 0) continue;
+                final int px = (int) Math.floor(x[i]) - originX - left;
+                final int py = (int) Math.floor(y[i]) - originY - top;
+                for (int dy = 0; dy < size; dy++) {
+                    final int offset = (py + dy) * stride + px;
+                    for (int dx = 0; dx < size; dx++) {
+                        final int dst = pixels[offset + dx];
+                        pixels[offset + dx] = alpha == 255 || dst == 0 ? argb : blend(argb, alpha, dst);
+                    }
+                }
+            }
+            final int dx = originX + left;
+            final int dy = originY + top;
+            g.drawImage(image, dx, dy, dx + width, dy + height, 0, 0, width, height, null);
+            from = to;
+        }
+    }
+
+    private void renderDirect(Graphics2D g) {
+        final Color old = g.getColor();
+        final int size = particleSize;
+        int current = 0;
+        boolean hasColor = false;
+        for (int i = 0; i < count; i++) {
+            final int argb = fadeOut ? quantize(shade(i)) : color[i];
+            if (!hasColor || argb != current) {
+                g.setColor(colorFor(argb));
+                current = argb;
+                hasColor = true;
+            }
+            g.fillRect((int) Math.floor(x[i]), (int) Math.floor(y[i]), size, size);
+        }
+        g.setColor(old);
+    }
+
+    /** Reduz o alfa do fade a 16 níveis, para que ele reaproveite poucas cores. */
+    private static int quantize(int argb) {
+        final int alpha = (argb >>> 24) / 17 * 17;
+        return (alpha << 24) | (argb & 0x00FFFFFF);
+    }
+
+    /** Cache de mapeamento direto; só aloca um Color quando a cor não está lá. */
+    private Color colorFor(int argb) {
+        final int slot = (argb ^ (argb >>> 12) ^ (argb >>> 24)) & (COLOR_CACHE_SIZE - 1);
+        Color cached = colorCache[slot];
+        if (cached == null || cached.getRGB() != argb) {
+            cached = new Color(argb, true);
+            colorCache[slot] = cached;
+        }
+        return cached;
+    }
+
+    private static int premultiply(int argb) {
+        final int a = argb >>> 24;
+        if (a == 255) return argb;
+        final int r = ((argb >> 16) & 0xFF) * a / 255;
+        final int gr = ((argb >> 8) & 0xFF) * a / 255;
+        final int b = (argb & 0xFF) * a / 255;
+        return (a << 24) | (r << 16) | (gr << 8) | b;
+    }
+
+    /** SRC_OVER com cores pré-multiplicadas: src + dst * (1 - alfa de src). */
+    private static int blend(int src, int srcAlpha, int dst) {
+        final int keep = 255 - srcAlpha;
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            final int channel = ((src >>> shift) & 0xFF) + (((dst >>> shift) & 0xFF) * keep + 127) / 255;
+            result |= Math.min(255, channel) << shift;
+        }
+        return result;
+    }
+
+    private int shade(int i) {
+        final int argb = color[i];
+        if (!fadeOut) return argb;
+        final float t = Math.max(0f, Math.min(1f, life[i] / maxLife[i]));
+        final int alpha = (int) ((argb >>> 24) * t);
+        return (alpha << 24) | (argb & 0x00FFFFFF);
+    }
+
+    /** Remove todas as partículas. */
+    public void clear() {
+        count = 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public float getX(int index) { return x[index]; }
+    public float getY(int index) { return y[index]; }
+    public float getLife(int index) { return life[index]; }
+
+    public float getGravity() {
+        return gravity;
+    }
+
+    /** Aceleração vertical aplicada a todas as partículas (pixels/s²). */
+    public void setGravity(float gravity) {
+        this.gravity = gravity;
+    }
+
+    public float getDrag() {
+        return drag;
+    }
+
+    /** Fração da velocidade perdida por segundo (0 = sem arrasto). */
+    public void setDrag(float drag) {
+        this.drag = Math.max(0f, drag);
+    }
+
+    public boolean isFadeOut() {
+        return fadeOut;
+    }
+
+    /** Se true, o alfa de cada partícula diminui junto com o tempo de vida. */
+    public void setFadeOut(boolean fadeOut) {
+        this.fadeOut = fadeOut;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Se true, a integração de sistemas grandes é dividida entre os núcleos
+     * usando o ForkJoinPool comum.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getParticleSize() {
+        return particleSize;
+    }
+
+    public void setParticleSize(int particleSize) {
+        if (particleSize <= 0) {
+            throw new IllegalArgumentException("O tamanho da partícula deve ser maior que 0");
+        }
+        this.particleSize = particleSize;
+    }
+}
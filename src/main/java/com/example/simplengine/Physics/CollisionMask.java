@@ -0,0 +1,234 @@
+package com.example.simplengine.Physics;
+
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Máscara de colisão de uma imagem: um bit por pixel, ligado quando o pixel é
+ * opaco o suficiente. Cada linha é guardada em words de 64 bits, então testar a
+ * sobreposição de duas máscaras é um AND por word (com deslocamento quando elas
+ * não estão alinhadas), em vez de ler pixels da imagem.
+ *
+ * Máscaras criadas por {@link #of(BufferedImage)} ficam em cache junto da imagem
+ * (referência fraca), assim como as versões escaladas e recortadas derivadas dela.
+ * Das escaladas só as {@value #MAX_SCALED} usadas mais recentemente são mantidas,
+ * para que uma escala animada não crie uma máscara nova por frame sem limite.
+ */
+public final class CollisionMask {
+
+    /** Alfa mínimo para um pixel contar como sólido. */
+    public static final int DEFAULT_ALPHA_THRESHOLD = 128;
+
+    /** Quantas versões escaladas cada máscara guarda em cache. */
+    public static final int MAX_SCALED = 4;
+
+    private static final Map<BufferedImage, CollisionMask> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private record Key(int x, int y, int width, int height) { }
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+    private final Map<Key, CollisionMask> scaled = Collections.synchronizedMap(
+            new LinkedHashMap<>(8, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, CollisionMask> eldest) {
+                    return size() > MAX_SCALED;
+                }
+            });
+    private final Map<Key, CollisionMask> regions = new ConcurrentHashMap<>();
+
+    private CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Retorna a máscara da imagem (alfa mínimo {@value #DEFAULT_ALPHA_THRESHOLD}),
+     * calculando-a apenas na primeira vez.
+     */
+    public static CollisionMask of(BufferedImage image) {
+        if (image == null) {
+            throw new IllegalArgumentException("A imagem não pode ser nula");
+        }
+        return CACHE.computeIfAbsent(image, img -> fromImage(img, DEFAULT_ALPHA_THRESHOLD));
+    }
+
+    /**
+     * Calcula uma máscara nova, sem cache.
+     *
+     * @param alphaThreshold Alfa mínimo (0-255) para um pixel ser sólido
+     */
+    public static CollisionMask fromImage(BufferedImage image, int alphaThreshold) {
+        if (image == null) {
+            throw new IllegalArgumentException("A imagem não pode ser nula");
+        }
+        final int w = image.getWidth();
+        final int h = image.getHeight();
+        CollisionMask mask = new CollisionMask(w, h);
+        int[] row = new int[w];
+        for (int y = 0; y < h; y++) {
+            image.getRGB(0, y, w, 1, row, 0, w);
+            final int base = y * mask.wordsPerRow;
+            for (int x = 0; x < w; x++) {
+                if ((row[x] >>> 24) >= alphaThreshold) {
+                    mask.bits[base + (x >>> 6)] |= 1L << (x & 63);
+                }
+            }
+        }
+        return mask;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return true se o pixel (x, y) for sólido; fora da máscara retorna false
+     */
+    public boolean get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    /** @return Quantidade de pixels sólidos */
+    public int count() {
+        int total = 0;
+        for (long word : bits) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    /**
+     * Versão da máscara redimensionada (vizinho mais próximo) para o tamanho dado,
+     * em cache (só os {@value #MAX_SCALED} tamanhos mais recentes). Usada para
+     * sprites escalados.
+     */
+    public CollisionMask scaled(int newWidth, int newHeight) {
+        if (newWidth == width && newHeight == height) return this;
+        if (newWidth <= 0 || newHeight <= 0) {
+            throw new IllegalArgumentException("As dimensões devem ser positivas");
+        }
+        return scaled.computeIfAbsent(new Key(0, 0, newWidth, newHeight), k -> {
+            CollisionMask result = new CollisionMask(k.width(), k.height());
+            for (int y = 0; y < k.height(); y++) {
+                final int sy = (int) ((long) y * height / k.height());
+                final int base = y * result.wordsPerRow;
+                for (int x = 0; x < k.width(); x++) {
+                    if (get((int) ((long) x * width / k.width()), sy)) {
+                        result.bits[base + (x >>> 6)] |= 1L << (x & 63);
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Recorte da máscara, em cache. Usado para quadros de uma spritesheet.
+     */
+    public CollisionMask region(int x, int y, int regionWidth, int regionHeight) {
+        if (x == 0 && y == 0 && regionWidth == width && regionHeight == height) return this;
+        if (x < 0 || y < 0 || regionWidth <= 0 || regionHeight <= 0
+                || x + regionWidth > width || y + regionHeight > height) {
+            throw new IllegalArgumentException("A região está fora dos limites da máscara");
+        }
+        return regions.computeIfAbsent(new Key(x, y, regionWidth, regionHeight), k -> {
+            CollisionMask result = new CollisionMask(k.width(), k.height());
+            for (int row = 0; row < k.height(); row++) {
+                final int base = row * result.wordsPerRow;
+                for (int i = 0; i < result.wordsPerRow; i++) {
+                    result.bits[base + i] = window(k.y() + row, k.x() + (i << 6));
+                }
+                // Limpa os bits além da largura do recorte
+                final int tail = k.width() & 63;
+                if (tail != 0) {
+                    result.bits[base + result.wordsPerRow - 1] &= (1L << tail) - 1;
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Testa se alguma parte sólida desta máscara sobrepõe a outra, com a outra
+     * deslocada de (dx, dy) em relação a esta.
+     */
+    public boolean overlaps(CollisionMask other, int dx, int dy) {
+        final int y0 = Math.max(0, dy);
+        final int y1 = Math.min(height, dy + other.height);
+        final int x0 = Math.max(0, dx);
+        final int x1 = Math.min(width, dx + other.width);
+        if (y0 >= y1 || x0 >= x1) return false;
+
+        final int w0 = x0 >>> 6;
+        final int w1 = (x1 - 1) >>> 6;
+        for (int y = y0; y < y1; y++) {
+            final int base = y * wordsPerRow;
+            final int otherRow = y - dy;
+            for (int w = w0; w <= w1; w++) {
+                if ((bits[base + w] & other.window(otherRow, (w << 6) - dx)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Testa se algum pixel sólido está dentro do retângulo dado (em coordenadas da máscara).
+     */
+    public boolean overlapsRect(int rx, int ry, int rw, int rh) {
+        final int y0 = Math.max(0, ry);
+        final int y1 = Math.min(height, ry + rh);
+        final int x0 = Math.max(0, rx);
+        final int x1 = Math.min(width, rx + rw);
+        if (y0 >= y1 || x0 >= x1) return false;
+
+        final int w0 = x0 >>> 6;
+        final int w1 = (x1 - 1) >>> 6;
+        final long first = -1L << (x0 & 63);
+        final long last = (x1 & 63) == 0 ? -1L : (1L << (x1 & 63)) - 1;
+        for (int y = y0; y < y1; y++) {
+            final int base = y * wordsPerRow;
+            for (int w = w0; w <= w1; w++) {
+                long word = bits[base + w];
+                if (w == w0) word &= first;
+                if (w == w1) word &= last;
+                if (word != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 64 bits da linha a partir da coluna {@code start} (que pode ser negativa);
+     * colunas fora da máscara valem zero.
+     */
+    private long window(int row, int start) {
+        if (start >= width || start <= -64) return 0;
+        final int base = row * wordsPerRow;
+        if (start < 0) {
+            return bits[base] << -start;
+        }
+        final int w = start >>> 6;
+        final int shift = start & 63;
+        long value = bits[base + w] >>> shift;
+        if (shift != 0 && w + 1 < wordsPerRow) {
+            value |= bits[base + w + 1] << (64 - shift);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.simplengine.Physics;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.example.simplengine.GameObjects.GameObject;
+
+/**
+ * Detecta contatos entre objetos e gera eventos de início, permanência e fim.
+ *
+ * A cada {@link #step()} as caixas são ordenadas pelo X mínimo (sort-and-sweep,
+ * com insertion sort, que é quase linear porque a ordem muda pouco entre frames)
+ * e só pares que se sobrepõem no eixo X são considerados. Pares cujas camadas não
+ * interagem são descartados antes de qualquer outro teste; os restantes passam
+ * pelo teste de caixas em Y e, por fim, por {@link GameObject#intersects}.
+ *
+ * Os contatos ativos ficam numa tabela de pares com chave long, e os eventos do
+ * passo são entregues de uma vez aos {@link ContactListener}s.
+ *
+ * Não é thread-safe: use na thread do jogo.
+ */
+public final class CollisionWorld {
+
+    /** Máscara que aceita todas as camadas. */
+    public static final int ALL_LAYERS = -1;
+
+    /** Camada padrão dos objetos adicionados sem camada. */
+    public static final int DEFAULT_LAYER = 1;
+
+    private final Map<GameObject, Integer> ids = new IdentityHashMap<>();
+    private final ContactPairMap pairs = new ContactPairMap(256);
+    private final ContactEvents events = new ContactEvents();
+    private final List<ContactListener> listeners = new CopyOnWriteArrayList<>();
+
+    private GameObject[] objects = new GameObject[64];
+    private int[] layers = new int[64];
+    private int[] masks = new int[64];
+    private float[] minX = new float[64];
+    private float[] minY = new float[64];
+    private float[] maxX = new float[64];
+    private float[] maxY = new float[64];
+    private int nextId;
+
+    private int[] order = new int[64];
+    private int orderSize;
+
+    private int[] free = new int[16];
+    private int freeCount;
+    private int[] released = new int[16];
+    private int releasedCount;
+
+    private long[] stale = new long[64];
+    private int stamp;
+    private boolean reportStay = true;
+    private int narrowPhaseTests;
+
+    /**
+     * Adiciona um objeto na camada padrão, colidindo com todas as camadas.
+     */
+    public void add(GameObject object) {
+        add(object, DEFAULT_LAYER, ALL_LAYERS);
+    }
+
+    /**
+     * Adiciona um objeto. Dois objetos só são testados se a camada de cada um
+     * estiver na máscara do outro.
+     *
+     * @param layer Bits das camadas a que o objeto pertence
+     * @param mask Bits das camadas com que o objeto colide
+     */
+    public void add(GameObject object, int layer, int mask) {
+        if (object == null) {
+            throw new IllegalArgumentException("O objeto não pode ser nulo");
+        }
+        if (ids.containsKey(object)) {
+            setLayer(object, layer, mask);
+            return;
+        }
+        int id = freeCount > 0 ? free[--freeCount] : nextId++;
+        ensureCapacity(id + 1);
+        objects[id] = object;
+        layers[id] = layer;
+        masks[id] = mask;
+        ids.put(object, id);
+
+        if (orderSize == order.length) {
+            order = Arrays.copyOf(order, orderSize * 2);
+        }
+        order[orderSize++] = id;
+    }
+
+    /**
+     * Altera camada e máscara de um objeto já adicionado.
+     */
+    public void setLayer(GameObject object, int layer, int mask) {
+        Integer id = ids.get(object);
+        if (id == null) {
+            throw new IllegalArgumentException("Objeto não pertence a este mundo");
+        }
+        layers[id] = layer;
+        masks[id] = mask;
+    }
+
+    /**
+     * Remove um objeto. Os contatos dele geram eventos END no próximo passo.
+     */
+    public boolean remove(GameObject object) {
+        Integer boxed = ids.remove(object);
+        if (boxed == null) return false;
+        int id = boxed;
+        for (int i = 0; i < orderSize; i++) {
+            if (order[i] == id) {
+                System.arraycopy(order, i + 1, order, i, orderSize - i - 1);
+                orderSize--;
+                break;
+            }
+        }
+        // O id só é liberado depois do próximo passo, para os eventos END ainda
+        // apontarem para o objeto certo.
+        if (releasedCount == released.length) {
+            released = Arrays.copyOf(released, releasedCount * 2);
+        }
+        released[releasedCount++] = id;
+        return true;
+    }
+
+    public boolean contains(GameObject object) {
+        return ids.containsKey(object);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public void addListener(ContactListener listener) {
+        if (listener != null) listeners.add(listener);
+    }
+
+    public void removeListener(ContactListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Define se contatos que continuam ativos geram eventos STAY a cada passo.
+     * Desligar reduz o tamanho dos lotes quando só início e fim interessam.
+     */
+    public void setReportStay(boolean reportStay) {
+        this.reportStay = reportStay;
+    }
+
+    public boolean isReportStay() {
+        return reportStay;
+    }
+
+    /**
+     * @return true se os dois objetos estavam em contato no último passo
+     */
+    public boolean isTouching(GameObject a, GameObject b) {
+        Integer idA = ids.get(a);
+        Integer idB = ids.get(b);
+        return idA != null && idB != null && pairs.contains(ContactPairMap.key(idA, idB));
+    }
+
+    /** @return Quantidade de contatos ativos */
+    public int getContactCount() {
+        return pairs.size();
+    }
+
+    /** @return Quantos pares chegaram ao intersects() no último passo */
+    public int getNarrowPhaseTests() {
+        return narrowPhaseTests;
+    }
+
+    /**
+     * Atualiza os contatos e entrega os eventos aos listeners.
+     *
+     * @return Os eventos deste passo (o objeto é reaproveitado no próximo passo)
+     */
+    public ContactEvents step() {
+        final int current = ++stamp;
+        events.clear();
+        narrowPhaseTests = 0;
+
+        for (int i = 0; i < orderSize; i++) {
+            int id = order[i];
+            Rectangle2D.Float bounds = objects[id].getBounds();
+            minX[id] = bounds.x;
+            minY[id] = bounds.y;
+            maxX[id] = bounds.x + bounds.width;
+            maxY[id] = bounds.y + bounds.height;
+        }
+        sortByMinX();
+
+        for (int i = 0; i < orderSize; i++) {
+            final int a = order[i];
+            final float aMaxX = maxX[a];
+            for (int j = i + 1; j < orderSize; j++) {
+                final int b = order[j];
+                if (minX[b] > aMaxX) break;
+                if ((layers[a] & masks[b]) == 0 || (layers[b] & masks[a]) == 0) continue;
+                if (minY[b] > maxY[a] || minY[a] > maxY[b]) continue;
+
+                narrowPhaseTests++;
+                if (!objects[a].intersects(objects[b])) continue;
+
+                long key = ContactPairMap.key(a, b);
+                int previous = pairs.touch(key, current);
+                if (previous < 0) {
+                    events.add(ContactEvents.Type.BEGIN, objects[ContactPairMap.first(key)], objects[ContactPairMap.second(key)]);
+                } else if (reportStay) {
+                    events.add(ContactEvents.Type.STAY, objects[ContactPairMap.first(key)], objects[ContactPairMap.second(key)]);
+                }
+            }
+        }
+
+        int count = pairs.collectStale(current, stale);
+        if (count > stale.length) {
+            stale = new long[Integer.highestOneBit(count) << 1];
+            count = pairs.collectStale(current, stale);
+        }
+        for (int i = 0; i < count; i++) {
+            long key = stale[i];
+            events.add(ContactEvents.Type.END, objects[ContactPairMap.first(key)], objects[ContactPairMap.second(key)]);
+            pairs.remove(key);
+        }
+
+        releaseRemoved();
+
+        if (events.size() > 0) {
+            for (ContactListener listener : listeners) {
+                listener.onContacts(events);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Remove todos os objetos e contatos, sem gerar eventos.
+     */
+    public void clear() {
+        ids.clear();
+        pairs.clear();
+        events.clear();
+        Arrays.fill(objects, null);
+        orderSize = 0;
+        nextId = 0;
+        freeCount = 0;
+        releasedCount = 0;
+    }
+
+    private void sortByMinX() {
+        for (int i = 1; i < orderSize; i++) {
+            int id = order[i];
+            float key = minX[id];
+            int j = i - 1;
+            while (j >= 0 && minX[order[j]] > key) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = id;
+        }
+    }
+
+    private void releaseRemoved() {
+        for (int i = 0; i < releasedCount; i++) {
+            int id = released[i];
+            objects[id] = null;
+            if (freeCount == free.length) {
+                free = Arrays.copyOf(free, freeCount * 2);
+            }
+            free[freeCount++] = id;
+        }
+        releasedCount = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= objects.length) return;
+        int size = Math.max(capacity, objects.length * 2);
+        objects = Arrays.copyOf(objects, size);
+        layers = Arrays.copyOf(layers, size);
+        masks = Arrays.copyOf(masks, size);
+        minX = Arrays.copyOf(minX, size);
+        minY = Arrays.copyOf(minY, size);
+        maxX = Arrays.copyOf(maxX, size);
+        maxY = Arrays.copyOf(maxY, size);
+    }
+}
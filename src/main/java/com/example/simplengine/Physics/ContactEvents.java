@@ -0,0 +1,86 @@
+package com.example.simplengine.Physics;
+
+import java.util.Arrays;
+
+import com.example.simplengine.GameObjects.GameObject;
+
+/**
+ * Lote de eventos de contato gerados por um passo do {@link CollisionWorld}.
+ * O mesmo objeto é reaproveitado a cada passo; copie o que precisar guardar.
+ */
+public final class ContactEvents {
+
+    /**
+     * Tipo do evento de contato.
+     */
+    public enum Type {
+        /** Os objetos começaram a se tocar neste passo. */
+        BEGIN,
+        /** Os objetos já se tocavam e continuam se tocando. */
+        STAY,
+        /** Os objetos deixaram de se tocar (ou um deles foi removido). */
+        END
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private byte[] types = new byte[64];
+    private GameObject[] first = new GameObject[64];
+    private GameObject[] second = new GameObject[64];
+    private int size;
+
+    ContactEvents() { }
+
+    public int size() {
+        return size;
+    }
+
+    public Type getType(int index) {
+        checkIndex(index);
+        return TYPES[types[index]];
+    }
+
+    public GameObject getA(int index) {
+        checkIndex(index);
+        return first[index];
+    }
+
+    public GameObject getB(int index) {
+        checkIndex(index);
+        return second[index];
+    }
+
+    /** @return Quantidade de eventos do tipo dado neste lote */
+    public int count(Type type) {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type.ordinal()) total++;
+        }
+        return total;
+    }
+
+    void add(Type type, GameObject a, GameObject b) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            first = Arrays.copyOf(first, capacity);
+            second = Arrays.copyOf(second, capacity);
+        }
+        types[size] = (byte) type.ordinal();
+        first[size] = a;
+        second[size] = b;
+        size++;
+    }
+
+    void clear() {
+        Arrays.fill(first, 0, size, null);
+        Arrays.fill(second, 0, size, null);
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Evento fora do lote: " + index);
+        }
+    }
+}
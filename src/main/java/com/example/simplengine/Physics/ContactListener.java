@@ -0,0 +1,9 @@
+package com.example.simplengine.Physics;
+
+/**
+ * Recebe os eventos de contato de um passo do {@link CollisionWorld} de uma vez.
+ */
+@FunctionalInterface
+public interface ContactListener {
+    void onContacts(ContactEvents events);
+}
@@ -0,0 +1,144 @@
+package com.example.simplengine.Physics;
+
+import java.util.Arrays;
+
+/**
+ * Tabela hash de endereçamento aberto com chaves long (par de ids) e o número
+ * do último passo em que o contato foi visto. Sem boxing nem objetos por entrada.
+ */
+final class ContactPairMap {
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] stamps;
+    private int size;
+    private int mask;
+
+    ContactPairMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+        allocate(capacity);
+    }
+
+    static long key(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    static int first(long key) {
+        return (int) (key >>> 32);
+    }
+
+    static int second(long key) {
+        return (int) key;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Marca o par como visto no passo dado.
+     *
+     * @return O passo anterior em que o par foi visto, ou -1 se o par é novo
+     */
+    int touch(long key, int stamp) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int previous = stamps[slot];
+                stamps[slot] = stamp;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        stamps[slot] = stamp;
+        if (++size * 4 > keys.length * 3) {
+            rehash(keys.length * 2);
+        }
+        return -1;
+    }
+
+    /**
+     * Copia para {@code out} as chaves não vistas no passo dado.
+     *
+     * @return Quantidade de chaves copiadas; se maior que out.length, nada foi copiado além do limite
+     */
+    int collectStale(int stamp, long[] out) {
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY && stamps[i] != stamp) {
+                if (count < out.length) out[count] = keys[i];
+                count++;
+            }
+        }
+        return count;
+    }
+
+    boolean remove(long key) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                deleteAt(slot);
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    boolean contains(long key) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    // Remoção com deslocamento para trás, mantendo as cadeias de sondagem sem lápides.
+    private void deleteAt(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                stamps[hole] = stamps[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        stamps = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldStamps = stamps;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                touch(oldKeys[i], oldStamps[i]);
+            }
+        }
+    }
+}
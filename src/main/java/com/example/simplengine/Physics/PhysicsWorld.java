@@ -0,0 +1,447 @@
+package com.example.simplengine.Physics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.example.simplengine.Vectors.Vector2;
+
+/**
+ * Simulação de corpos rígidos com caixas alinhadas aos eixos.
+ *
+ * A cada passo: a gravidade é aplicada aos corpos acordados, os contatos são
+ * encontrados por sort-and-sweep, as velocidades são corrigidas por impulsos
+ * sequenciais (com restituição e atrito), as posições são integradas e a
+ * penetração restante é corrigida. Corpos parados dormem e deixam de ser
+ * integrados; enquanto dormem se comportam como estáticos para quem os toca,
+ * então pilhas em repouso não custam integração nem solver.
+ *
+ * Só os corpos acordados são ordenados e varridos a cada passo. Corpos estáticos
+ * e dormindo ficam num array separado, ordenado pelo X mínimo e refeito só
+ * quando algum corpo dorme, entra ou sai do mundo; cada corpo acordado consulta
+ * nele apenas a faixa que pode alcançar. Uma pilha inteira dormindo não gera
+ * nenhum par para testar. A caixa de um corpo estático é lida ao adicioná-lo:
+ * se o jogo mover o corpo, chame {@link #updateBounds}.
+ *
+ * Os objetos simulados não devem ter update(dt) chamado pelo jogo: o mundo
+ * integra posição e velocidade (e ignora setHasGravity, usando a gravidade do mundo).
+ */
+public final class PhysicsWorld {
+
+    private static final double SLOP = 0.5;
+    private static final double CORRECTION = 0.6;
+    private static final double RESTITUTION_THRESHOLD = 30.0;
+    // Blocos de 32 corpos em repouso no resumo de X máximo
+    private static final int BLOCK_SHIFT = 5;
+    private static final Comparator<RigidBody> BY_MIN_X = (a, b) -> Float.compare(a.minX, b.minX);
+
+    private final List<RigidBody> bodies = new ArrayList<>();
+    private final List<Contact> contacts = new ArrayList<>();
+    private int contactCount;
+    private int pairChecks;
+
+    // Corpos acordados, na ordem do X mínimo do último passo
+    private final List<RigidBody> active = new ArrayList<>();
+    // Corpos estáticos e dormindo, ordenados pelo X mínimo
+    private RigidBody[] resting = new RigidBody[16];
+    private int restingCount;
+    // Maior X máximo de cada bloco de resting; blocos inteiros fora de alcance são pulados
+    private float[] blockMaxX = new float[1];
+    private boolean restingDirty = true;
+
+    private double gravityX = 0;
+    private double gravityY = 981d;
+    private int iterations = 8;
+    private double sleepTolerance = 5.0;
+    private double timeToSleep = 0.5;
+
+    /** Contato entre dois corpos, reaproveitado entre passos. */
+    static final class Contact {
+        RigidBody a;
+        RigidBody b;
+        double normalX;
+        double normalY;
+        double penetration;
+        double massNormal;
+        double bias;
+        double friction;
+        double normalImpulse;
+        double tangentImpulse;
+    }
+
+    public void add(RigidBody body) {
+        if (body == null) {
+            throw new IllegalArgumentException("O corpo não pode ser nulo");
+        }
+        if (!bodies.contains(body)) {
+            body.refreshBounds();
+            bodies.add(body);
+            restingDirty = true;
+        }
+    }
+
+    /**
+     * Remove um corpo e acorda quem estava em contato com ele (ex.: a caixa de
+     * cima de uma pilha volta a cair).
+     */
+    public boolean remove(RigidBody body) {
+        if (!bodies.remove(body)) return false;
+        if (body.listed) {
+            active.remove(body);
+            body.listed = false;
+        }
+        restingDirty = true;
+        body.refreshBounds();
+        for (RigidBody other : bodies) {
+            if (!other.isAwake() && other.minX <= body.maxX && other.maxX >= body.minX
+                    && other.minY <= body.maxY && other.maxY >= body.minY) {
+                other.wake();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Relê a caixa de um corpo estático ou dormindo que o jogo moveu diretamente
+     * (ex.: uma plataforma). O mundo só recalcula sozinho a caixa dos corpos acordados.
+     */
+    public void updateBounds(RigidBody body) {
+        if (bodies.contains(body)) {
+            body.refreshBounds();
+            restingDirty = true;
+        }
+    }
+
+    public List<RigidBody> getBodies() {
+        return Collections.unmodifiableList(bodies);
+    }
+
+    public void setGravity(double gravityX, double gravityY) {
+        this.gravityX = gravityX;
+        this.gravityY = gravityY;
+    }
+
+    public double getGravityX() {
+        return gravityX;
+    }
+
+    public double getGravityY() {
+        return gravityY;
+    }
+
+    /**
+     * Iterações do solver de velocidade. Mais iterações deixam pilhas mais estáveis.
+     */
+    public void setIterations(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("São necessárias pelo menos 1 iteração");
+        }
+        this.iterations = iterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @param tolerance Velocidade (px/s) abaixo da qual o corpo é considerado parado
+     * @param timeToSleep Tempo parado (s) antes de dormir
+     */
+    public void setSleepParameters(double tolerance, double timeToSleep) {
+        this.sleepTolerance = tolerance;
+        this.timeToSleep = timeToSleep;
+    }
+
+    /** @return Quantidade de corpos dinâmicos acordados */
+    public int getAwakeCount() {
+        int count = 0;
+        for (RigidBody body : bodies) {
+            if (body.isActive()) count++;
+        }
+        return count;
+    }
+
+    /** @return Contatos encontrados no último passo */
+    public int getContactCount() {
+        return contactCount;
+    }
+
+    /**
+     * Pares com as caixas cruzadas em X testados no último passo, usado pelos testes.
+     */
+    int getPairChecks() {
+        return pairChecks;
+    }
+
+    /**
+     * Avança a simulação.
+     *
+     * @param dt Passo em segundos (use um passo fixo para resultados estáveis)
+     */
+    public void step(double dt) {
+        if (dt <= 0) return;
+
+        for (RigidBody body : bodies) {
+            if (!body.isActive()) continue;
+            Vector2 v = body.getObject().getSpeed();
+            v.setX(v.getX() + gravityX * dt);
+            v.setY(v.getY() + gravityY * dt);
+        }
+
+        findContacts();
+
+        for (int i = 0; i < contactCount; i++) {
+            prepare(contacts.get(i));
+        }
+        for (int it = 0; it < iterations; it++) {
+            for (int i = 0; i < contactCount; i++) {
+                solveVelocity(contacts.get(i));
+            }
+        }
+
+        for (RigidBody body : bodies) {
+            if (!body.isActive()) continue;
+            Vector2 pos = body.getObject().getPosition();
+            Vector2 v = body.getObject().getSpeed();
+            pos.setX(pos.getX() + v.getX() * dt);
+            pos.setY(pos.getY() + v.getY() * dt);
+        }
+
+        for (int i = 0; i < contactCount; i++) {
+            correctPosition(contacts.get(i));
+        }
+
+        final double toleranceSquared = sleepTolerance * sleepTolerance;
+        for (RigidBody body : bodies) {
+            if (body.isActive()) {
+                body.updateSleep(dt, toleranceSquared, timeToSleep);
+            }
+        }
+    }
+
+    private void findContacts() {
+        contactCount = 0;
+        pairChecks = 0;
+        updateActive();
+        if (restingDirty) {
+            rebuildResting();
+        }
+
+        final int n = active.size();
+        for (int i = 0; i < n; i++) {
+            active.get(i).refreshBounds();
+        }
+
+        // Insertion sort pelo X mínimo: quase linear, a ordem muda pouco entre passos.
+        for (int i = 1; i < n; i++) {
+            RigidBody body = active.get(i);
+            int j = i - 1;
+            while (j >= 0 && active.get(j).minX > body.minX) {
+                active.set(j + 1, active.get(j));
+                j--;
+            }
+            active.set(j + 1, body);
+        }
+
+        final double wakeSpeedSquared = sleepTolerance * sleepTolerance;
+        for (int i = 0; i < n; i++) {
+            RigidBody a = active.get(i);
+            for (int j = i + 1; j < n; j++) {
+                RigidBody b = active.get(j);
+                if (b.minX > a.maxX) break;
+                pairChecks++;
+                if (overlaps(a, b)) {
+                    addContact(a, b);
+                }
+            }
+
+            // Corpos em repouso que começam antes do fim de a, pulando os blocos
+            // que terminam antes do início de a
+            int j = upperBound(a.maxX) - 1;
+            while (j >= 0) {
+                int block = j >> BLOCK_SHIFT;
+                if (blockMaxX[block] < a.minX) {
+                    j = (block << BLOCK_SHIFT) - 1;
+                    continue;
+                }
+                RigidBody b = resting[j--];
+                // Acordou desde que o array foi montado: já está na varredura acima
+                if (b.listed || b.maxX < a.minX) continue;
+                pairChecks++;
+                if (!overlaps(a, b)) continue;
+
+                // Um corpo em movimento acorda o corpo dormindo em que encosta.
+                if (!b.isAwake() && !b.isStatic() && a.getLastSpeedSquared() > wakeSpeedSquared) {
+                    b.wake();
+                }
+                addContact(a, b);
+            }
+        }
+    }
+
+    /**
+     * Atualiza a lista de corpos acordados sem perder a ordem do passo anterior:
+     * tira quem dormiu e acrescenta quem acordou.
+     */
+    private void updateActive() {
+        int kept = 0;
+        for (int i = 0; i < active.size(); i++) {
+            RigidBody body = active.get(i);
+            if (body.isActive()) {
+                active.set(kept++, body);
+            } else {
+                body.listed = false;
+                restingDirty = true;
+            }
+        }
+        for (int i = active.size() - 1; i >= kept; i--) {
+            active.remove(i);
+        }
+        for (int i = 0; i < bodies.size(); i++) {
+            RigidBody body = bodies.get(i);
+            if (body.isActive() && !body.listed) {
+                body.listed = true;
+                active.add(body);
+            }
+        }
+    }
+
+    private void rebuildResting() {
+        restingDirty = false;
+        if (resting.length < bodies.size()) {
+            resting = new RigidBody[Math.max(bodies.size(), resting.length * 2)];
+        }
+        int count = 0;
+        for (int i = 0; i < bodies.size(); i++) {
+            RigidBody body = bodies.get(i);
+            if (!body.isActive()) {
+                resting[count++] = body;
+            }
+        }
+        // Solta corpos que saíram do mundo
+        Arrays.fill(resting, count, Math.max(count, restingCount), null);
+        Arrays.sort(resting, 0, count, BY_MIN_X);
+        restingCount = count;
+
+        int blocks = (count >> BLOCK_SHIFT) + 1;
+        if (blockMaxX.length < blocks) {
+            blockMaxX = new float[Math.max(blocks, blockMaxX.length * 2)];
+        }
+        Arrays.fill(blockMaxX, 0, blocks, Float.NEGATIVE_INFINITY);
+        for (int i = 0; i < count; i++) {
+            int block = i >> BLOCK_SHIFT;
+            blockMaxX[block] = Math.max(blockMaxX[block], resting[i].maxX);
+        }
+    }
+
+    /** @return Índice do primeiro corpo em repouso com X mínimo maior que x */
+    private int upperBound(float x) {
+        int low = 0;
+        int high = restingCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (resting[mid].minX > x) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean overlaps(RigidBody a, RigidBody b) {
+        if ((a.getLayer() & b.getMask()) == 0 || (b.getLayer() & a.getMask()) == 0) return false;
+        return !(b.minX > a.maxX || a.minX > b.maxX || b.minY > a.maxY || a.minY > b.maxY);
+    }
+
+    private void addContact(RigidBody a, RigidBody b) {
+        double overlapX = Math.min(a.maxX, b.maxX) - Math.max(a.minX, b.minX);
+        double overlapY = Math.min(a.maxY, b.maxY) - Math.max(a.minY, b.minY);
+
+        if (contactCount == contacts.size()) {
+            contacts.add(new Contact());
+        }
+        Contact c = contacts.get(contactCount++);
+        c.a = a;
+        c.b = b;
+        if (overlapX < overlapY) {
+            c.normalX = (b.minX + b.maxX) > (a.minX + a.maxX) ? 1 : -1;
+            c.normalY = 0;
+            c.penetration = overlapX;
+        } else {
+            c.normalX = 0;
+            c.normalY = (b.minY + b.maxY) > (a.minY + a.maxY) ? 1 : -1;
+            c.penetration = overlapY;
+        }
+    }
+
+    private void prepare(Contact c) {
+        double inverseMassSum = c.a.effectiveInverseMass() + c.b.effectiveInverseMass();
+        c.massNormal = inverseMassSum == 0 ? 0 : 1.0 / inverseMassSum;
+        c.friction = Math.sqrt(c.a.getFriction() * c.b.getFriction());
+        c.normalImpulse = 0;
+        c.tangentImpulse = 0;
+
+        Vector2 va = c.a.getObject().getSpeed();
+        Vector2 vb = c.b.getObject().getSpeed();
+        double vn = (vb.getX() - va.getX()) * c.normalX + (vb.getY() - va.getY()) * c.normalY;
+        double restitution = Math.max(c.a.getRestitution(), c.b.getRestitution());
+        // Abaixo do limiar o contato não quica, para corpos em repouso não tremerem.
+        c.bias = vn < -RESTITUTION_THRESHOLD ? -restitution * vn : 0;
+    }
+
+    private void solveVelocity(Contact c) {
+        if (c.massNormal == 0) return;
+        final double ia = c.a.effectiveInverseMass();
+        final double ib = c.b.effectiveInverseMass();
+        final Vector2 va = c.a.getObject().getSpeed();
+        final Vector2 vb = c.b.getObject().getSpeed();
+
+        double rvx = vb.getX() - va.getX();
+        double rvy = vb.getY() - va.getY();
+        double vn = rvx * c.normalX + rvy * c.normalY;
+        double lambda = (c.bias - vn) * c.massNormal;
+        double accumulated = Math.max(c.normalImpulse + lambda, 0);
+        lambda = accumulated - c.normalImpulse;
+        c.normalImpulse = accumulated;
+        applyImpulse(va, vb, ia, ib, lambda * c.normalX, lambda * c.normalY);
+
+        final double tx = -c.normalY;
+        final double ty = c.normalX;
+        rvx = vb.getX() - va.getX();
+        rvy = vb.getY() - va.getY();
+        double vt = rvx * tx + rvy * ty;
+        double maxFriction = c.friction * c.normalImpulse;
+        double tangent = Math.max(-maxFriction, Math.min(maxFriction, c.tangentImpulse - vt * c.massNormal));
+        lambda = tangent - c.tangentImpulse;
+        c.tangentImpulse = tangent;
+        applyImpulse(va, vb, ia, ib, lambda * tx, lambda * ty);
+    }
+
+    private static void applyImpulse(Vector2 va, Vector2 vb, double ia, double ib, double jx, double jy) {
+        if (ia != 0) {
+            va.setX(va.getX() - jx * ia);
+            va.setY(va.getY() - jy * ia);
+        }
+        if (ib != 0) {
+            vb.setX(vb.getX() + jx * ib);
+            vb.setY(vb.getY() + jy * ib);
+        }
+    }
+
+    private void correctPosition(Contact c) {
+        final double ia = c.a.effectiveInverseMass();
+        final double ib = c.b.effectiveInverseMass();
+        if (ia + ib == 0) return;
+        double amount = Math.max(c.penetration - SLOP, 0) * CORRECTION / (ia + ib);
+        if (amount == 0) return;
+        Vector2 pa = c.a.getObject().getPosition();
+        Vector2 pb = c.b.getObject().getPosition();
+        pa.setX(pa.getX() - amount * ia * c.normalX);
+        pa.setY(pa.getY() - amount * ia * c.normalY);
+        pb.setX(pb.getX() + amount * ib * c.normalX);
+        pb.setY(pb.getY() + amount * ib * c.normalY);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.simplengine.Physics;
+
+import com.example.simplengine.GameObjects.GameObject;
+
+/**
+ * Lote de raios com buffers pré-alocados para entrada e saída, usado por
+ * {@link SceneQuery#raycast(RayBatch)}. Crie uma vez com a capacidade máxima e
+ * reaproveite a cada tick; nenhuma memória é alocada por raio.
+ */
+public final class RayBatch {
+
+    final double[] originX;
+    final double[] originY;
+    final double[] directionX;
+    final double[] directionY;
+    final double[] maxDistance;
+
+    final GameObject[] hitObject;
+    final double[] hitDistance;
+    final double[] hitNormalX;
+    final double[] hitNormalY;
+
+    private int count;
+
+    public RayBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade deve ser positiva");
+        }
+        originX = new double[capacity];
+        originY = new double[capacity];
+        directionX = new double[capacity];
+        directionY = new double[capacity];
+        maxDistance = new double[capacity];
+        hitObject = new GameObject[capacity];
+        hitDistance = new double[capacity];
+        hitNormalX = new double[capacity];
+        hitNormalY = new double[capacity];
+    }
+
+    public int getCapacity() {
+        return originX.length;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Define quantos raios do lote serão consultados.
+     */
+    public void setCount(int count) {
+        if (count < 0 || count > originX.length) {
+            throw new IllegalArgumentException("Quantidade fora da capacidade: " + count);
+        }
+        this.count = count;
+    }
+
+    /**
+     * Define o raio i. A direção não precisa estar normalizada.
+     */
+    public void setRay(int i, double originX, double originY, double directionX, double directionY, double maxDistance) {
+        this.originX[i] = originX;
+        this.originY[i] = originY;
+        this.directionX[i] = directionX;
+        this.directionY[i] = directionY;
+        this.maxDistance[i] = maxDistance;
+    }
+
+    /** @return Objeto atingido pelo raio i, ou null */
+    public GameObject getHit(int i) {
+        return hitObject[i];
+    }
+
+    public boolean isHit(int i) {
+        return hitObject[i] != null;
+    }
+
+    public double getDistance(int i) {
+        return hitDistance[i];
+    }
+
+    public double getNormalX(int i) {
+        return hitNormalX[i];
+    }
+
+    public double getNormalY(int i) {
+        return hitNormalY[i];
+    }
+}
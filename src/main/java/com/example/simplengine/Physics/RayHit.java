@@ -0,0 +1,58 @@
+package com.example.simplengine.Physics;
+
+import com.example.simplengine.GameObjects.GameObject;
+
+/**
+ * Resultado de um raycast ou box-cast do {@link SceneQuery}. Pode ser
+ * reaproveitado entre consultas.
+ */
+public final class RayHit {
+
+    private GameObject object;
+    private double distance;
+    private double x;
+    private double y;
+    private double normalX;
+    private double normalY;
+
+    /** @return Objeto atingido, ou null se nada foi atingido */
+    public GameObject getObject() {
+        return object;
+    }
+
+    /** @return Distância percorrida pelo raio (ou pelo centro da caixa) até o contato */
+    public double getDistance() {
+        return distance;
+    }
+
+    /** @return X do ponto de contato (para box-cast, do centro da caixa no contato) */
+    public double getX() {
+        return x;
+    }
+
+    /** @return Y do ponto de contato (para box-cast, do centro da caixa no contato) */
+    public double getY() {
+        return y;
+    }
+
+    public double getNormalX() {
+        return normalX;
+    }
+
+    public double getNormalY() {
+        return normalY;
+    }
+
+    void set(GameObject object, double distance, double x, double y, double normalX, double normalY) {
+        this.object = object;
+        this.distance = distance;
+        this.x = x;
+        this.y = y;
+        this.normalX = normalX;
+        this.normalY = normalY;
+    }
+
+    void clear() {
+        set(null, 0, 0, 0, 0, 0);
+    }
+}
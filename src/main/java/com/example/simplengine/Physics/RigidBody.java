@@ -0,0 +1,219 @@
+package com.example.simplengine.Physics;
+
+import java.awt.geom.Rectangle2D;
+
+import com.example.simplengine.GameObjects.GameObject;
+import com.example.simplengine.Vectors.Vector2;
+
+/**
+ * Corpo rígido simulado por um {@link PhysicsWorld}, associado a um GameObject.
+ * Usa a posição e a velocidade (getSpeed) do objeto e a caixa de getBounds().
+ *
+ * Corpos com massa 0 são estáticos (chão, paredes). Corpos dinâmicos dormem
+ * quando ficam parados por um tempo e acordam ao serem tocados por um corpo em
+ * movimento, ao receber um impulso ou ao terem a velocidade alterada.
+ */
+public final class RigidBody {
+
+    private final GameObject object;
+    private double mass;
+    private double inverseMass;
+    private double restitution = 0.0;
+    private double friction = 0.5;
+    private int layer = CollisionWorld.DEFAULT_LAYER;
+    private int mask = CollisionWorld.ALL_LAYERS;
+
+    private boolean awake = true;
+    private boolean sleepingAllowed = true;
+    private double sleepTime;
+    private double lastSpeedSquared = Double.POSITIVE_INFINITY;
+
+    // Caixa usada pelo broadphase; não é recalculada enquanto o corpo dorme.
+    float minX, minY, maxX, maxY;
+    // Se está na lista de corpos ativos do PhysicsWorld
+    boolean listed;
+
+    /**
+     * @param object Objeto simulado
+     * @param mass Massa; 0 cria um corpo estático
+     */
+    public RigidBody(GameObject object, double mass) {
+        if (object == null) {
+            throw new IllegalArgumentException("O objeto não pode ser nulo");
+        }
+        this.object = object;
+        if (object.getSpeed() == null) {
+            object.setSpeed(new Vector2(0, 0));
+        }
+        setMass(mass);
+    }
+
+    public GameObject getObject() {
+        return object;
+    }
+
+    public double getMass() {
+        return mass;
+    }
+
+    public void setMass(double mass) {
+        if (mass < 0 || Double.isNaN(mass)) {
+            throw new IllegalArgumentException("A massa não pode ser negativa");
+        }
+        this.mass = mass;
+        this.inverseMass = mass == 0 ? 0 : 1.0 / mass;
+    }
+
+    public double getInverseMass() {
+        return inverseMass;
+    }
+
+    public boolean isStatic() {
+        return inverseMass == 0;
+    }
+
+    public double getRestitution() {
+        return restitution;
+    }
+
+    /**
+     * Elasticidade do corpo (0 = não quica, 1 = quica sem perder energia).
+     * Em um contato vale a maior dos dois corpos.
+     */
+    public void setRestitution(double restitution) {
+        if (restitution < 0 || restitution > 1) {
+            throw new IllegalArgumentException("A restituição deve estar entre 0 e 1");
+        }
+        this.restitution = restitution;
+    }
+
+    public double getFriction() {
+        return friction;
+    }
+
+    /**
+     * Coeficiente de atrito. Em um contato vale a média geométrica dos dois corpos.
+     */
+    public void setFriction(double friction) {
+        if (friction < 0) {
+            throw new IllegalArgumentException("O atrito não pode ser negativo");
+        }
+        this.friction = friction;
+    }
+
+    /**
+     * Define camada e máscara, com a mesma regra do {@link CollisionWorld}.
+     */
+    public void setLayer(int layer, int mask) {
+        this.layer = layer;
+        this.mask = mask;
+    }
+
+    public int getLayer() {
+        return layer;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public boolean isAwake() {
+        return awake;
+    }
+
+    /**
+     * Acorda o corpo (e reinicia a contagem para dormir).
+     */
+    public void wake() {
+        if (isStatic()) return;
+        awake = true;
+        sleepTime = 0;
+        lastSpeedSquared = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Põe o corpo para dormir imediatamente, zerando a velocidade.
+     */
+    public void sleep() {
+        if (isStatic()) return;
+        awake = false;
+        sleepTime = 0;
+        lastSpeedSquared = 0;
+        Vector2 speed = object.getSpeed();
+        speed.setX(0);
+        speed.setY(0);
+    }
+
+    public boolean isSleepingAllowed() {
+        return sleepingAllowed;
+    }
+
+    /**
+     * Corpos controlados pelo jogador costumam não poder dormir.
+     */
+    public void setSleepingAllowed(boolean sleepingAllowed) {
+        this.sleepingAllowed = sleepingAllowed;
+        if (!sleepingAllowed) wake();
+    }
+
+    /**
+     * Aplica um impulso (variação de momento) e acorda o corpo.
+     */
+    public void applyImpulse(double impulseX, double impulseY) {
+        if (isStatic()) return;
+        Vector2 speed = object.getSpeed();
+        speed.setX(speed.getX() + impulseX * inverseMass);
+        speed.setY(speed.getY() + impulseY * inverseMass);
+        wake();
+    }
+
+    /**
+     * Define a velocidade e acorda o corpo.
+     */
+    public void setVelocity(double velocityX, double velocityY) {
+        Vector2 speed = object.getSpeed();
+        speed.setX(velocityX);
+        speed.setY(velocityY);
+        wake();
+    }
+
+    /**
+     * Verdadeiro para corpos dinâmicos acordados, os únicos integrados a cada passo.
+     */
+    boolean isActive() {
+        return awake && inverseMass != 0;
+    }
+
+    /** Massa inversa usada pelo solver: corpos dormindo se comportam como estáticos. */
+    double effectiveInverseMass() {
+        return awake ? inverseMass : 0;
+    }
+
+    double getLastSpeedSquared() {
+        return lastSpeedSquared;
+    }
+
+    void refreshBounds() {
+        Rectangle2D.Float bounds = object.getBounds();
+        minX = bounds.x;
+        minY = bounds.y;
+        maxX = bounds.x + bounds.width;
+        maxY = bounds.y + bounds.height;
+    }
+
+    /**
+     * Atualiza a contagem para dormir depois de um passo.
+     */
+    void updateSleep(double dt, double toleranceSquared, double timeToSleep) {
+        Vector2 speed = object.getSpeed();
+        lastSpeedSquared = speed.getX() * speed.getX() + speed.getY() * speed.getY();
+        if (!sleepingAllowed || lastSpeedSquared > toleranceSquared) {
+            sleepTime = 0;
+            return;
+        }
+        sleepTime += dt;
+        if (sleepTime >= timeToSleep) {
+            sleep();
+        }
+    }
+}
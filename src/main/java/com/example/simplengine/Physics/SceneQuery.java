@@ -0,0 +1,381 @@
+package com.example.simplengine.Physics;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import com.example.simplengine.GameObjects.GameObject;
+
+/**
+ * Consultas espaciais sobre as caixas (getBounds) de um conjunto de objetos:
+ * raycast, box-cast e linha de visão.
+ *
+ * Os objetos são distribuídos numa grade uniforme em {@link #build(Collection)}.
+ * Um raio percorre só as células que atravessa (DDA), em ordem, e para assim que
+ * o impacto mais próximo encontrado estiver antes da saída da célula atual.
+ *
+ * Depois do build as consultas só leem a grade, então podem rodar em paralelo;
+ * {@link #raycast(RayBatch)} distribui um lote de raios entre os núcleos.
+ * Chame build de novo (na thread do jogo) quando os objetos se moverem.
+ */
+public final class SceneQuery {
+
+    private static final int MAX_CELLS = 1 << 22;
+    private static final int PARALLEL_THRESHOLD = 1024;
+    private static final int PARALLEL_CHUNK = 256;
+
+    private final double cellSize;
+    private double cell;
+    private boolean parallel = true;
+
+    private GameObject[] objects = new GameObject[0];
+    private double[] minX = new double[0];
+    private double[] minY = new double[0];
+    private double[] maxX = new double[0];
+    private double[] maxY = new double[0];
+    private int count;
+
+    private double gridX;
+    private double gridY;
+    private int columns;
+    private int rows;
+    private int[] cellStart = new int[1];
+    private int[] cellItems = new int[0];
+    // Próxima posição livre de cada célula durante o build
+    private int[] cursor = new int[0];
+
+    /**
+     * @param cellSize Tamanho da célula da grade; algo perto do tamanho típico dos objetos
+     */
+    public SceneQuery(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("O tamanho da célula deve ser positivo");
+        }
+        this.cellSize = cellSize;
+        this.cell = cellSize;
+    }
+
+    /**
+     * Reconstrói a grade com os objetos dados.
+     */
+    public void build(Collection<? extends GameObject> scene) {
+        count = 0;
+        ensureCapacity(scene.size());
+        double worldMinX = Double.POSITIVE_INFINITY, worldMinY = Double.POSITIVE_INFINITY;
+        double worldMaxX = Double.NEGATIVE_INFINITY, worldMaxY = Double.NEGATIVE_INFINITY;
+        for (GameObject object : scene) {
+            if (object == null) continue;
+            Rectangle2D.Float b = object.getBounds();
+            objects[count] = object;
+            minX[count] = b.x;
+            minY[count] = b.y;
+            maxX[count] = b.x + b.width;
+            maxY[count] = b.y + b.height;
+            worldMinX = Math.min(worldMinX, minX[count]);
+            worldMinY = Math.min(worldMinY, minY[count]);
+            worldMaxX = Math.max(worldMaxX, maxX[count]);
+            worldMaxY = Math.max(worldMaxY, maxY[count]);
+            count++;
+        }
+        for (int i = count; i < objects.length && objects[i] != null; i++) {
+            objects[i] = null;
+        }
+
+        if (count == 0) {
+            columns = rows = 0;
+            cellStart = new int[1];
+            return;
+        }
+
+        // Cenas muito espalhadas usam células maiores para a grade caber na memória.
+        double width = Math.max(worldMaxX - worldMinX, 1e-9);
+        double height = Math.max(worldMaxY - worldMinY, 1e-9);
+        cell = Math.max(cellSize, Math.sqrt(width * height / MAX_CELLS));
+        while (Math.ceil(width / cell) * Math.ceil(height / cell) > MAX_CELLS) {
+            cell *= 2;
+        }
+        gridX = worldMinX;
+        gridY = worldMinY;
+        columns = Math.max(1, (int) Math.ceil(width / cell));
+        rows = Math.max(1, (int) Math.ceil(height / cell));
+
+        int cells = columns * rows;
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+        } else {
+            Arrays.fill(cellStart, 0, cells + 1, 0);
+        }
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            int x0 = column(minX[i]), x1 = column(maxX[i]);
+            int y0 = row(minY[i]), y1 = row(maxY[i]);
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    cellStart[y * columns + x + 1]++;
+                    total++;
+                }
+            }
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        if (cellItems.length < total) {
+            cellItems = new int[total];
+        }
+        if (cursor.length < cells) {
+            cursor = new int[cells];
+        } else {
+            Arrays.fill(cursor, 0, cells, 0);
+        }
+        for (int i = 0; i < count; i++) {
+            int x0 = column(minX[i]), x1 = column(maxX[i]);
+            int y0 = row(minY[i]), y1 = row(maxY[i]);
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    int c = y * columns + x;
+                    cellItems[cellStart[c] + cursor[c]++] = i;
+                }
+            }
+        }
+    }
+
+    public int getObjectCount() {
+        return count;
+    }
+
+    /** @return Tamanho de célula efetivo do último build */
+    public double getCellSize() {
+        return cell;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Define se lotes grandes de raios são divididos entre os núcleos.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Lança um raio a partir de (originX, originY). Objetos que já contêm a
+     * origem são ignorados.
+     *
+     * @param directionX Direção do raio (não precisa estar normalizada)
+     * @param out Recebe o impacto mais próximo, se houver
+     * @return true se algum objeto foi atingido até maxDistance
+     */
+    public boolean raycast(double originX, double originY, double directionX, double directionY,
+                           double maxDistance, RayHit out) {
+        return raycast(originX, originY, directionX, directionY, maxDistance, null, out);
+    }
+
+    /**
+     * Como {@link #raycast(double, double, double, double, double, RayHit)},
+     * ignorando um objeto (ex.: quem atirou).
+     */
+    public boolean raycast(double originX, double originY, double directionX, double directionY,
+                           double maxDistance, GameObject ignore, RayHit out) {
+        return cast(originX, originY, directionX, directionY, maxDistance, 0, 0, ignore, out) >= 0;
+    }
+
+    /**
+     * Desloca uma caixa e retorna o primeiro objeto em que ela encosta.
+     *
+     * @param x Canto superior esquerdo da caixa
+     * @param out Recebe a distância percorrida e a posição do centro da caixa no contato
+     */
+    public boolean boxCast(double x, double y, double width, double height,
+                           double directionX, double directionY, double maxDistance, RayHit out) {
+        return boxCast(x, y, width, height, directionX, directionY, maxDistance, null, out);
+    }
+
+    public boolean boxCast(double x, double y, double width, double height, double directionX, double directionY,
+                           double maxDistance, GameObject ignore, RayHit out) {
+        double halfW = width / 2, halfH = height / 2;
+        return cast(x + halfW, y + halfH, directionX, directionY, maxDistance, halfW, halfH, ignore, out) >= 0;
+    }
+
+    /**
+     * @return true se nenhum objeto bloqueia o segmento entre os dois pontos
+     */
+    public boolean hasLineOfSight(double fromX, double fromY, double toX, double toY) {
+        double dx = toX - fromX, dy = toY - fromY;
+        double distance = Math.hypot(dx, dy);
+        if (distance == 0) return true;
+        return cast(fromX, fromY, dx, dy, distance, 0, 0, null, null) < 0;
+    }
+
+    /**
+     * Processa todos os raios do lote, escrevendo os resultados nos buffers dele.
+     * Lotes grandes rodam em paralelo quando {@link #isParallel()}.
+     */
+    public void raycast(RayBatch batch) {
+        final int n = batch.getCount();
+        if (parallel && n >= PARALLEL_THRESHOLD) {
+            final int chunks = (n + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                final int from = c * PARALLEL_CHUNK;
+                castRange(batch, from, Math.min(n, from + PARALLEL_CHUNK));
+            });
+        } else {
+            castRange(batch, 0, n);
+        }
+    }
+
+    private void castRange(RayBatch batch, int from, int to) {
+        RayHit hit = new RayHit();
+        for (int i = from; i < to; i++) {
+            if (cast(batch.originX[i], batch.originY[i], batch.directionX[i], batch.directionY[i],
+                    batch.maxDistance[i], 0, 0, null, hit) >= 0) {
+                batch.hitObject[i] = hit.getObject();
+                batch.hitDistance[i] = hit.getDistance();
+                batch.hitNormalX[i] = hit.getNormalX();
+                batch.hitNormalY[i] = hit.getNormalY();
+            } else {
+                batch.hitObject[i] = null;
+                batch.hitDistance[i] = batch.maxDistance[i];
+                batch.hitNormalX[i] = 0;
+                batch.hitNormalY[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * Percorre a grade com DDA. Para box-cast, cada célula do caminho do centro
+     * também visita as vizinhas dentro da meia largura/altura da caixa.
+     *
+     * @return Índice do objeto atingido, ou -1
+     */
+    private int cast(double ox, double oy, double dx, double dy, double maxDistance,
+                     double halfW, double halfH, GameObject ignore, RayHit out) {
+        if (out != null) out.clear();
+        final double length = Math.hypot(dx, dy);
+        if (count == 0 || length == 0 || !(maxDistance > 0)) return -1;
+        final double ux = dx / length;
+        final double uy = dy / length;
+
+        // Recorta o segmento à grade (expandida pela caixa).
+        double tStart = 0, tEnd = maxDistance;
+        final double gx0 = gridX - halfW, gy0 = gridY - halfH;
+        final double gx1 = gridX + columns * cell + halfW, gy1 = gridY + rows * cell + halfH;
+        if (ux == 0) {
+            if (ox < gx0 || ox > gx1) return -1;
+        } else {
+            double t0 = (gx0 - ox) / ux, t1 = (gx1 - ox) / ux;
+            tStart = Math.max(tStart, Math.min(t0, t1));
+            tEnd = Math.min(tEnd, Math.max(t0, t1));
+        }
+        if (uy == 0) {
+            if (oy < gy0 || oy > gy1) return -1;
+        } else {
+            double t0 = (gy0 - oy) / uy, t1 = (gy1 - oy) / uy;
+            tStart = Math.max(tStart, Math.min(t0, t1));
+            tEnd = Math.min(tEnd, Math.max(t0, t1));
+        }
+        if (tStart > tEnd) return -1;
+
+        final int rx = halfW == 0 ? 0 : (int) Math.ceil(halfW / cell);
+        final int ry = halfH == 0 ? 0 : (int) Math.ceil(halfH / cell);
+        final double px = ox + ux * tStart, py = oy + uy * tStart;
+        // Para box-cast o centro pode estar até rx/ry células fora da grade.
+        int cx = (int) Math.max(-rx, Math.min(columns - 1 + rx, Math.floor((px - gridX) / cell)));
+        int cy = (int) Math.max(-ry, Math.min(rows - 1 + ry, Math.floor((py - gridY) / cell)));
+        final int stepX = ux > 0 ? 1 : (ux < 0 ? -1 : 0);
+        final int stepY = uy > 0 ? 1 : (uy < 0 ? -1 : 0);
+        final double tDeltaX = ux == 0 ? Double.POSITIVE_INFINITY : cell / Math.abs(ux);
+        final double tDeltaY = uy == 0 ? Double.POSITIVE_INFINITY : cell / Math.abs(uy);
+        double tMaxX = ux == 0 ? Double.POSITIVE_INFINITY
+                : tStart + ((gridX + (cx + (ux > 0 ? 1 : 0)) * cell) - px) / ux;
+        double tMaxY = uy == 0 ? Double.POSITIVE_INFINITY
+                : tStart + ((gridY + (cy + (uy > 0 ? 1 : 0)) * cell) - py) / uy;
+
+        int best = -1;
+        double bestT = Double.POSITIVE_INFINITY, bestNx = 0, bestNy = 0;
+
+        while (true) {
+            for (int y = Math.max(0, cy - ry), yEnd = Math.min(rows - 1, cy + ry); y <= yEnd; y++) {
+                for (int x = Math.max(0, cx - rx), xEnd = Math.min(columns - 1, cx + rx); x <= xEnd; x++) {
+                    final int c = y * columns + x;
+                    for (int k = cellStart[c], kEnd = cellStart[c + 1]; k < kEnd; k++) {
+                        final int i = cellItems[k];
+                        if (objects[i] == ignore) continue;
+                        final double bx0 = minX[i] - halfW, bx1 = maxX[i] + halfW;
+                        final double by0 = minY[i] - halfH, by1 = maxY[i] + halfH;
+
+                        double enterX, exitX, enterY, exitY;
+                        if (ux == 0) {
+                            if (ox < bx0 || ox > bx1) continue;
+                            enterX = Double.NEGATIVE_INFINITY;
+                            exitX = Double.POSITIVE_INFINITY;
+                        } else {
+                            double a = (bx0 - ox) / ux, b = (bx1 - ox) / ux;
+                            enterX = Math.min(a, b);
+                            exitX = Math.max(a, b);
+                        }
+                        if (uy == 0) {
+                            if (oy < by0 || oy > by1) continue;
+                            enterY = Double.NEGATIVE_INFINITY;
+                            exitY = Double.POSITIVE_INFINITY;
+                        } else {
+                            double a = (by0 - oy) / uy, b = (by1 - oy) / uy;
+                            enterY = Math.min(a, b);
+                            exitY = Math.max(a, b);
+                        }
+                        final double enter = Math.max(enterX, enterY);
+                        final double exit = Math.min(exitX, exitY);
+                        if (enter > exit || enter < 0 || enter > maxDistance || enter >= bestT) continue;
+
+                        best = i;
+                        bestT = enter;
+                        if (enterX > enterY) {
+                            bestNx = -stepX;
+                            bestNy = 0;
+                        } else {
+                            bestNx = 0;
+                            bestNy = -stepY;
+                        }
+                    }
+                }
+            }
+
+            final double cellExit = Math.min(tMaxX, tMaxY);
+            if (bestT <= cellExit || cellExit > tEnd) break;
+            if (tMaxX < tMaxY) {
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cy += stepY;
+                tMaxY += tDeltaY;
+            }
+            if (cx < -rx || cy < -ry || cx >= columns + rx || cy >= rows + ry) break;
+        }
+
+        if (best >= 0 && out != null) {
+            out.set(objects[best], bestT, ox + ux * bestT, oy + uy * bestT, bestNx, bestNy);
+        }
+        return best;
+    }
+
+    private int column(double x) {
+        int c = (int) Math.floor((x - gridX) / cell);
+        return c < 0 ? 0 : (c >= columns ? columns - 1 : c);
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor((y - gridY) / cell);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (objects.length >= capacity) return;
+        objects = new GameObject[capacity];
+        minX = new double[capacity];
+        minY = new double[capacity];
+        maxX = new double[capacity];
+        maxY = new double[capacity];
+    }
+}
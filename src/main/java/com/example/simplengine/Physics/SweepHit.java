@@ -0,0 +1,51 @@
+package com.example.simplengine.Physics;
+
+import com.example.simplengine.GameObjects.GameObject;
+
+/**
+ * Resultado de um teste de colisão contínua: quando (fração do deslocamento)
+ * e de que lado a caixa em movimento tocou o obstáculo. Pode ser reaproveitado
+ * entre consultas para não alocar a cada frame.
+ */
+public final class SweepHit {
+
+    private double time = 1.0;
+    private double normalX;
+    private double normalY;
+    private GameObject other;
+
+    /**
+     * @return Fração do deslocamento (0 a 1) percorrida até o contato
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * @return Componente X da normal da face atingida (-1, 0 ou 1)
+     */
+    public double getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * @return Componente Y da normal da face atingida (-1, 0 ou 1)
+     */
+    public double getNormalY() {
+        return normalY;
+    }
+
+    /**
+     * @return Objeto atingido, quando a consulta foi feita contra objetos
+     */
+    public GameObject getOther() {
+        return other;
+    }
+
+    public void set(double time, double normalX, double normalY, GameObject other) {
+        this.time = time;
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.other = other;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.simplengine.Render;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Controla como o BufferStrategy de uma superfície é criado e apresentado.
+ * Permite escolher double/triple buffering, page flipping, vsync e a política
+ * de Toolkit.sync(), além de medir quanto tempo o show() bloqueia.
+ */
+public final class BufferPresenter {
+
+	/**
+	 * Política de chamada a Toolkit.getDefaultToolkit().sync() após cada show().
+	 */
+	public enum SyncPolicy {
+		/** Sempre sincroniza (comportamento original). */
+		ALWAYS,
+		/** Sincroniza apenas quando o page flipping não está ativo. */
+		AUTO,
+		/** Nunca sincroniza. */
+		NEVER
+	}
+
+	private static final int STATS_SMOOTHING = 16;
+
+	private volatile int bufferCount = 2;
+	private volatile boolean pageFlipping = true;
+	private volatile boolean vSync = false;
+	private volatile SyncPolicy syncPolicy = SyncPolicy.ALWAYS;
+
+	private volatile boolean dirty = true;
+	private java.awt.Canvas lastSurface;
+	private volatile boolean flipActive;
+	private volatile boolean vSyncActive;
+
+	private volatile long lastPresentNanos;
+	private volatile long averagePresentNanos;
+	private volatile long maxPresentNanos;
+	private volatile long presentedFrames;
+
+	public int getBufferCount() { return bufferCount; }
+
+	/**
+	 * Define o número de buffers (2 = double buffering, 3 = triple buffering).
+	 * O BufferStrategy é recriado no próximo frame.
+	 *
+	 * @param count 2 ou 3
+	 * @throws IllegalArgumentException Se count não for 2 ou 3
+	 */
+	public void setBufferCount(int count) {
+		if (count < 2 || count > 3) {
+			throw new IllegalArgumentException("bufferCount deve ser 2 ou 3");
+		}
+		this.bufferCount = count;
+		this.dirty = true;
+	}
+
+	public boolean isPageFlipping() { return pageFlipping; }
+
+	/**
+	 * Solicita page flipping via BufferCapabilities. Se a plataforma não suportar,
+	 * o AWT volta para blit automaticamente.
+	 */
+	public void setPageFlipping(boolean pageFlipping) {
+		this.pageFlipping = pageFlipping;
+		this.dirty = true;
+	}
+
+	public boolean isVSync() { return vSync; }
+
+	/**
+	 * Solicita vsync na apresentação. O Java2D só expõe vsync através de
+	 * sun.java2d.pipe.hw.ExtendedBufferCapabilities; quando a JVM não permite o acesso
+	 * (é necessário --add-exports java.desktop/sun.java2d.pipe.hw=ALL-UNNAMED),
+	 * o pedido é ignorado e isVSyncActive() retorna false.
+	 */
+	public void setVSync(boolean vSync) {
+		this.vSync = vSync;
+		this.dirty = true;
+	}
+
+	public SyncPolicy getSyncPolicy() { return syncPolicy; }
+
+	public void setSyncPolicy(SyncPolicy syncPolicy) {
+		if (syncPolicy == null) {
+			throw new IllegalArgumentException("syncPolicy não pode ser nula");
+		}
+		this.syncPolicy = syncPolicy;
+	}
+
+	/** @return true se o BufferStrategy atual usa page flipping */
+	public boolean isPageFlippingActive() { return flipActive; }
+
+	/** @return true se o BufferStrategy atual foi criado com vsync */
+	public boolean isVSyncActive() { return vSyncActive; }
+
+	/**
+	 * Retorna o BufferStrategy da superfície, criando-o (ou recriando-o após uma
+	 * mudança de configuração) quando necessário.
+	 */
+	public BufferStrategy acquire(java.awt.Canvas surface) {
+		BufferStrategy bs = surface.getBufferStrategy();
+		if (bs == null || dirty || surface != lastSurface) {
+			createStrategy(surface);
+			bs = surface.getBufferStrategy();
+		}
+		return bs;
+	}
+
+	/**
+	 * Apresenta o back buffer, aplica a SyncPolicy e registra o tempo bloqueado.
+	 */
+	public void present(BufferStrategy bs) {
+		final long start = System.nanoTime();
+		bs.show();
+		if (shouldSync()) {
+			Toolkit.getDefaultToolkit().sync();
+		}
+		record(System.nanoTime() - start);
+	}
+
+	/** @return Tempo, em nanossegundos, da última apresentação (show + sync) */
+	public long getLastPresentNanos() { return lastPresentNanos; }
+
+	/** @return Média móvel exponencial do tempo de apresentação, em nanossegundos */
+	public long getAveragePresentNanos() { return averagePresentNanos; }
+
+	/** @return Maior tempo de apresentação desde o último resetPresentStats() */
+	public long getMaxPresentNanos() { return maxPresentNanos; }
+
+	public long getPresentedFrames() { return presentedFrames; }
+
+	public void resetPresentStats() {
+		lastPresentNanos = 0;
+		averagePresentNanos = 0;
+		maxPresentNanos = 0;
+		presentedFrames = 0;
+	}
+
+	boolean shouldSync() {
+		switch (syncPolicy) {
+			case ALWAYS: return true;
+			case AUTO: return !flipActive;
+			default: return false;
+		}
+	}
+
+	void record(long nanos) {
+		lastPresentNanos = nanos;
+		if (nanos > maxPresentNanos) {
+			maxPresentNanos = nanos;
+		}
+		long frames = presentedFrames;
+		averagePresentNanos = frames == 0
+				? nanos
+				: averagePresentNanos + (nanos - averagePresentNanos) / STATS_SMOOTHING;
+		presentedFrames = frames + 1;
+	}
+
+	private void createStrategy(java.awt.Canvas surface) {
+		dirty = false;
+		lastSurface = surface;
+		flipActive = false;
+		vSyncActive = false;
+
+		final int count = bufferCount;
+		if (pageFlipping) {
+			BufferCapabilities flip = new BufferCapabilities(
+					new ImageCapabilities(true),
+					new ImageCapabilities(true),
+					BufferCapabilities.FlipContents.UNDEFINED);
+
+			if (vSync) {
+				BufferCapabilities synced = vSyncCapabilities(flip);
+				if (synced != null && tryCreate(surface, count, synced)) {
+					vSyncActive = true;
+					return;
+				}
+			}
+			if (tryCreate(surface, count, flip)) {
+				return;
+			}
+		}
+
+		surface.createBufferStrategy(count);
+		BufferStrategy bs = surface.getBufferStrategy();
+		flipActive = bs != null && bs.getCapabilities().isPageFlipping();
+	}
+
+	private boolean tryCreate(java.awt.Canvas surface, int count, BufferCapabilities caps) {
+		try {
+			surface.createBufferStrategy(count, caps);
+			flipActive = surface.getBufferStrategy().getCapabilities().isPageFlipping();
+			return true;
+		} catch (AWTException e) {
+			return false;
+		}
+	}
+
+	private static BufferCapabilities vSyncCapabilities(BufferCapabilities base) {
+		try {
+			Class<?> ext = Class.forName("sun.java2d.pipe.hw.ExtendedBufferCapabilities");
+			Class<?> vSyncType = Class.forName("sun.java2d.pipe.hw.ExtendedBufferCapabilities$VSyncType");
+			Object vSyncOn = vSyncType.getField("VSYNC_ON").get(null);
+			return (BufferCapabilities) ext.getConstructor(BufferCapabilities.class, vSyncType)
+					.newInstance(base, vSyncOn);
+		} catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+			return null;
+		}
+	}
+}
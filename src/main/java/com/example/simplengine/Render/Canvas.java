@@ -5,110 +5,78 @@ import javax.swing.*;
 import com.example.simplengine.Camera.Camera;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
-import java.awt.image.BufferStrategy;
 import java.util.function.Consumer;
 
+/**
+ * Atalhos estáticos para a Surface padrão. Para várias janelas, split-screen
+ * ou minimapas, use {@link Surface} diretamente.
+ */
 public final class Canvas {
 
-	private static volatile java.awt.Canvas SURFACE;
+	private static volatile Surface SURFACE;
 
 	private static final Camera CAMERA = Camera.getInstance();
 
+	private static final BufferPresenter PRESENTER = new BufferPresenter();
+
 	public static JFrame newCanvas(int width, int height) {
 		return newCanvas(width, height, "SimplEngine");
 	}
 
 	public static JFrame newCanvas(int width, int height, String titulo) {
-		if (width <= 0 || height <= 0) {
-			throw new IllegalArgumentException("width e height devem ser maiores que 0");
-		}
-
-		final JFrame[] frameHolder = new JFrame[1];
-		Runnable createTask = () -> {
-			JFrame frame = new JFrame(titulo);
-			frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
-
-			java.awt.Canvas surface = new java.awt.Canvas();
-			surface.setPreferredSize(new Dimension(width, height));
-			surface.setBackground(Color.BLACK);
-			surface.setIgnoreRepaint(true);
-
-			frame.setLayout(new BorderLayout());
-			frame.add(surface, BorderLayout.CENTER);
-			frame.pack();
-			frame.setLocationRelativeTo(null);
-			frame.setVisible(true);
-
-			SURFACE = surface;
-			frameHolder[0] = frame;
-		};
-
-		if (SwingUtilities.isEventDispatchThread()) {
-			createTask.run();
-		} else {
-			try {
-				SwingUtilities.invokeAndWait(createTask);
-			} catch (Exception e) {
-				throw new RuntimeException("Falha ao criar a janela na EDT", e);
-			}
-		}
-
-		return frameHolder[0];
+		Surface surface = Surface.create(width, height, titulo, CAMERA, PRESENTER);
+		SURFACE = surface;
+		return surface.getFrame();
 	}
 
 	public static java.awt.Canvas getSurface() {
+		Surface surface = SURFACE;
+		return surface == null ? null : surface.getCanvas();
+	}
+
+	/**
+	 * Retorna a Surface criada pelo último newCanvas, ou null se ainda não existir.
+	 */
+	public static Surface getDefaultSurface() {
 		return SURFACE;
 	}
 
 	public static void render(Consumer<Graphics2D> painter) {
-		java.awt.Canvas surface = SURFACE;
+		render(painter, null);
+	}
+
+	/**
+	 * Desenha o mundo com a câmera e depois o HUD em coordenadas de tela.
+	 *
+	 * @param painter Desenho em coordenadas do mundo
+	 * @param hud Desenho em coordenadas de tela (placar, FPS), ou null
+	 */
+	public static void render(Consumer<Graphics2D> painter, Consumer<Graphics2D> hud) {
+		Surface surface = SURFACE;
 		if (surface == null) {
 			throw new IllegalStateException("Canvas surface ainda não foi criado. Chame Canvas.newCanvas primeiro.");
 		}
-
-		BufferStrategy bs = surface.getBufferStrategy();
-		if (bs == null) {
-			surface.createBufferStrategy(2);
-			bs = surface.getBufferStrategy();
-		}
-
-		do {
-			Graphics2D g = (Graphics2D) bs.getDrawGraphics();
-			try {
-
-				Color old = g.getColor();
-				g.setColor(surface.getBackground());
-				g.fillRect(0, 0, surface.getWidth(), surface.getHeight());
-				g.setColor(old);
-
-				AffineTransform originalTransform = g.getTransform();
-				applyCameraTransform(g, surface.getWidth(), surface.getHeight());
-
-				painter.accept(g);
-
-				g.setTransform(originalTransform);
-			} finally {
-				g.dispose();
-			}
-			bs.show();
-			Toolkit.getDefaultToolkit().sync();
-		} while (bs.contentsLost());
+		surface.render(painter, hud);
 	}
 
-	private static void applyCameraTransform(Graphics2D g, int screenWidth, int screenHeight) {
-		Camera camera = CAMERA;
-
-		g.translate(screenWidth / 2.0, screenHeight / 2.0);
+	public static Camera getCamera() {
+		return CAMERA;
+	}
 
-		float zoom = camera.getZoom();
-		g.scale(zoom, zoom);
-		
-		g.translate(-camera.getPosition().getX(), -camera.getPosition().getY());
+	public static BufferPresenter getPresenter() {
+		return PRESENTER;
 	}
 
-	public static Camera getCamera() {
-		return CAMERA;
+	/**
+	 * Retorna a escala de resolução da Surface padrão.
+	 *
+	 * @throws IllegalStateException Se newCanvas ainda não foi chamado
+	 */
+	public static RenderScale getRenderScale() {
+		Surface surface = SURFACE;
+		if (surface == null) {
+			throw new IllegalStateException("Canvas surface ainda não foi criado. Chame Canvas.newCanvas primeiro.");
+		}
+		return surface.getRenderScale();
 	}
 }
-
@@ -0,0 +1,204 @@
+package com.example.simplengine.Render;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Atlas de glifos rasterizados para uma fonte e cor. Cada caractere é desenhado
+ * uma única vez em uma imagem compartilhada; depois disso o texto é montado
+ * apenas com cópias de regiões dessa imagem.
+ */
+public final class GlyphAtlas {
+
+	private static final int INITIAL_SIZE = 256;
+	private static final int PADDING = 1;
+	private static final Map<Key, GlyphAtlas> CACHE = new ConcurrentHashMap<>();
+
+	private record Key(Font font, int rgb) { }
+
+	/**
+	 * Região de um glifo dentro do atlas.
+	 */
+	static final class Glyph {
+		final int sx;
+		final int sy;
+		final int width;
+		final int height;
+		final int advance;
+
+		Glyph(int sx, int sy, int width, int height, int advance) {
+			this.sx = sx;
+			this.sy = sy;
+			this.width = width;
+			this.height = height;
+			this.advance = advance;
+		}
+	}
+
+	private final Font font;
+	private final Color color;
+	private final FontMetrics metrics;
+	private final int lineHeight;
+	private final int ascent;
+
+	private final Glyph[] latin = new Glyph[256];
+	private final Map<Integer, Glyph> others = new HashMap<>();
+
+	private BufferedImage atlas;
+	private int cursorX;
+	private int cursorY;
+	private int rowHeight;
+
+	private GlyphAtlas(Font font, Color color) {
+		this.font = font;
+		this.color = color;
+		this.atlas = new BufferedImage(INITIAL_SIZE, INITIAL_SIZE, BufferedImage.TYPE_INT_ARGB);
+
+		Graphics2D g = atlas.createGraphics();
+		try {
+			g.setFont(font);
+			this.metrics = g.getFontMetrics();
+		} finally {
+			g.dispose();
+		}
+		this.ascent = metrics.getAscent();
+		this.lineHeight = metrics.getHeight();
+	}
+
+	/**
+	 * Retorna o atlas compartilhado para a fonte e cor, criando-o se necessário.
+	 */
+	public static GlyphAtlas get(Font font, Color color) {
+		if (font == null || color == null) {
+			throw new IllegalArgumentException("Fonte e cor não podem ser nulas");
+		}
+		return CACHE.computeIfAbsent(new Key(font, color.getRGB()), k -> new GlyphAtlas(font, color));
+	}
+
+	public Font getFont() {
+		return font;
+	}
+
+	public Color getColor() {
+		return color;
+	}
+
+	public int getLineHeight() {
+		return lineHeight;
+	}
+
+	public int getAscent() {
+		return ascent;
+	}
+
+	BufferedImage getImage() {
+		return atlas;
+	}
+
+	/**
+	 * Retorna o glifo do caractere, rasterizando-o na primeira vez.
+	 */
+	synchronized Glyph glyph(char c) {
+		if (c < latin.length) {
+			Glyph glyph = latin[c];
+			if (glyph == null) {
+				glyph = rasterize(c);
+				latin[c] = glyph;
+			}
+			return glyph;
+		}
+		return others.computeIfAbsent((int) c, k -> rasterize(c));
+	}
+
+	private Glyph rasterize(char c) {
+		final int advance = metrics.charWidth(c);
+		final int width = Math.max(1, advance) + PADDING * 2;
+		final int height = lineHeight + PADDING * 2;
+
+		if (cursorX + width > atlas.getWidth()) {
+			cursorX = 0;
+			cursorY += rowHeight;
+			rowHeight = 0;
+		}
+		while (cursorX + width > atlas.getWidth() || cursorY + height > atlas.getHeight()) {
+			grow();
+		}
+
+		final int sx = cursorX;
+		final int sy = cursorY;
+
+		Graphics2D g = atlas.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+			g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+			g.setFont(font);
+			g.setColor(color);
+			g.setClip(sx, sy, width, height);
+			g.drawString(String.valueOf(c), sx + PADDING, sy + PADDING + ascent);
+		} finally {
+			g.dispose();
+		}
+
+		cursorX += width;
+		rowHeight = Math.max(rowHeight, height);
+		return new Glyph(sx, sy, width, height, advance);
+	}
+
+	/**
+	 * Dobra o atlas copiando os glifos existentes para as mesmas coordenadas,
+	 * então os glifos já entregues continuam válidos.
+	 */
+	private void grow() {
+		BufferedImage bigger = new BufferedImage(atlas.getWidth() * 2, atlas.getHeight() * 2, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = bigger.createGraphics();
+		try {
+			g.drawImage(atlas, 0, 0, null);
+		} finally {
+			g.dispose();
+		}
+		atlas = bigger;
+	}
+
+	/**
+	 * Mede a largura de um texto em pixels usando os avanços do atlas.
+	 */
+	public int stringWidth(CharSequence text) {
+		int width = 0;
+		for (int i = 0; i < text.length(); i++) {
+			width += glyph(text.charAt(i)).advance;
+		}
+		return width;
+	}
+
+	/**
+	 * Desenha um texto sem cache de layout. Para textos que se repetem a cada
+	 * frame (placar, FPS), prefira {@link TextLabel}.
+	 *
+	 * @param x Posição X do início do texto
+	 * @param y Posição Y do topo da linha
+	 */
+	public void drawString(Graphics2D g, CharSequence text, int x, int y) {
+		int penX = x;
+		for (int i = 0; i < text.length(); i++) {
+			Glyph glyph = glyph(text.charAt(i));
+			draw(g, atlas, glyph, penX, y);
+			penX += glyph.advance;
+		}
+	}
+
+	static void draw(Graphics2D g, BufferedImage image, Glyph glyph, int x, int y) {
+		final int dx = x - PADDING;
+		final int dy = y - PADDING;
+		g.drawImage(image,
+				dx, dy, dx + glyph.width, dy + glyph.height,
+				glyph.sx, glyph.sy, glyph.sx + glyph.width, glyph.sy + glyph.height,
+				null);
+	}
+}
@@ -0,0 +1,157 @@
+package com.example.simplengine.Render;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Versões reduzidas (mip levels) de uma imagem: cada nível tem metade da largura
+ * e da altura do anterior. Ao desenhar uma imagem bem menor do que o original
+ * (zoom afastado, sprites pequenos), usar o nível mais próximo evita reamostrar
+ * a imagem inteira a cada frame e reduz o serrilhado.
+ *
+ * Os níveis ficam em cache por imagem; o cache usa referências fracas, então
+ * imagens descartadas liberam seus níveis. {@link #level} gera o que faltar na
+ * thread atual. Na renderização use {@link #readyForScale}, que nunca gera
+ * níveis: na primeira vez agenda a cadeia inteira numa thread de fundo e
+ * desenha a imagem original até ela ficar pronta. Para ter os níveis já no
+ * primeiro frame, chame {@link #build} ao carregar a imagem.
+ */
+public final class MipChain {
+
+	private static final Map<BufferedImage, MipChain> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final BufferedImage[] NONE = new BufferedImage[0];
+
+	private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "SimplEngine-MipBuilder");
+		t.setDaemon(true);
+		return t;
+	});
+
+	// Nível 0 não é guardado aqui para não manter a imagem viva pelo cache.
+	private final List<BufferedImage> levels = new ArrayList<>();
+	private final int baseWidth;
+	private final int baseHeight;
+	// Cópia de levels lida sem trava pela thread de renderização
+	private volatile BufferedImage[] ready = NONE;
+	private volatile boolean complete;
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	private MipChain(BufferedImage image) {
+		this.baseWidth = image.getWidth();
+		this.baseHeight = image.getHeight();
+	}
+
+	/**
+	 * Retorna a cadeia de mip levels da imagem, criando-a se necessário.
+	 */
+	public static MipChain of(BufferedImage image) {
+		if (image == null) {
+			throw new IllegalArgumentException("A imagem não pode ser nula");
+		}
+		return CACHE.computeIfAbsent(image, MipChain::new);
+	}
+
+	/**
+	 * Nível adequado para desenhar a imagem com a escala dada (tamanho na tela
+	 * dividido pelo tamanho original). É o menor nível que ainda é maior ou igual
+	 * ao tamanho na tela, então a imagem nunca é ampliada a partir de um nível reduzido.
+	 */
+	public static int levelFor(double scale) {
+		if (!(scale < 0.5)) return 0;
+		if (scale <= 0) return 30;
+		return 31 - Integer.numberOfLeadingZeros((int) Math.min(Integer.MAX_VALUE, 1.0 / scale));
+	}
+
+	/**
+	 * Retorna a imagem do nível pedido (0 é a própria imagem). Níveis além do
+	 * último possível (1x1) retornam o último.
+	 */
+	public BufferedImage level(BufferedImage image, int level) {
+		if (level <= 0) return image;
+		synchronized (levels) {
+			BufferedImage previous = levels.isEmpty() ? image : levels.get(levels.size() - 1);
+			while (levels.size() < level) {
+				if (previous.getWidth() == 1 && previous.getHeight() == 1) {
+					complete = true;
+					break;
+				}
+				previous = halve(previous);
+				levels.add(previous);
+				ready = levels.toArray(NONE);
+			}
+			return levels.isEmpty() ? image : levels.get(Math.min(level, levels.size()) - 1);
+		}
+	}
+
+	/**
+	 * Atalho para {@code level(image, levelFor(scale))}.
+	 */
+	public BufferedImage forScale(BufferedImage image, double scale) {
+		return level(image, levelFor(scale));
+	}
+
+	/**
+	 * Gera todos os níveis, até 1x1, na thread atual. Chame ao carregar a
+	 * imagem (ou numa thread de carregamento) para não gerar nada durante a
+	 * renderização.
+	 */
+	public void build(BufferedImage image) {
+		level(image, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Como {@link #forScale}, mas sem gerar níveis na thread atual: se o nível
+	 * ainda não existe, agenda {@link #build} em segundo plano (uma única vez) e
+	 * retorna o nível gerado mais próximo, ou a própria imagem. Nunca retorna
+	 * uma imagem menor que a pedida.
+	 */
+	public BufferedImage readyForScale(BufferedImage image, double scale) {
+		final int level = levelFor(scale);
+		if (level <= 0) return image;
+		final BufferedImage[] snapshot = ready;
+		if (snapshot.length < level && !complete && scheduled.compareAndSet(false, true)) {
+			BUILDER.execute(() -> build(image));
+		}
+		return snapshot.length == 0 ? image : snapshot[Math.min(level, snapshot.length) - 1];
+	}
+
+	public int getBaseWidth() {
+		return baseWidth;
+	}
+
+	public int getBaseHeight() {
+		return baseHeight;
+	}
+
+	/** @return Quantos níveis reduzidos já foram gerados */
+	public int getGeneratedLevels() {
+		synchronized (levels) {
+			return levels.size();
+		}
+	}
+
+	private static BufferedImage halve(BufferedImage source) {
+		int w = Math.max(1, source.getWidth() / 2);
+		int h = Math.max(1, source.getHeight() / 2);
+		BufferedImage result = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = result.createGraphics();
+		try {
+			// Reduzir exatamente pela metade com bilinear equivale a uma média 2x2.
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.drawImage(source, 0, 0, w, h, null);
+		} finally {
+			g.dispose();
+		}
+		return result;
+	}
+}
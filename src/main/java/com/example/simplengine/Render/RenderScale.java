@@ -0,0 +1,153 @@
+package com.example.simplengine.Render;
+
+import java.awt.RenderingHints;
+
+import com.example.simplengine.GameLoop.GameLoop;
+
+/**
+ * Escala de resolução interna de uma Surface. Com escala menor que 1 a cena é
+ * desenhada em um buffer interno menor e ampliada para a janela, reduzindo o
+ * custo de preenchimento em telas grandes.
+ *
+ * No modo dinâmico a escala é reduzida quando o tempo de frame do GameLoop
+ * passa do orçamento definido por setTargetFps, e aumentada de volta quando
+ * sobra tempo.
+ */
+public final class RenderScale {
+
+	/**
+	 * Interpolação usada para ampliar o buffer interno.
+	 */
+	public enum Interpolation {
+		NEAREST(RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR),
+		BILINEAR(RenderingHints.VALUE_INTERPOLATION_BILINEAR),
+		BICUBIC(RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+		private final Object hint;
+
+		Interpolation(Object hint) {
+			this.hint = hint;
+		}
+
+		public Object getHint() {
+			return hint;
+		}
+	}
+
+	private static final float MIN_SCALE = 0.1f;
+	private static final float STEP = 0.05f;
+	private static final double DOWNSCALE_THRESHOLD = 0.95;
+	private static final double UPSCALE_THRESHOLD = 0.75;
+	private static final int COOLDOWN_FRAMES = 30;
+	private static final int SMOOTHING = 8;
+
+	private volatile float scale = 1f;
+	private volatile float minScale = 0.5f;
+	private volatile float maxScale = 1f;
+	private volatile Interpolation interpolation = Interpolation.BILINEAR;
+	private volatile GameLoop budgetSource;
+
+	private long averageFrameNanos;
+	private int cooldown;
+
+	public float getScale() {
+		return scale;
+	}
+
+	/**
+	 * Define a escala de resolução interna.
+	 *
+	 * @param scale Valor entre 0.1 e 1.0 (1.0 = resolução nativa)
+	 * @throws IllegalArgumentException Se a escala estiver fora do intervalo
+	 */
+	public void setScale(float scale) {
+		if (scale < MIN_SCALE || scale > 1f) {
+			throw new IllegalArgumentException("A escala deve estar entre 0.1 e 1.0");
+		}
+		this.scale = scale;
+	}
+
+	public Interpolation getInterpolation() {
+		return interpolation;
+	}
+
+	public void setInterpolation(Interpolation interpolation) {
+		if (interpolation == null) {
+			throw new IllegalArgumentException("A interpolação não pode ser nula");
+		}
+		this.interpolation = interpolation;
+	}
+
+	/**
+	 * Ativa o modo dinâmico usando o orçamento de frame do GameLoop.
+	 *
+	 * @param loop GameLoop cujo setTargetFps define o orçamento, ou null para desativar
+	 */
+	public void setDynamic(GameLoop loop) {
+		this.budgetSource = loop;
+		this.averageFrameNanos = 0;
+		this.cooldown = 0;
+	}
+
+	public boolean isDynamic() {
+		return budgetSource != null;
+	}
+
+	/**
+	 * Define os limites usados pelo modo dinâmico.
+	 */
+	public void setDynamicRange(float minScale, float maxScale) {
+		if (minScale < MIN_SCALE || maxScale > 1f || minScale > maxScale) {
+			throw new IllegalArgumentException("O intervalo dinâmico deve estar entre 0.1 e 1.0");
+		}
+		this.minScale = minScale;
+		this.maxScale = maxScale;
+	}
+
+	public float getMinScale() {
+		return minScale;
+	}
+
+	public float getMaxScale() {
+		return maxScale;
+	}
+
+	/**
+	 * Chamado pela Surface uma vez por frame antes de desenhar.
+	 *
+	 * @return A escala a usar neste frame
+	 */
+	float beginFrame() {
+		GameLoop loop = budgetSource;
+		if (loop != null) {
+			adjust(loop.getLastFrameWorkNanos(), loop.getTargetFrameNanos());
+		}
+		return scale;
+	}
+
+	void adjust(long frameNanos, long budgetNanos) {
+		if (frameNanos <= 0 || budgetNanos <= 0) return;
+
+		averageFrameNanos = averageFrameNanos == 0
+				? frameNanos
+				: averageFrameNanos + (frameNanos - averageFrameNanos) / SMOOTHING;
+
+		if (cooldown > 0) {
+			cooldown--;
+			return;
+		}
+
+		float current = scale;
+		float next = current;
+		if (averageFrameNanos > budgetNanos * DOWNSCALE_THRESHOLD) {
+			next = Math.max(minScale, current - STEP);
+		} else if (averageFrameNanos < budgetNanos * UPSCALE_THRESHOLD) {
+			next = Math.min(maxScale, current + STEP);
+		}
+
+		if (next != current) {
+			scale = next;
+			cooldown = COOLDOWN_FRAMES;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package com.example.simplengine.Render;
+
+import javax.swing.*;
+
+import com.example.simplengine.Camera.Camera;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Janela com superfície de desenho própria. Cada Surface tem sua câmera,
+ * seu BufferPresenter e sua lista de viewports, então é possível ter várias
+ * janelas, split-screen ou minimapas ao mesmo tempo.
+ */
+public final class Surface {
+
+	private final JFrame frame;
+	private final java.awt.Canvas canvas;
+	private final Camera camera;
+	private final BufferPresenter presenter;
+	private final List<Viewport> viewports = new CopyOnWriteArrayList<>();
+	private final RenderScale renderScale = new RenderScale();
+
+	private VolatileImage scaledBuffer;
+
+	private Surface(JFrame frame, java.awt.Canvas canvas, Camera camera, BufferPresenter presenter) {
+		this.frame = frame;
+		this.canvas = canvas;
+		this.camera = camera;
+		this.presenter = presenter;
+		this.viewports.add(new Viewport(camera));
+	}
+
+	public static Surface create(int width, int height, String titulo) {
+		return create(width, height, titulo, new Camera(), new BufferPresenter());
+	}
+
+	static Surface create(int width, int height, String titulo, Camera camera, BufferPresenter presenter) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("width e height devem ser maiores que 0");
+		}
+
+		final Surface[] holder = new Surface[1];
+		Runnable createTask = () -> {
+			JFrame frame = new JFrame(titulo);
+			frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+
+			java.awt.Canvas surface = new java.awt.Canvas();
+			surface.setPreferredSize(new Dimension(width, height));
+			surface.setBackground(Color.BLACK);
+			surface.setIgnoreRepaint(true);
+
+			frame.setLayout(new BorderLayout());
+			frame.add(surface, BorderLayout.CENTER);
+			frame.pack();
+			frame.setLocationRelativeTo(null);
+			frame.setVisible(true);
+
+			holder[0] = new Surface(frame, surface, camera, presenter);
+		};
+
+		if (SwingUtilities.isEventDispatchThread()) {
+			createTask.run();
+		} else {
+			try {
+				SwingUtilities.invokeAndWait(createTask);
+			} catch (Exception e) {
+				throw new RuntimeException("Falha ao criar a janela na EDT", e);
+			}
+		}
+
+		return holder[0];
+	}
+
+	public JFrame getFrame() {
+		return frame;
+	}
+
+	public java.awt.Canvas getCanvas() {
+		return canvas;
+	}
+
+	/**
+	 * Retorna a câmera principal, usada pela viewport padrão.
+	 */
+	public Camera getCamera() {
+		return camera;
+	}
+
+	public BufferPresenter getPresenter() {
+		return presenter;
+	}
+
+	/**
+	 * Retorna a configuração de resolução interna desta superfície.
+	 */
+	public RenderScale getRenderScale() {
+		return renderScale;
+	}
+
+	public List<Viewport> getViewports() {
+		return viewports;
+	}
+
+	/**
+	 * Adiciona uma viewport com câmera própria (ex.: segundo jogador ou minimapa).
+	 * As viewports são desenhadas na ordem em que foram adicionadas.
+	 */
+	public Viewport addViewport(Camera camera, float x, float y, float width, float height) {
+		Viewport viewport = new Viewport(camera, x, y, width, height);
+		viewports.add(viewport);
+		return viewport;
+	}
+
+	public void addViewport(Viewport viewport) {
+		viewports.add(viewport);
+	}
+
+	public boolean removeViewport(Viewport viewport) {
+		return viewports.remove(viewport);
+	}
+
+	/**
+	 * Desenha o mesmo painter em todas as viewports.
+	 */
+	public void render(Consumer<Graphics2D> painter) {
+		render((g, viewport) -> painter.accept(g), null);
+	}
+
+	/**
+	 * Desenha o mesmo painter em todas as viewports e depois o HUD em coordenadas de tela.
+	 */
+	public void render(Consumer<Graphics2D> painter, Consumer<Graphics2D> hud) {
+		render((g, viewport) -> painter.accept(g), hud);
+	}
+
+	/**
+	 * Desenha um frame. O painter é chamado uma vez por viewport, todas dentro do
+	 * mesmo back buffer, então as viewports compartilham o mesmo estado do mundo.
+	 * Use {@link Viewport#isVisible(com.example.simplengine.GameObjects.GameObject)}
+	 * para descartar objetos fora da área de cada viewport.
+	 */
+	public void render(ViewportPainter painter) {
+		render(painter, null);
+	}
+
+	/**
+	 * Desenha o mundo e, em seguida, uma camada de HUD em coordenadas de tela.
+	 * O HUD é desenhado depois que a transformação da câmera é desfeita e, com
+	 * escala de resolução ativa, na resolução nativa da janela (texto nítido).
+	 *
+	 * @param painter Desenho do mundo, chamado por viewport
+	 * @param hud Desenho em coordenadas de tela, ou null
+	 */
+	public void render(ViewportPainter painter, Consumer<Graphics2D> hud) {
+		final java.awt.Canvas surface = canvas;
+		final BufferPresenter presenter = this.presenter;
+		final float scale = renderScale.beginFrame();
+		BufferStrategy bs = presenter.acquire(surface);
+
+		do {
+			Graphics2D g = (Graphics2D) bs.getDrawGraphics();
+			try {
+				final int width = surface.getWidth();
+				final int height = surface.getHeight();
+
+				if (scale < 1f) {
+					renderScaled(g, width, height, scale, painter);
+				} else {
+					paintFrame(g, width, height, painter);
+				}
+
+				if (hud != null) {
+					hud.accept(g);
+				}
+			} finally {
+				g.dispose();
+			}
+			presenter.present(bs);
+		} while (bs.contentsLost());
+	}
+
+	private void renderScaled(Graphics2D g, int width, int height, float scale, ViewportPainter painter) {
+		final int scaledWidth = Math.max(1, Math.round(width * scale));
+		final int scaledHeight = Math.max(1, Math.round(height * scale));
+
+		VolatileImage buffer;
+		do {
+			buffer = validateScaledBuffer(width, height);
+			Graphics2D bg = buffer.createGraphics();
+			try {
+				bg.clipRect(0, 0, scaledWidth, scaledHeight);
+				bg.scale(scale, scale);
+				paintFrame(bg, width, height, painter);
+			} finally {
+				bg.dispose();
+			}
+		} while (buffer.contentsLost());
+
+		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, renderScale.getInterpolation().getHint());
+		g.drawImage(buffer, 0, 0, width, height, 0, 0, scaledWidth, scaledHeight, null);
+	}
+
+	/**
+	 * O buffer interno tem o tamanho da janela e só é recriado quando ela muda de
+	 * tamanho; escalas diferentes usam apenas a região superior esquerda.
+	 */
+	private VolatileImage validateScaledBuffer(int width, int height) {
+		VolatileImage buffer = scaledBuffer;
+		GraphicsConfiguration gc = canvas.getGraphicsConfiguration();
+		if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height
+				|| buffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+			if (buffer != null) {
+				buffer.flush();
+			}
+			buffer = gc.createCompatibleVolatileImage(width, height);
+			scaledBuffer = buffer;
+		}
+		return buffer;
+	}
+
+	private void paintFrame(Graphics2D g, int width, int height, ViewportPainter painter) {
+		Color old = g.getColor();
+		g.setColor(canvas.getBackground());
+		g.fillRect(0, 0, width, height);
+		g.setColor(old);
+
+		AffineTransform originalTransform = g.getTransform();
+		Shape originalClip = g.getClip();
+
+		for (Viewport viewport : viewports) {
+			viewport.begin(g, width, height);
+			painter.paint(g, viewport);
+			g.setTransform(originalTransform);
+			g.setClip(originalClip);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.example.simplengine.Render;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+
+/**
+ * Texto com layout em cache. O layout (glifos e posições) só é refeito quando
+ * o conteúdo muda, então um placar ou contador de FPS redesenhado a cada frame
+ * custa apenas as cópias dos glifos.
+ */
+public final class TextLabel {
+
+	private final GlyphAtlas atlas;
+
+	private char[] chars = new char[16];
+	private char[] scratch = new char[32];
+	private int length;
+
+	private GlyphAtlas.Glyph[] glyphs = new GlyphAtlas.Glyph[16];
+	private int[] offsets = new int[16];
+	private int width;
+	private int layoutCount;
+
+	public TextLabel(Font font, Color color) {
+		this(GlyphAtlas.get(font, color));
+	}
+
+	public TextLabel(GlyphAtlas atlas) {
+		if (atlas == null) {
+			throw new IllegalArgumentException("O atlas não pode ser nulo");
+		}
+		this.atlas = atlas;
+	}
+
+	public TextLabel(Font font, Color color, CharSequence text) {
+		this(font, color);
+		setText(text);
+	}
+
+	/**
+	 * Define o texto. Se o conteúdo for igual ao atual nada é refeito.
+	 */
+	public void setText(CharSequence text) {
+		if (text == null) {
+			text = "";
+		}
+		final int n = text.length();
+		if (n == length) {
+			boolean same = true;
+			for (int i = 0; i < n; i++) {
+				if (chars[i] != text.charAt(i)) {
+					same = false;
+					break;
+				}
+			}
+			if (same) return;
+		}
+
+		ensureCapacity(n);
+		for (int i = 0; i < n; i++) {
+			chars[i] = text.charAt(i);
+		}
+		length = n;
+		layout();
+	}
+
+	/**
+	 * Define o texto como prefixo seguido de um número, sem criar Strings
+	 * intermediárias. Útil para "Score: 1234" ou "FPS: 144".
+	 */
+	public void setText(String prefix, long value) {
+		final int prefixLength = prefix == null ? 0 : prefix.length();
+		int digits = 0;
+		long v = value;
+		do {
+			digits++;
+			v /= 10;
+		} while (v != 0);
+		final boolean negative = value < 0;
+		final int n = prefixLength + digits + (negative ? 1 : 0);
+
+		if (scratch.length < n) {
+			scratch = new char[Math.max(n, scratch.length * 2)];
+		}
+		for (int i = 0; i < prefixLength; i++) {
+			scratch[i] = prefix.charAt(i);
+		}
+		if (negative) {
+			scratch[prefixLength] = '-';
+		}
+		v = value;
+		for (int i = n - 1; i >= n - digits; i--) {
+			scratch[i] = (char) ('0' + Math.abs(v % 10));
+			v /= 10;
+		}
+
+		if (n == length) {
+			boolean same = true;
+			for (int i = 0; i < n; i++) {
+				if (chars[i] != scratch[i]) {
+					same = false;
+					break;
+				}
+			}
+			if (same) return;
+		}
+
+		ensureCapacity(n);
+		System.arraycopy(scratch, 0, chars, 0, n);
+		length = n;
+		layout();
+	}
+
+	public String getText() {
+		return new String(chars, 0, length);
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return atlas.getLineHeight();
+	}
+
+	/** @return Quantas vezes o layout foi refeito (útil para diagnosticar textos que mudam demais) */
+	public int getLayoutCount() {
+		return layoutCount;
+	}
+
+	private void ensureCapacity(int n) {
+		if (chars.length < n) {
+			int capacity = Math.max(n, chars.length * 2);
+			chars = new char[capacity];
+			glyphs = new GlyphAtlas.Glyph[capacity];
+			offsets = new int[capacity];
+		}
+	}
+
+	private void layout() {
+		int penX = 0;
+		for (int i = 0; i < length; i++) {
+			GlyphAtlas.Glyph glyph = atlas.glyph(chars[i]);
+			glyphs[i] = glyph;
+			offsets[i] = penX;
+			penX += glyph.advance;
+		}
+		width = penX;
+		layoutCount++;
+	}
+
+	/**
+	 * Desenha o texto com o topo da linha em (x, y).
+	 */
+	public void render(Graphics2D g, int x, int y) {
+		if (g == null) return;
+		final java.awt.image.BufferedImage image = atlas.getImage();
+		for (int i = 0; i < length; i++) {
+			GlyphAtlas.draw(g, image, glyphs[i], x + offsets[i], y);
+		}
+	}
+}
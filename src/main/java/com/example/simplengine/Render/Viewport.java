@@ -0,0 +1,168 @@
+package com.example.simplengine.Render;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+
+import com.example.simplengine.Camera.Camera;
+import com.example.simplengine.GameObjects.GameObject;
+import com.example.simplengine.Vectors.Vector2;
+
+/**
+ * Região de uma Surface renderizada através de uma câmera própria.
+ * Os limites são normalizados (0 a 1) em relação ao tamanho da superfície,
+ * então split-screen e minimapas acompanham o redimensionamento da janela.
+ */
+public final class Viewport {
+
+	private final Camera camera;
+
+	private volatile float x;
+	private volatile float y;
+	private volatile float width;
+	private volatile float height;
+
+	private int pixelX;
+	private int pixelY;
+	private int pixelWidth;
+	private int pixelHeight;
+
+	private double worldLeft;
+	private double worldTop;
+	private double worldRight;
+	private double worldBottom;
+	private double drawScale = 1.0;
+
+	/**
+	 * Cria uma viewport que ocupa a superfície inteira.
+	 *
+	 * @param camera Câmera usada por esta viewport
+	 */
+	public Viewport(Camera camera) {
+		this(camera, 0f, 0f, 1f, 1f);
+	}
+
+	/**
+	 * Cria uma viewport com limites normalizados.
+	 *
+	 * @param camera Câmera usada por esta viewport
+	 * @param x Início horizontal (0 a 1)
+	 * @param y Início vertical (0 a 1)
+	 * @param width Largura (0 a 1)
+	 * @param height Altura (0 a 1)
+	 * @throws IllegalArgumentException Se a câmera for nula ou os limites forem inválidos
+	 */
+	public Viewport(Camera camera, float x, float y, float width, float height) {
+		if (camera == null) {
+			throw new IllegalArgumentException("A câmera não pode ser nula");
+		}
+		this.camera = camera;
+		setBounds(x, y, width, height);
+	}
+
+	public Camera getCamera() {
+		return camera;
+	}
+
+	public void setBounds(float x, float y, float width, float height) {
+		if (x < 0f || y < 0f || width <= 0f || height <= 0f || x + width > 1f || y + height > 1f) {
+			throw new IllegalArgumentException("Os limites da viewport devem estar entre 0 e 1");
+		}
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
+	public float getX() { return x; }
+	public float getY() { return y; }
+	public float getWidth() { return width; }
+	public float getHeight() { return height; }
+
+	public int getPixelX() { return pixelX; }
+	public int getPixelY() { return pixelY; }
+	public int getPixelWidth() { return pixelWidth; }
+	public int getPixelHeight() { return pixelHeight; }
+
+	/**
+	 * Prepara o Graphics2D para esta viewport: calcula o retângulo em pixels,
+	 * aplica o clip e a transformação da câmera e atualiza a área visível do mundo.
+	 */
+	void begin(Graphics2D g, int surfaceWidth, int surfaceHeight) {
+		layout(surfaceWidth, surfaceHeight);
+
+		g.clipRect(pixelX, pixelY, pixelWidth, pixelHeight);
+
+		final double camX = camera.getPosition().getX();
+		final double camY = camera.getPosition().getY();
+		final float zoom = camera.getZoom();
+
+		g.translate(pixelX + pixelWidth / 2.0, pixelY + pixelHeight / 2.0);
+		g.scale(zoom, zoom);
+		g.translate(-camX, -camY);
+
+		AffineTransform t = g.getTransform();
+		drawScale = Math.max(Math.hypot(t.getScaleX(), t.getShearY()), Math.hypot(t.getShearX(), t.getScaleY()));
+
+		final double halfW = pixelWidth / 2.0 / zoom;
+		final double halfH = pixelHeight / 2.0 / zoom;
+		worldLeft = camX - halfW;
+		worldRight = camX + halfW;
+		worldTop = camY - halfH;
+		worldBottom = camY + halfH;
+	}
+
+	/**
+	 * Escala total (zoom da câmera e resolução interna) com que o painter desta
+	 * viewport começa a desenhar no frame atual. Pode ser passada para
+	 * {@link com.example.simplengine.GameObjects.SpriteObject#render(Graphics2D, double)}
+	 * para escolher o mip level sem copiar a transformação a cada sprite. Se o
+	 * painter aplicar uma escala própria em {@code g}, multiplique-a por este valor.
+	 */
+	public double getDrawScale() {
+		return drawScale;
+	}
+
+	void layout(int surfaceWidth, int surfaceHeight) {
+		pixelX = Math.round(x * surfaceWidth);
+		pixelY = Math.round(y * surfaceHeight);
+		pixelWidth = Math.max(1, Math.round((x + width) * surfaceWidth) - pixelX);
+		pixelHeight = Math.max(1, Math.round((y + height) * surfaceHeight) - pixelY);
+	}
+
+	/**
+	 * Retorna a área do mundo visível nesta viewport no frame atual.
+	 */
+	public Rectangle2D.Double getWorldBounds() {
+		return new Rectangle2D.Double(worldLeft, worldTop, worldRight - worldLeft, worldBottom - worldTop);
+	}
+
+	/**
+	 * Verifica se um retângulo em coordenadas do mundo aparece nesta viewport.
+	 * Use dentro do ViewportPainter para pular objetos fora da tela.
+	 */
+	public boolean isVisible(double x, double y, double width, double height) {
+		return x <= worldRight && x + width >= worldLeft
+				&& y <= worldBottom && y + height >= worldTop;
+	}
+
+	public boolean isVisible(GameObject object) {
+		Rectangle2D.Float b = object.getBounds();
+		return isVisible(b.x, b.y, b.width, b.height);
+	}
+
+	/**
+	 * Converte coordenadas da superfície (ex.: posição do mouse) para o mundo desta viewport.
+	 */
+	public Vector2 screenToWorld(double screenX, double screenY) {
+		return camera.screenToWorld(screenX - pixelX, screenY - pixelY, pixelWidth, pixelHeight);
+	}
+
+	/**
+	 * Verifica se um ponto da superfície está dentro desta viewport.
+	 */
+	public boolean contains(double screenX, double screenY) {
+		return screenX >= pixelX && screenX < pixelX + pixelWidth
+				&& screenY >= pixelY && screenY < pixelY + pixelHeight;
+	}
+}
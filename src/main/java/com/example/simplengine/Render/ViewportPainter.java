@@ -0,0 +1,12 @@
+package com.example.simplengine.Render;
+
+import java.awt.Graphics2D;
+
+/**
+ * Desenha a cena em uma viewport. É chamado uma vez por viewport a cada frame,
+ * com o clip e a transformação da câmera da viewport já aplicados.
+ */
+@FunctionalInterface
+public interface ViewportPainter {
+	void paint(Graphics2D g, Viewport viewport);
+}
@@ -0,0 +1,756 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+
+import com.example.simplengine.Camera.Camera;
+import com.example.simplengine.Vectors.Vector2;
+
+/**
+ * Mixer de áudio em software: uma única thread e uma única {@link AudioOutput}
+ * tocam todas as vozes, somando em software {@link SoundBuffer}s já decodificados.
+ *
+ * Cada voz tem ganho e pan próprios. Quando todas as vozes estão ocupadas, uma
+ * delas é roubada segundo a {@link StealPolicy}. Cada som pode ainda limitar
+ * quantas cópias dele tocam ao mesmo tempo ({@link SoundBuffer#setMaxPolyphony}):
+ * ao passar do limite, uma das cópias do próprio som é roubada. A latência é
+ * fixa: a placa de som ({@link LineAudioOutput}) é aberta com espaço para
+ * apenas dois blocos de {@link #getBlockFrames()} quadros.
+ *
+ * Tocar um som não abre linhas nem cria threads; {@link #play} só ocupa uma voz.
+ * Música longa toca em streaming pelo {@link #getMusic() canal de música}.
+ *
+ * Sons tocados com {@link #playAt} têm posição no mundo: a cada bloco, o ganho
+ * e o pan deles são recalculados a partir da distância até a câmera ouvinte.
+ * Vozes que ficam inaudíveis viram virtuais: continuam avançando no tempo, mas
+ * não são mixadas, e são as primeiras a serem roubadas.
+ */
+public final class AudioMixer {
+
+    /** Taxa de amostragem de saída (e de todos os SoundBuffers). */
+    public static final float SAMPLE_RATE = 44100f;
+    public static final int DEFAULT_VOICES = 32;
+    public static final int DEFAULT_BLOCK_FRAMES = 512;
+
+    /** Distância até onde um som posicional toca com volume cheio */
+    public static final float DEFAULT_REFERENCE_DISTANCE = 100f;
+    /** Distância a partir da qual um som posicional fica em silêncio */
+    public static final float DEFAULT_MAX_DISTANCE = 1500f;
+    /** Distância horizontal em que o pan chega a um dos lados */
+    public static final float DEFAULT_PAN_DISTANCE = 600f;
+
+    /** Abaixo deste ganho efetivo a voz é virtual (cerca de -66 dB) */
+    private static final float AUDIBLE_GAIN = 0.0005f;
+
+    /** Formato de saída: PCM 16 bits estéreo little-endian. */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+
+    /**
+     * Propriedade de sistema que escolhe a saída do mixer compartilhado:
+     * "line" (padrão, placa de som) ou "null" (descarta o áudio, para CI).
+     */
+    public static final String OUTPUT_PROPERTY = "simplengine.audio.output";
+
+    private static final int SLOT_BITS = 10;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int MAX_VOICES = 1 << SLOT_BITS;
+
+    private static AudioMixer instance;
+
+    /** Qual voz roubar quando não há vozes livres (ou o som atingiu seu limite). */
+    public enum StealPolicy {
+        /** A voz iniciada há mais tempo */
+        OLDEST,
+        /** A voz com menor ganho efetivo (já atenuado pela distância); em caso de empate, a mais antiga */
+        QUIETEST
+    }
+
+    /** Estado de uma voz; só é alterado com o lock de {@code voices}. */
+    static final class Voice {
+        SoundBuffer buffer;
+        int position;
+        float gain;
+        float pan;
+        boolean loop;
+        boolean active;
+        int generation;
+        long started;
+        // Som posicional: coordenadas no mundo
+        boolean positional;
+        float x;
+        float y;
+        // Ganho e pan efetivos do bloco atual, calculados em spatialize()
+        float mixGain;
+        float mixPan;
+        boolean virtual;
+    }
+
+    private final Voice[] voices;
+    private final int blockFrames;
+    private final float[] mixLeft;
+    private final float[] mixRight;
+    private final short[] block;
+    private final byte[] bytes;
+    private final MusicChannel music;
+
+    // Cópia, feita sob o lock, do que cada voz audível toca no bloco atual; só a thread de mixagem usa
+    private final SoundBuffer[] mixBuffers;
+    private final int[] mixStarts;
+    private final boolean[] mixLoops;
+    private final float[] mixGains;
+    private final float[] mixPans;
+
+    private long playCounter;
+    private StealPolicy stealPolicy = StealPolicy.OLDEST;
+    private volatile float masterGain = 1f;
+    private volatile Camera listener;
+    private float referenceDistance = DEFAULT_REFERENCE_DISTANCE;
+    private float maxDistance = DEFAULT_MAX_DISTANCE;
+    private float panDistance = DEFAULT_PAN_DISTANCE;
+
+    private Thread thread;
+    private AudioOutput output;
+    private volatile boolean running;
+
+    public AudioMixer() {
+        this(DEFAULT_VOICES, DEFAULT_BLOCK_FRAMES);
+    }
+
+    /**
+     * @param voiceCount Máximo de sons simultâneos
+     * @param blockFrames Quadros mixados por bloco (define a latência)
+     */
+    public AudioMixer(int voiceCount, int blockFrames) {
+        if (voiceCount <= 0 || voiceCount > MAX_VOICES) {
+            throw new IllegalArgumentException("A quantidade de vozes deve estar entre 1 e " + MAX_VOICES);
+        }
+        if (blockFrames <= 0) {
+            throw new IllegalArgumentException("O tamanho do bloco deve ser positivo");
+        }
+        this.voices = new Voice[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new Voice();
+        }
+        this.blockFrames = blockFrames;
+        this.mixLeft = new float[blockFrames];
+        this.mixRight = new float[blockFrames];
+        this.block = new short[blockFrames * 2];
+        this.bytes = new byte[blockFrames * 4];
+        this.music = new MusicChannel(blockFrames);
+        this.mixBuffers = new SoundBuffer[voiceCount];
+        this.mixStarts = new int[voiceCount];
+        this.mixLoops = new boolean[voiceCount];
+        this.mixGains = new float[voiceCount];
+        this.mixPans = new float[voiceCount];
+    }
+
+    /**
+     * Mixer compartilhado usado pelo SoundPlayer, iniciado no primeiro uso. Sem
+     * dispositivo de áudio, toca numa {@link NullAudioOutput}: os sons continuam
+     * avançando e terminando normalmente, só não são ouvidos.
+     */
+    public static synchronized AudioMixer getInstance() {
+        if (instance == null) {
+            instance = new AudioMixer();
+            if (!instance.start()) {
+                System.err.println("AudioMixer: no audio device, using the null output");
+                instance.start(new NullAudioOutput());
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Inicia a thread de mixagem na saída padrão: a placa de som, ou a saída
+     * nula se a propriedade {@link #OUTPUT_PROPERTY} for "null".
+     *
+     * @return false se não houver dispositivo de áudio disponível
+     */
+    public boolean start() {
+        if ("null".equalsIgnoreCase(System.getProperty(OUTPUT_PROPERTY))) {
+            return start(new NullAudioOutput());
+        }
+        return start(new LineAudioOutput());
+    }
+
+    /**
+     * Abre a saída dada e inicia a thread de mixagem. Saídas que não são de
+     * tempo real recebem um bloco a cada {@link #getBlockFrames()} quadros de
+     * tempo, como uma placa de som.
+     *
+     * @return false se a saída não pôde ser aberta
+     */
+    public synchronized boolean start(AudioOutput output) {
+        if (output == null) {
+            throw new IllegalArgumentException("A saída não pode ser nula");
+        }
+        if (running) return true;
+        try {
+            output.open(FORMAT, blockFrames);
+        } catch (IOException e) {
+            System.err.println("AudioMixer error: " + e.getMessage());
+            return false;
+        }
+        this.output = output;
+        running = true;
+        thread = new Thread(this::run, "SimplEngine-AudioMixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** @return A saída em uso, ou null se o mixer não foi iniciado */
+    public synchronized AudioOutput getOutput() {
+        return output;
+    }
+
+    private void run() {
+        final AudioOutput out = output;
+        final boolean paced = !out.isRealtime();
+        final long blockNanos = (long) (blockFrames * 1_000_000_000.0 / SAMPLE_RATE);
+        long deadline = System.nanoTime();
+        while (running) {
+            mixBlock(block, blockFrames);
+            toBytes(block, bytes, blockFrames);
+            try {
+                out.write(bytes, blockFrames * 4);
+            } catch (IOException e) {
+                System.err.println("AudioMixer error: " + e.getMessage());
+                running = false;
+                return;
+            }
+            if (paced) {
+                deadline += blockNanos;
+                long wait = deadline - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (wait < -blockNanos * 4) {
+                    // Atrasou demais (ex.: GC); recomeça o ritmo em vez de correr atrás.
+                    deadline = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    /**
+     * Mixa {@code blocks} blocos direto na saída dada, na thread atual e sem
+     * esperar o tempo real. Serve para renderizar áudio em arquivo e para
+     * benchmarks determinísticos. A saída já deve estar aberta, e o mixer não
+     * pode estar rodando sua própria thread.
+     */
+    public void render(AudioOutput out, int blocks) throws IOException {
+        if (running) {
+            throw new IllegalStateException("O mixer já está tocando em sua própria thread");
+        }
+        for (int b = 0; b < blocks; b++) {
+            mixBlock(block, blockFrames);
+            toBytes(block, bytes, blockFrames);
+            out.write(bytes, blockFrames * 4);
+        }
+    }
+
+    private static void toBytes(short[] samples, byte[] target, int frames) {
+        for (int i = 0; i < frames * 2; i++) {
+            short s = samples[i];
+            target[i * 2] = (byte) s;
+            target[i * 2 + 1] = (byte) (s >> 8);
+        }
+    }
+
+    /**
+     * Toca um som. Não aloca memória: só escolhe e reinicia uma voz.
+     *
+     * @param gain Volume (1 = original)
+     * @param pan -1 (esquerda) a 1 (direita)
+     * @param loop Se true, repete até ser parado
+     * @return Handle da voz, para stop/setGain/setPan
+     */
+    public int play(SoundBuffer buffer, float gain, float pan, boolean loop) {
+        if (buffer == null) return -1;
+        return play(buffer, gain, pan, loop, buffer.getMaxPolyphony());
+    }
+
+    /**
+     * Toca um som com um limite de polifonia próprio, no lugar do
+     * {@link SoundBuffer#getMaxPolyphony() limite do buffer}. Permite que dois
+     * sons que compartilham o mesmo buffer tenham limites diferentes sem
+     * alterar o buffer.
+     *
+     * @param maxPolyphony Máximo de cópias simultâneas deste buffer (0 = sem limite)
+     */
+    public int play(SoundBuffer buffer, float gain, float pan, boolean loop, int maxPolyphony) {
+        return start(buffer, gain, pan, loop, maxPolyphony, false, 0f, 0f);
+    }
+
+    public int play(SoundBuffer buffer) {
+        return play(buffer, 1f, 0f, false);
+    }
+
+    /**
+     * Toca um som numa posição do mundo. O volume cai com a distância até a
+     * câmera ouvinte e o pan segue a posição horizontal relativa a ela.
+     *
+     * @param gain Volume na distância de referência (1 = original)
+     * @return Handle da voz, para stop/setGain/setPosition
+     */
+    public int playAt(SoundBuffer buffer, float x, float y, float gain, boolean loop) {
+        if (buffer == null) return -1;
+        return playAt(buffer, x, y, gain, loop, buffer.getMaxPolyphony());
+    }
+
+    /**
+     * Toca um som posicional com um limite de polifonia próprio (veja
+     * {@link #play(SoundBuffer, float, float, boolean, int)}).
+     */
+    public int playAt(SoundBuffer buffer, float x, float y, float gain, boolean loop, int maxPolyphony) {
+        return start(buffer, gain, 0f, loop, maxPolyphony, true, x, y);
+    }
+
+    public int playAt(SoundBuffer buffer, float x, float y) {
+        return playAt(buffer, x, y, 1f, false);
+    }
+
+    /**
+     * Ocupa e configura uma voz inteira sob um único lock, para que o mixer
+     * nunca veja uma voz posicional ainda sem posição (tocando com volume
+     * cheio e pan central) nem outra thread roube o slot no meio.
+     */
+    private int start(SoundBuffer buffer, float gain, float pan, boolean loop, int maxPolyphony,
+                      boolean positional, float x, float y) {
+        if (buffer == null || buffer.getFrames() == 0) return -1;
+        synchronized (voices) {
+            final int slot = chooseSlot(buffer, maxPolyphony);
+            Voice v = voices[slot];
+            v.buffer = buffer;
+            v.position = 0;
+            v.gain = Math.max(0f, gain);
+            v.pan = clampPan(pan);
+            v.loop = loop;
+            v.positional = positional;
+            v.x = x;
+            v.y = y;
+            v.virtual = false;
+            v.mixGain = v.gain;
+            v.mixPan = v.pan;
+            v.active = true;
+            v.generation = (v.generation + 1) & (Integer.MAX_VALUE >>> SLOT_BITS);
+            v.started = playCounter++;
+            return (v.generation << SLOT_BITS) | slot;
+        }
+    }
+
+    /**
+     * Move um som posicional (ex.: um emissor preso a um objeto que anda).
+     */
+    public void setPosition(int handle, float x, float y) {
+        synchronized (voices) {
+            Voice v = resolve(handle);
+            if (v != null && v.positional) {
+                v.x = x;
+                v.y = y;
+            }
+        }
+    }
+
+    /**
+     * @return true se a voz do handle está tocando mas inaudível, sem ser mixada
+     */
+    public boolean isVirtual(int handle) {
+        synchronized (voices) {
+            Voice v = resolve(handle);
+            return v != null && v.virtual;
+        }
+    }
+
+    /** @return Quantas vozes ativas estão virtuais no momento */
+    public int getVirtualVoiceCount() {
+        synchronized (voices) {
+            int count = 0;
+            for (Voice v : voices) {
+                if (v.active && v.virtual) count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Câmera usada como ouvinte dos sons posicionais. Por padrão é a
+     * {@link Camera#getInstance() câmera padrão}.
+     */
+    public void setListener(Camera listener) {
+        this.listener = listener;
+    }
+
+    public Camera getListener() {
+        Camera camera = listener;
+        return camera != null ? camera : Camera.getInstance();
+    }
+
+    /**
+     * Define a atenuação por distância dos sons posicionais: volume cheio até
+     * {@code referenceDistance}, caindo com o inverso da distância e chegando a
+     * zero em {@code maxDistance}.
+     */
+    public void setAttenuation(float referenceDistance, float maxDistance) {
+        if (referenceDistance <= 0 || maxDistance <= referenceDistance) {
+            throw new IllegalArgumentException("Use 0 < referenceDistance < maxDistance");
+        }
+        synchronized (voices) {
+            this.referenceDistance = referenceDistance;
+            this.maxDistance = maxDistance;
+        }
+    }
+
+    /**
+     * Distância horizontal, a partir da câmera, em que o pan chega totalmente a um lado.
+     */
+    public void setPanDistance(float panDistance) {
+        if (panDistance <= 0) {
+            throw new IllegalArgumentException("A distância de pan deve ser positiva");
+        }
+        synchronized (voices) {
+            this.panDistance = panDistance;
+        }
+    }
+
+    /**
+     * Escolhe a voz para um novo som: uma cópia do próprio som se ele já atingiu
+     * seu limite de polifonia, senão uma voz livre, senão a vítima da política.
+     */
+    private int chooseSlot(SoundBuffer buffer, int limit) {
+        int free = -1;
+        int victim = -1;
+        int ownVictim = -1;
+        int instances = 0;
+        for (int i = 0; i < voices.length; i++) {
+            Voice v = voices[i];
+            if (!v.active) {
+                if (free < 0) free = i;
+                continue;
+            }
+            if (v.buffer == buffer) {
+                instances++;
+                if (ownVictim < 0 || steals(v, voices[ownVictim])) ownVictim = i;
+            }
+            if (victim < 0 || steals(v, voices[victim])) victim = i;
+        }
+        if (limit > 0 && instances >= limit) return ownVictim;
+        return free >= 0 ? free : victim;
+    }
+
+    /** @return true se {@code a} deve ser roubada antes de {@code b} */
+    private boolean steals(Voice a, Voice b) {
+        if (a.virtual != b.virtual) {
+            return a.virtual;
+        }
+        if (stealPolicy == StealPolicy.QUIETEST && a.mixGain != b.mixGain) {
+            return a.mixGain < b.mixGain;
+        }
+        return a.started < b.started;
+    }
+
+    public StealPolicy getStealPolicy() {
+        synchronized (voices) {
+            return stealPolicy;
+        }
+    }
+
+    public void setStealPolicy(StealPolicy stealPolicy) {
+        if (stealPolicy == null) {
+            throw new IllegalArgumentException("A política não pode ser nula");
+        }
+        synchronized (voices) {
+            this.stealPolicy = stealPolicy;
+        }
+    }
+
+    /**
+     * @return Quantas vozes estão tocando o som dado
+     */
+    public int getActiveVoiceCount(SoundBuffer buffer) {
+        synchronized (voices) {
+            int count = 0;
+            for (Voice v : voices) {
+                if (v.active && v.buffer == buffer) count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Para a voz do handle. Handles de vozes já terminadas ou roubadas são ignorados.
+     */
+    public void stop(int handle) {
+        synchronized (voices) {
+            Voice v = resolve(handle);
+            if (v != null) {
+                v.active = false;
+                v.buffer = null;
+            }
+        }
+    }
+
+    public void stopAll() {
+        synchronized (voices) {
+            for (Voice v : voices) {
+                v.active = false;
+                v.buffer = null;
+            }
+        }
+    }
+
+    public boolean isPlaying(int handle) {
+        synchronized (voices) {
+            return resolve(handle) != null;
+        }
+    }
+
+    public void setGain(int handle, float gain) {
+        synchronized (voices) {
+            Voice v = resolve(handle);
+            if (v != null) v.gain = Math.max(0f, gain);
+        }
+    }
+
+    public void setPan(int handle, float pan) {
+        synchronized (voices) {
+            Voice v = resolve(handle);
+            if (v != null) v.pan = clampPan(pan);
+        }
+    }
+
+    /**
+     * Canal de música em streaming, mixado junto com as vozes.
+     */
+    public MusicChannel getMusic() {
+        return music;
+    }
+
+    public float getMasterGain() {
+        return masterGain;
+    }
+
+    public void setMasterGain(float masterGain) {
+        this.masterGain = Math.max(0f, masterGain);
+    }
+
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    public int getActiveVoiceCount() {
+        synchronized (voices) {
+            int count = 0;
+            for (Voice v : voices) {
+                if (v.active) count++;
+            }
+            return count;
+        }
+    }
+
+    public int getBlockFrames() {
+        return blockFrames;
+    }
+
+    /** @return Latência de saída aproximada (dois blocos), em milissegundos */
+    public double getLatencyMillis() {
+        return blockFrames * 2 * 1000.0 / SAMPLE_RATE;
+    }
+
+    /**
+     * Mixa os próximos {@code frames} quadros de todas as vozes em {@code out}
+     * (estéreo intercalado) e avança as vozes. É o que a thread de mixagem faz a
+     * cada bloco; chamado diretamente serve para testes e benchmarks.
+     *
+     * O lock das vozes só é mantido para espacializar, copiar o estado das vozes
+     * audíveis e avançar as posições; a soma das amostras roda fora dele, então
+     * play/stop/setPosition na thread do jogo não esperam a mixagem, e a
+     * mixagem não espera a thread do jogo além dessa cópia.
+     */
+    public void mixBlock(short[] out, int frames) {
+        if (frames > blockFrames || out.length < frames * 2) {
+            throw new IllegalArgumentException("Bloco maior que o buffer do mixer");
+        }
+        Arrays.fill(mixLeft, 0, frames, 0f);
+        Arrays.fill(mixRight, 0, frames, 0f);
+
+        int audible = 0;
+        synchronized (voices) {
+            spatialize();
+            for (Voice v : voices) {
+                if (!v.active) continue;
+                if (!v.virtual) {
+                    mixBuffers[audible] = v.buffer;
+                    mixStarts[audible] = v.position;
+                    mixLoops[audible] = v.loop;
+                    mixGains[audible] = v.mixGain;
+                    mixPans[audible] = v.mixPan;
+                    audible++;
+                }
+                advance(v, frames);
+            }
+        }
+        for (int k = 0; k < audible; k++) {
+            mixVoice(mixBuffers[k], mixStarts[k], mixLoops[k], mixGains[k], mixPans[k], frames);
+            mixBuffers[k] = null;
+        }
+        music.mix(mixLeft, mixRight, frames);
+
+        final float master = masterGain;
+        for (int i = 0; i < frames; i++) {
+            out[i * 2] = clip(mixLeft[i] * master);
+            out[i * 2 + 1] = clip(mixRight[i] * master);
+        }
+    }
+
+    /**
+     * Calcula, numa única passada por todas as vozes, o ganho e o pan efetivos
+     * do bloco. A posição da câmera é lida uma vez por bloco.
+     */
+    private void spatialize() {
+        final Vector2 position = getListener().getPosition();
+        final float listenerX = (float) position.getX();
+        final float listenerY = (float) position.getY();
+        final float ref = referenceDistance;
+        final float fadeScale = 1f / (maxDistance - ref);
+        final float maxSquared = maxDistance * maxDistance;
+        final float refSquared = ref * ref;
+        final float invPan = 1f / panDistance;
+
+        for (Voice v : voices) {
+            if (!v.active) continue;
+            if (!v.positional) {
+                v.mixGain = v.gain;
+                v.mixPan = v.pan;
+            } else {
+                final float dx = v.x - listenerX;
+                final float dy = v.y - listenerY;
+                final float distSquared = dx * dx + dy * dy;
+                float attenuation;
+                if (distSquared <= refSquared) {
+                    attenuation = 1f;
+                } else if (distSquared >= maxSquared) {
+                    attenuation = 0f;
+                } else {
+                    // Inverso da distância, com uma rampa linear até zero em maxDistance
+                    final float dist = (float) Math.sqrt(distSquared);
+                    attenuation = (ref / dist) * ((maxDistance - dist) * fadeScale);
+                }
+                v.mixGain = v.gain * attenuation;
+                v.mixPan = clampPan(dx * invPan);
+            }
+            v.virtual = v.mixGain < AUDIBLE_GAIN;
+        }
+    }
+
+    /**
+     * Avança a voz um bloco; vozes virtuais também, para que voltem a soar (ou
+     * terminem) no ponto certo.
+     */
+    private static void advance(Voice v, int frames) {
+        final int length = v.buffer.getFrames();
+        int pos = v.position + frames;
+        if (pos >= length) {
+            if (!v.loop) {
+                v.active = false;
+                v.buffer = null;
+                v.virtual = false;
+                return;
+            }
+            pos %= length;
+        }
+        v.position = pos;
+    }
+
+    /**
+     * Soma {@code frames} quadros do buffer, a partir de {@code pos}, na mixagem.
+     * Roda fora do lock: usa só a cópia feita em {@link #mixBlock}.
+     */
+    private void mixVoice(SoundBuffer buffer, int pos, boolean loop, float gain, float pan, int frames) {
+        final short[] s = buffer.samples();
+        final int length = buffer.getFrames();
+        final float left;
+        final float right;
+        if (buffer.getChannels() == 1) {
+            // Pan de potência constante para fontes mono
+            double angle = (pan + 1) * Math.PI / 4;
+            left = gain * (float) Math.cos(angle) * (float) Math.sqrt(2);
+            right = gain * (float) Math.sin(angle) * (float) Math.sqrt(2);
+        } else {
+            // Balanço para fontes estéreo
+            left = gain * Math.min(1f, 1f - pan);
+            right = gain * Math.min(1f, 1f + pan);
+        }
+
+        int i = 0;
+        while (i < frames) {
+            if (pos >= length) {
+                if (!loop) return;
+                pos = 0;
+            }
+            final int n = Math.min(frames - i, length - pos);
+            if (buffer.getChannels() == 1) {
+                for (int k = 0; k < n; k++) {
+                    float x = s[pos + k];
+                    mixLeft[i + k] += x * left;
+                    mixRight[i + k] += x * right;
+                }
+            } else {
+                for (int k = 0; k < n; k++) {
+                    int p = (pos + k) * 2;
+                    mixLeft[i + k] += s[p] * left;
+                    mixRight[i + k] += s[p + 1] * right;
+                }
+            }
+            i += n;
+            pos += n;
+        }
+    }
+
+    /**
+     * Para a thread de mixagem e fecha a saída.
+     */
+    public synchronized void close() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+        if (output != null) {
+            output.close();
+            output = null;
+        }
+        stopAll();
+        music.shutdown();
+    }
+
+    private Voice resolve(int handle) {
+        if (handle < 0) return null;
+        int slot = handle & SLOT_MASK;
+        if (slot >= voices.length) return null;
+        Voice v = voices[slot];
+        return v.active && v.generation == (handle >>> SLOT_BITS) ? v : null;
+    }
+
+    private static float clampPan(float pan) {
+        return pan < -1f ? -1f : (pan > 1f ? 1f : pan);
+    }
+
+    private static short clip(float sample) {
+        if (sample > Short.MAX_VALUE) return Short.MAX_VALUE;
+        if (sample < Short.MIN_VALUE) return Short.MIN_VALUE;
+        return (short) sample;
+    }
+}
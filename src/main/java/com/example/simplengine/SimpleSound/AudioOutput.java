@@ -0,0 +1,37 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Destino dos blocos mixados pelo {@link AudioMixer}: a placa de som
+ * ({@link LineAudioOutput}), nada ({@link NullAudioOutput}) ou um arquivo WAV
+ * ({@link WavFileAudioOutput}).
+ *
+ * Saídas que não são de tempo real não bloqueiam em {@link #write}; nesse caso
+ * a própria thread do mixer espera entre os blocos para manter o ritmo do áudio.
+ */
+public interface AudioOutput extends AutoCloseable {
+
+    /**
+     * Prepara a saída para receber blocos no formato dado.
+     * @param blockFrames Quadros por bloco, para dimensionar buffers
+     */
+    void open(AudioFormat format, int blockFrames) throws IOException;
+
+    /**
+     * Entrega um bloco de PCM no formato aberto.
+     */
+    void write(byte[] data, int length) throws IOException;
+
+    /**
+     * @return true se {@link #write} já bloqueia no ritmo do áudio (um dispositivo real)
+     */
+    default boolean isRealtime() {
+        return false;
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,48 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Saída para o dispositivo de áudio padrão, por uma SourceDataLine com espaço
+ * para apenas dois blocos (latência fixa e baixa).
+ */
+public final class LineAudioOutput implements AudioOutput {
+
+    private SourceDataLine line;
+
+    @Override
+    public void open(AudioFormat format, int blockFrames) throws IOException {
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, blockFrames * format.getFrameSize() * 2);
+            line.start();
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            line = null;
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void write(byte[] data, int length) {
+        line.write(data, 0, length);
+    }
+
+    @Override
+    public boolean isRealtime() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (line != null) {
+            line.stop();
+            line.close();
+            line = null;
+        }
+    }
+}
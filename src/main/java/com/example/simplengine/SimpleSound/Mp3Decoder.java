@@ -0,0 +1,81 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.BitstreamException;
+import javazoom.jl.decoder.Decoder;
+import javazoom.jl.decoder.DecoderException;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.SampleBuffer;
+
+/**
+ * Decodifica um MP3 quadro a quadro com o decoder do JLayer, sem tocar nada.
+ * Cada chamada a {@link #nextFrame()} deixa um quadro de PCM 16 bits
+ * (intercalado se estéreo) em {@link #buffer()}.
+ */
+final class Mp3Decoder implements PcmSource {
+
+    private final Bitstream bitstream;
+    private final Decoder decoder = new Decoder();
+    private short[] buffer = new short[0];
+    private int channels;
+    private int sampleRate;
+
+    Mp3Decoder(InputStream in) {
+        this.bitstream = new Bitstream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+    }
+
+    /**
+     * Decodifica o próximo quadro.
+     * @return Quantidade de amostras em {@link #buffer()}, ou -1 no fim do arquivo
+     */
+    @Override
+    public int nextFrame() throws IOException {
+        try {
+            Header header = bitstream.readFrame();
+            if (header == null) return -1;
+            SampleBuffer output = (SampleBuffer) decoder.decodeFrame(header, bitstream);
+            channels = output.getChannelCount();
+            sampleRate = output.getSampleFrequency();
+            int length = output.getBufferLength();
+            if (buffer.length < length) {
+                buffer = new short[length];
+            }
+            System.arraycopy(output.getBuffer(), 0, buffer, 0, length);
+            bitstream.closeFrame();
+            return length;
+        } catch (BitstreamException | DecoderException e) {
+            throw new IOException("MP3 inválido: " + e.getMessage(), e);
+        }
+    }
+
+    /** Amostras do último quadro decodificado. O array é reaproveitado entre quadros. */
+    @Override
+    public short[] buffer() {
+        return buffer;
+    }
+
+    /** Canais do último quadro (0 antes do primeiro) */
+    @Override
+    public int getChannels() {
+        return channels;
+    }
+
+    /** Taxa de amostragem do último quadro (0 antes do primeiro) */
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            bitstream.close();
+        } catch (BitstreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
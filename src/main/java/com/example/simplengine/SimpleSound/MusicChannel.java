@@ -0,0 +1,251 @@
+package com.example.simplengine.SimpleSound;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Canal de música do {@link AudioMixer}: toca uma faixa MP3 em streaming, com
+ * loop sem intervalo e crossfade entre faixas.
+ *
+ * A faixa é decodificada aos poucos em segundo plano; a memória usada é só a da
+ * fila de cada faixa ativa (no máximo duas, durante um crossfade), e não depende
+ * da duração da música.
+ *
+ * Nada aqui usa locks. A thread do jogo só publica um pedido (tocar, trocar ou
+ * parar) num slot atômico, e a thread do mixer o aplica no começo do próximo
+ * bloco; se chegarem dois pedidos entre blocos, vale o último. O estado das
+ * faixas é só do mixer, que publica um resumo em campos volatile para as
+ * consultas.
+ */
+public final class MusicChannel {
+
+    /** Pedido da thread do jogo: próxima faixa (null para só parar) e duração do fade */
+    private static final class Command {
+        final MusicStream next;
+        final int fadeFrames;
+
+        Command(MusicStream next, int fadeFrames) {
+            this.next = next;
+            this.fadeFrames = fadeFrames;
+        }
+    }
+
+    private final int blockFrames;
+    private volatile int bufferFrames = MusicStream.DEFAULT_BUFFER_FRAMES;
+    private volatile float gain = 1f;
+
+    private final AtomicReference<Command> pending = new AtomicReference<>();
+
+    // Estado das faixas (só a thread do mixer usa)
+    private MusicStream current;
+    private MusicStream previous;
+    private int fadeFrames;
+    private int fadePosition;
+    private int fadeOutFrames;
+    private int fadeOutPosition;
+
+    // Resumo publicado pelo mixer a cada bloco
+    private volatile MusicStream published;
+    private volatile boolean active;
+    private volatile long playedFrames;
+    private volatile long underruns;
+
+    MusicChannel(int blockFrames) {
+        this.blockFrames = blockFrames;
+    }
+
+    /**
+     * Toca uma faixa, interrompendo a atual.
+     * @param path Caminho do arquivo MP3
+     * @param loop Se true, repete até ser parada
+     */
+    public void play(String path, boolean loop) {
+        crossfade(path, loop, 0f);
+    }
+
+    /**
+     * Troca para outra faixa, aumentando o volume dela enquanto a atual diminui.
+     * @param seconds Duração do crossfade (0 troca na hora)
+     */
+    public void crossfade(String path, boolean loop, float seconds) {
+        if (path == null) {
+            throw new IllegalArgumentException("O caminho não pode ser nulo");
+        }
+        MusicStream next = new MusicStream(path, loop, bufferFrames, blockFrames);
+        next.start();
+        crossfade(next, seconds);
+    }
+
+    /**
+     * Troca para um stream já iniciado. Usado também pelos testes, com fontes
+     * de PCM sintéticas.
+     */
+    void crossfade(MusicStream next, float seconds) {
+        post(new Command(next, toFrames(seconds)));
+    }
+
+    /**
+     * Para a música na hora.
+     */
+    public void stop() {
+        fadeOut(0f);
+    }
+
+    /**
+     * Diminui o volume da faixa atual até parar.
+     * @param seconds Duração do fade (0 para na hora)
+     */
+    public void fadeOut(float seconds) {
+        post(new Command(null, toFrames(seconds)));
+    }
+
+    private void post(Command command) {
+        Command replaced = pending.getAndSet(command);
+        // Um pedido substituído antes de ser aplicado nunca chegou ao mixer.
+        if (replaced != null && replaced.next != null) {
+            replaced.next.close();
+        }
+    }
+
+    /** @return true se alguma faixa está tocando (inclusive saindo em fade) */
+    public boolean isPlaying() {
+        Command command = pending.get();
+        if (command != null) {
+            return command.next != null || (command.fadeFrames > 0 && active);
+        }
+        return active;
+    }
+
+    /** @return Caminho da faixa atual, ou null */
+    public String getCurrentPath() {
+        Command command = pending.get();
+        MusicStream stream = command != null ? command.next : published;
+        return stream != null ? stream.getPath() : null;
+    }
+
+    public float getGain() {
+        return gain;
+    }
+
+    public void setGain(float gain) {
+        this.gain = Math.max(0f, gain);
+    }
+
+    /**
+     * Define o tamanho da fila de decodificação das próximas faixas, em quadros.
+     * Filas maiores toleram mais atraso do decoder, ao custo de memória.
+     */
+    public void setBufferFrames(int bufferFrames) {
+        if (bufferFrames < blockFrames * 2) {
+            throw new IllegalArgumentException("A fila deve ter ao menos dois blocos do mixer");
+        }
+        this.bufferFrames = bufferFrames;
+    }
+
+    public int getBufferFrames() {
+        return bufferFrames;
+    }
+
+    /**
+     * @return Quadros já tocados da última faixa iniciada (contando as voltas do
+     *         loop), mesmo depois que ela terminou
+     */
+    public long getPlayedFrames() {
+        return playedFrames;
+    }
+
+    /** @return Quantas vezes o decoder não acompanhou o mixer na faixa atual */
+    public long getUnderruns() {
+        return underruns;
+    }
+
+    /**
+     * Soma o próximo bloco da música no mix. Chamado pela thread do mixer.
+     */
+    void mix(float[] left, float[] right, int frames) {
+        Command command = pending.getAndSet(null);
+        if (command != null) {
+            apply(command);
+        }
+        final float g = gain;
+        if (current != null) {
+            float start = fadeLevel(fadePosition, fadeFrames);
+            fadePosition = Math.min(fadeFrames, fadePosition + frames);
+            float end = fadeLevel(fadePosition, fadeFrames);
+            boolean playing = current.mix(left, right, frames, start * g, end * g);
+            playedFrames = current.getPlayedFrames();
+            underruns = current.getUnderruns();
+            if (!playing) {
+                current = null;
+            }
+        }
+        if (previous != null) {
+            float start = 1f - fadeLevel(fadeOutPosition, fadeOutFrames);
+            fadeOutPosition = Math.min(fadeOutFrames, fadeOutPosition + frames);
+            float end = 1f - fadeLevel(fadeOutPosition, fadeOutFrames);
+            if (!previous.mix(left, right, frames, start * g, end * g) || fadeOutPosition >= fadeOutFrames) {
+                previous.close();
+                previous = null;
+            }
+        }
+        publish();
+    }
+
+    /**
+     * Para as faixas e descarta pedidos pendentes. Chamado pelo mixer quando a
+     * thread de mixagem já terminou.
+     */
+    void shutdown() {
+        Command command = pending.getAndSet(null);
+        if (command != null && command.next != null) {
+            command.next.close();
+        }
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        if (previous != null) {
+            previous.close();
+            previous = null;
+        }
+        publish();
+    }
+
+    private void apply(Command command) {
+        if (previous != null) {
+            previous.close();
+            previous = null;
+        }
+        if (current != null) {
+            if (command.fadeFrames == 0) {
+                current.close();
+            } else {
+                previous = current;
+                // Continua do volume em que a faixa estava, se ela ainda estava entrando.
+                float level = fadeLevel(fadePosition, fadeFrames);
+                fadeOutFrames = command.fadeFrames;
+                fadeOutPosition = Math.round((1f - level) * command.fadeFrames);
+            }
+            current = null;
+        }
+        if (command.next != null) {
+            current = command.next;
+            fadeFrames = command.fadeFrames;
+            fadePosition = 0;
+            playedFrames = 0;
+            underruns = 0;
+        }
+    }
+
+    private void publish() {
+        published = current;
+        active = current != null || previous != null;
+    }
+
+    private static float fadeLevel(int position, int length) {
+        return length <= 0 ? 1f : Math.min(1f, position / (float) length);
+    }
+
+    private static int toFrames(float seconds) {
+        return seconds <= 0 ? 0 : Math.round(seconds * AudioMixer.SAMPLE_RATE);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Uma faixa de música tocada em streaming: uma thread decodifica o MP3 (ou
+ * outra {@link PcmSource}) alguns quadros à frente para um
+ * {@link PcmRingBuffer}, e o mixer consome dele.
+ * Só a fila fica em memória, nunca a faixa decodificada inteira.
+ *
+ * No fim do arquivo, se em loop, o decoder reabre o arquivo e continua
+ * escrevendo na mesma fila, sem silêncio entre uma volta e outra.
+ */
+final class MusicStream {
+
+    /** Capacidade padrão da fila: 16384 quadros estéreo (~370 ms, 64 KB) */
+    static final int DEFAULT_BUFFER_FRAMES = 16384;
+
+    private static final long WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private static final ExecutorService DECODERS = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "SimplEngine-MusicDecoder");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final String path;
+    private final PcmSource.Opener opener;
+    private final boolean loop;
+    private final PcmRingBuffer ring;
+    private final int prefill;
+    private final short[] mixScratch;
+
+    // Estado do decoder (só a thread de decodificação usa)
+    private short[] decodeScratch = new short[0];
+    private double phase;
+    private short previousLeft;
+    private short previousRight;
+
+    // Estado do consumidor (só a thread do mixer usa)
+    private boolean started;
+    private long playedFrames;
+    private long underruns;
+
+    private volatile boolean closed;
+    private volatile boolean ended;
+    private volatile IOException error;
+
+    MusicStream(String path, boolean loop, int bufferFrames, int blockFrames) {
+        this(path, () -> new Mp3Decoder(Files.newInputStream(new File(path).toPath())), loop, bufferFrames, blockFrames);
+    }
+
+    /**
+     * @param path Nome da faixa (caminho do arquivo, para MP3s)
+     * @param opener Abre a fonte de PCM; chamado de novo a cada volta do loop
+     */
+    MusicStream(String path, PcmSource.Opener opener, boolean loop, int bufferFrames, int blockFrames) {
+        this.path = path;
+        this.opener = opener;
+        this.loop = loop;
+        this.ring = new PcmRingBuffer(bufferFrames * 2);
+        this.prefill = Math.min(ring.capacity() / 2, blockFrames * 4);
+        this.mixScratch = new short[blockFrames * 2];
+    }
+
+    void start() {
+        DECODERS.execute(this::decode);
+    }
+
+    private void decode() {
+        try {
+            do {
+                boolean anyFrame = false;
+                try (PcmSource decoder = opener.open()) {
+                    int length;
+                    while (!closed && (length = decoder.nextFrame()) >= 0) {
+                        anyFrame = true;
+                        int produced = resample(decoder.buffer(), length, decoder.getChannels(), decoder.getSampleRate());
+                        if (!writeFully(produced)) return;
+                    }
+                }
+                if (!anyFrame && !closed) {
+                    throw new IOException("Nenhum quadro de áudio encontrado: " + path);
+                }
+            } while (loop && !closed);
+        } catch (IOException e) {
+            error = e;
+            System.err.println("MusicStream error: " + e.getMessage());
+        } finally {
+            ended = true;
+        }
+    }
+
+    /**
+     * Converte um quadro decodificado para estéreo na taxa do mixer, em
+     * {@code decodeScratch}. A interpolação continua entre quadros (e entre
+     * voltas do loop), então não há emendas audíveis.
+     * @return Quantidade de amostras produzidas
+     */
+    private int resample(short[] samples, int length, int channels, int rate) {
+        final int frames = length / channels;
+        final double step = rate / (double) AudioMixer.SAMPLE_RATE;
+        final int maxOut = ((int) (frames / step) + 2) * 2;
+        if (decodeScratch.length < maxOut) {
+            decodeScratch = new short[maxOut];
+        }
+        final int right = channels == 2 ? 1 : 0;
+        int out = 0;
+        // O último quadro só é interpolado no próximo bloco, como "anterior" (índice -1).
+        while (phase < frames - 1) {
+            int i = (int) Math.floor(phase);
+            double frac = phase - i;
+            int aLeft = i < 0 ? previousLeft : samples[i * channels];
+            int aRight = i < 0 ? previousRight : samples[i * channels + right];
+            int bLeft = samples[(i + 1) * channels];
+            int bRight = samples[(i + 1) * channels + right];
+            decodeScratch[out++] = (short) (aLeft + (bLeft - aLeft) * frac);
+            decodeScratch[out++] = (short) (aRight + (bRight - aRight) * frac);
+            phase += step;
+        }
+        phase -= frames;
+        if (frames > 0) {
+            previousLeft = samples[(frames - 1) * channels];
+            previousRight = samples[(frames - 1) * channels + right];
+        }
+        return out;
+    }
+
+    private boolean writeFully(int length) {
+        int offset = 0;
+        while (offset < length) {
+            if (closed) return false;
+            int n = ring.write(decodeScratch, offset, length - offset);
+            if (n == 0) {
+                LockSupport.parkNanos(WAIT_NANOS);
+            }
+            offset += n;
+        }
+        return true;
+    }
+
+    /**
+     * Soma os próximos quadros da faixa em {@code left}/{@code right}, com o
+     * ganho variando linearmente de {@code gainStart} a {@code gainEnd} ao longo
+     * do bloco. Só a thread do mixer chama.
+     * @return false quando a faixa acabou e a fila esvaziou
+     */
+    boolean mix(float[] left, float[] right, int frames, float gainStart, float gainEnd) {
+        if (!started) {
+            if (ring.available() < prefill && !ended) return true;
+            started = true;
+        }
+        final int wanted = frames * 2;
+        int got = ring.read(mixScratch, 0, wanted);
+        if (got < wanted && !ended) {
+            underruns++;
+        }
+        final int gotFrames = got / 2;
+        final float step = frames > 1 ? (gainEnd - gainStart) / (frames - 1) : 0f;
+        for (int i = 0; i < gotFrames; i++) {
+            float gain = gainStart + step * i;
+            left[i] += mixScratch[i * 2] * gain;
+            right[i] += mixScratch[i * 2 + 1] * gain;
+        }
+        playedFrames += gotFrames;
+        return !(ended && ring.available() == 0);
+    }
+
+    /**
+     * Para o decoder; a fila é descartada junto com o stream.
+     */
+    void close() {
+        closed = true;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    boolean isLooping() {
+        return loop;
+    }
+
+    long getPlayedFrames() {
+        return playedFrames;
+    }
+
+    long getUnderruns() {
+        return underruns;
+    }
+
+    int getBufferedFrames() {
+        return ring.available() / 2;
+    }
+
+    int getBufferCapacityFrames() {
+        return ring.capacity() / 2;
+    }
+
+    IOException getError() {
+        return error;
+    }
+}
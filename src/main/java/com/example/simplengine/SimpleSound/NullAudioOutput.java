@@ -0,0 +1,37 @@
+package com.example.simplengine.SimpleSound;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Saída que descarta o áudio. Usada em máquinas sem placa de som (servidores de
+ * CI, testes) e em benchmarks do mixer; só conta o que recebeu.
+ */
+public final class NullAudioOutput implements AudioOutput {
+
+    private volatile long bytesWritten;
+    private volatile long blocksWritten;
+    private int frameSize = 4;
+
+    @Override
+    public void open(AudioFormat format, int blockFrames) {
+        frameSize = format.getFrameSize();
+    }
+
+    @Override
+    public void write(byte[] data, int length) {
+        bytesWritten += length;
+        blocksWritten++;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public long getFramesWritten() {
+        return bytesWritten / frameSize;
+    }
+
+    public long getBlocksWritten() {
+        return blocksWritten;
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache de sons (MP3 e WAV) já decodificados em PCM, limitado por memória.
+ *
+ * Cada arquivo é decodificado uma única vez, em segundo plano, e fica em cache
+ * como {@link SoundBuffer}. Quando o total passa do limite, os sons usados há
+ * mais tempo são descartados (LRU); vozes que ainda tocam um buffer descartado
+ * continuam tocando normalmente, e o próximo pedido decodifica o arquivo de novo.
+ *
+ * O cache é feito para efeitos curtos. Sons maiores que
+ * {@link #getMaxEntryBytes()} são decodificados e entregues, mas não ficam em
+ * cache, para que uma faixa longa não expulse todos os efeitos pré-carregados.
+ * Músicas devem tocar em streaming pelo {@link MusicChannel}.
+ *
+ * Sons carregados pelo {@link SoundPlayer} a partir de arquivos ficam só aqui:
+ * o registro guarda referências fracas e decodifica de novo se o cache os
+ * descartar. Sons sem arquivo de origem (streams e pacotes) ficam no registro
+ * e não entram no limite.
+ */
+public final class PcmCache {
+
+    /** Limite padrão: 64 MB, cerca de 6 minutos de áudio estéreo */
+    public static final long DEFAULT_CAPACITY_BYTES = 64L * 1024 * 1024;
+
+    /** Maior som guardado por padrão: 8 MB, cerca de 47 segundos estéreo */
+    public static final long DEFAULT_MAX_ENTRY_BYTES = 8L * 1024 * 1024;
+
+    private static final ExecutorService DECODER = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), r -> {
+                Thread t = new Thread(r, "SimplEngine-AudioDecoder");
+                t.setDaemon(true);
+                return t;
+            });
+
+    private final LinkedHashMap<String, SoundBuffer> buffers = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<SoundBuffer>> pending = new LinkedHashMap<>();
+    // Muda a cada invalidate; decodificações iniciadas antes são descartadas
+    private final Map<String, Long> generations = new HashMap<>();
+    private long capacityBytes;
+    private long maxEntryBytes = DEFAULT_MAX_ENTRY_BYTES;
+    private long memoryBytes;
+    private volatile boolean downmixToMono;
+
+    public PcmCache() {
+        this(DEFAULT_CAPACITY_BYTES);
+    }
+
+    public PcmCache(long capacityBytes) {
+        setCapacityBytes(capacityBytes);
+    }
+
+    /**
+     * Retorna o som decodificado, decodificando em segundo plano se ainda não
+     * estiver em cache. Pedidos repetidos enquanto a decodificação está em
+     * andamento recebem o mesmo future.
+     */
+    public synchronized CompletableFuture<SoundBuffer> load(String path) {
+        if (path == null) {
+            throw new IllegalArgumentException("O caminho não pode ser nulo");
+        }
+        SoundBuffer cached = buffers.get(path);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<SoundBuffer> future = pending.get(path);
+        if (future != null) {
+            return future;
+        }
+        final boolean mono = downmixToMono;
+        final long generation = generation(path);
+        future = CompletableFuture.supplyAsync(() -> {
+            try {
+                return decode(path, mono);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, DECODER);
+        pending.put(path, future);
+        future.whenComplete((buffer, error) -> finish(path, generation, buffer));
+        return future;
+    }
+
+    /**
+     * Como {@link #load}, mas decodifica na thread atual se o som não estiver em
+     * cache. Usado por quem precisa do buffer na hora (ex.: {@code SoundPlayer.loadSound}).
+     */
+    SoundBuffer loadNow(String path) throws IOException {
+        final long generation;
+        synchronized (this) {
+            SoundBuffer cached = buffers.get(path);
+            if (cached != null) {
+                return cached;
+            }
+            generation = generation(path);
+        }
+        SoundBuffer buffer = decode(path, downmixToMono);
+        synchronized (this) {
+            if (generation == generation(path)) {
+                put(path, buffer);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Decodifica pelo formato do arquivo: MP3 pelo JLayer, o resto pelo Java Sound.
+     */
+    static SoundBuffer decode(String path, boolean mono) throws IOException {
+        if (path.toLowerCase().endsWith(".mp3")) {
+            return SoundBuffer.fromMp3(path, mono);
+        }
+        SoundBuffer buffer = SoundBuffer.fromFile(path);
+        return mono ? buffer.toMono() : buffer;
+    }
+
+    /**
+     * @return O som em cache, ou null se ainda não foi decodificado (ou foi descartado)
+     */
+    public synchronized SoundBuffer get(String path) {
+        return buffers.get(path);
+    }
+
+    public synchronized boolean contains(String path) {
+        return buffers.containsKey(path);
+    }
+
+    /**
+     * Remove um som do cache (por exemplo, quando o arquivo mudou no disco).
+     * Decodificações do caminho ainda em andamento não entram no cache ao
+     * terminar, e o próximo pedido lê o arquivo de novo.
+     */
+    public synchronized void invalidate(String path) {
+        generations.merge(path, 1L, Long::sum);
+        pending.remove(path);
+        remove(path);
+    }
+
+    private void remove(String path) {
+        SoundBuffer removed = buffers.remove(path);
+        if (removed != null) {
+            memoryBytes -= removed.getMemoryBytes();
+        }
+    }
+
+    public synchronized void clear() {
+        for (String path : pending.keySet()) {
+            generations.merge(path, 1L, Long::sum);
+        }
+        pending.clear();
+        buffers.clear();
+        memoryBytes = 0;
+    }
+
+    /**
+     * Define o limite de memória; sons usados há mais tempo são descartados na hora
+     * se o cache já passou do novo limite.
+     */
+    public synchronized void setCapacityBytes(long capacityBytes) {
+        if (capacityBytes <= 0) {
+            throw new IllegalArgumentException("A capacidade deve ser positiva");
+        }
+        this.capacityBytes = capacityBytes;
+        evict();
+    }
+
+    public synchronized long getCapacityBytes() {
+        return capacityBytes;
+    }
+
+    /**
+     * Define o tamanho máximo de um som em cache. Sons maiores continuam
+     * tocando, mas são decodificados de novo a cada pedido.
+     */
+    public synchronized void setMaxEntryBytes(long maxEntryBytes) {
+        if (maxEntryBytes <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo deve ser positivo");
+        }
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public synchronized long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /** @return Memória ocupada pelos sons em cache, em bytes */
+    public synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public synchronized int size() {
+        return buffers.size();
+    }
+
+    /**
+     * Se true, sons estéreo decodificados a partir de agora são guardados em mono,
+     * ocupando metade da memória. Útil para efeitos curtos, que raramente
+     * dependem da imagem estéreo.
+     */
+    public void setDownmixToMono(boolean downmixToMono) {
+        this.downmixToMono = downmixToMono;
+    }
+
+    public boolean isDownmixToMono() {
+        return downmixToMono;
+    }
+
+    private long generation(String path) {
+        return generations.getOrDefault(path, 0L);
+    }
+
+    /**
+     * Guarda o resultado de uma decodificação, a menos que o caminho tenha sido
+     * invalidado depois que ela começou.
+     */
+    private synchronized void finish(String path, long generation, SoundBuffer buffer) {
+        if (generation != generation(path)) {
+            return;
+        }
+        pending.remove(path);
+        if (buffer != null) {
+            put(path, buffer);
+        }
+    }
+
+    /**
+     * Guarda um som já decodificado (por exemplo, pelo AssetManager), substituindo
+     * o anterior do mesmo caminho. Sons maiores que {@link #getMaxEntryBytes()}
+     * não são guardados.
+     */
+    public synchronized void put(String path, SoundBuffer buffer) {
+        if (path == null || buffer == null) {
+            throw new IllegalArgumentException("Caminho e buffer não podem ser nulos");
+        }
+        if (buffer.getMemoryBytes() > maxEntryBytes) {
+            remove(path);
+            return;
+        }
+        SoundBuffer previous = buffers.put(path, buffer);
+        if (previous != null) {
+            memoryBytes -= previous.getMemoryBytes();
+        }
+        memoryBytes += buffer.getMemoryBytes();
+        evict();
+    }
+
+    private void evict() {
+        Iterator<SoundBuffer> it = buffers.values().iterator();
+        // Mantém ao menos o som mais recente, mesmo que sozinho passe do limite.
+        while (memoryBytes > capacityBytes && buffers.size() > 1 && it.hasNext()) {
+            memoryBytes -= it.next().getMemoryBytes();
+            it.remove();
+        }
+    }
+}
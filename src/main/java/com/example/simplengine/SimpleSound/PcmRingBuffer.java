@@ -0,0 +1,74 @@
+package com.example.simplengine.SimpleSound;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fila circular de amostras PCM sem locks, para exatamente um produtor (a thread
+ * que decodifica) e um consumidor (a thread do mixer).
+ *
+ * Os contadores de escrita e leitura só crescem; cada lado só altera o seu, e
+ * a publicação com release/acquire garante que o consumidor enxerga as amostras
+ * antes do contador que as anuncia.
+ */
+final class PcmRingBuffer {
+
+    private final short[] data;
+    private final int mask;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong read = new AtomicLong();
+
+    /**
+     * @param capacity Capacidade em amostras; arredondada para potência de dois
+     */
+    PcmRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("A capacidade deve ser positiva");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.data = new short[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Copia até {@code length} amostras para a fila. Só o produtor chama.
+     * @return Quantas amostras couberam
+     */
+    int write(short[] source, int offset, int length) {
+        final long w = written.get();
+        final int free = data.length - (int) (w - read.getAcquire());
+        final int n = Math.min(length, free);
+        if (n <= 0) return 0;
+        final int start = (int) w & mask;
+        final int first = Math.min(n, data.length - start);
+        System.arraycopy(source, offset, data, start, first);
+        System.arraycopy(source, offset + first, data, 0, n - first);
+        written.setRelease(w + n);
+        return n;
+    }
+
+    /**
+     * Retira até {@code length} amostras da fila. Só o consumidor chama.
+     * @return Quantas amostras foram lidas
+     */
+    int read(short[] target, int offset, int length) {
+        final long r = read.get();
+        final int n = Math.min(length, (int) (written.getAcquire() - r));
+        if (n <= 0) return 0;
+        final int start = (int) r & mask;
+        final int first = Math.min(n, data.length - start);
+        System.arraycopy(data, start, target, offset, first);
+        System.arraycopy(data, 0, target, offset + first, n - first);
+        read.setRelease(r + n);
+        return n;
+    }
+
+    /** @return Amostras prontas para leitura */
+    int available() {
+        return (int) (written.getAcquire() - read.getAcquire());
+    }
+
+    int capacity() {
+        return data.length;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+
+/**
+ * Fonte de PCM 16 bits lida em pedaços, como um decoder de MP3. O
+ * {@link MusicStream} consome qualquer fonte, o que permite testar o streaming
+ * com sinais sintéticos.
+ */
+interface PcmSource extends AutoCloseable {
+
+    /** Abre uma fonte nova, posicionada no início; chamado a cada volta do loop. */
+    @FunctionalInterface
+    interface Opener {
+        PcmSource open() throws IOException;
+    }
+
+    /**
+     * Lê o próximo pedaço.
+     * @return Quantidade de amostras em {@link #buffer()}, ou -1 no fim
+     */
+    int nextFrame() throws IOException;
+
+    /** Amostras do último pedaço (intercaladas se estéreo). O array pode ser reaproveitado. */
+    short[] buffer();
+
+    /** Canais do último pedaço */
+    int getChannels();
+
+    /** Taxa de amostragem do último pedaço */
+    int getSampleRate();
+
+    @Override
+    void close() throws IOException;
+}
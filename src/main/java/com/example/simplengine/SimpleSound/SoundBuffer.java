@@ -0,0 +1,197 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Som já decodificado em PCM 16 bits, na taxa de amostragem do {@link AudioMixer}.
+ * Mono ou estéreo (amostras intercaladas). Tocar um SoundBuffer não lê arquivo
+ * nem decodifica nada, e várias cópias do mesmo buffer podem tocar ao mesmo
+ * tempo, até o limite de {@link #setMaxPolyphony}.
+ */
+public final class SoundBuffer {
+
+    private final short[] samples;
+    private final int channels;
+    private final int frames;
+    private volatile int maxPolyphony;
+
+    /**
+     * @param samples Amostras 16 bits na taxa do mixer, intercaladas se estéreo
+     * @param channels 1 (mono) ou 2 (estéreo)
+     */
+    public SoundBuffer(short[] samples, int channels) {
+        if (samples == null) {
+            throw new IllegalArgumentException("As amostras não podem ser nulas");
+        }
+        if (channels != 1 && channels != 2) {
+            throw new IllegalArgumentException("Apenas sons mono ou estéreo são suportados");
+        }
+        this.samples = samples;
+        this.channels = channels;
+        this.frames = samples.length / channels;
+    }
+
+    /**
+     * Decodifica um arquivo de áudio suportado pelo Java Sound (WAV, AIFF, AU).
+     */
+    public static SoundBuffer fromFile(String path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(new File(path).toPath()));
+             AudioInputStream stream = AudioSystem.getAudioInputStream(in)) {
+            return fromStream(stream);
+        } catch (UnsupportedAudioFileException e) {
+            throw new IOException("Formato de áudio não suportado: " + path, e);
+        }
+    }
+
+    /**
+     * Decodifica um MP3 inteiro de uma vez. Feito uma vez ao carregar, tocar o
+     * som depois não passa mais pelo decoder.
+     * @param mono Se true, mistura os canais em um só (metade da memória)
+     */
+    public static SoundBuffer fromMp3(String path, boolean mono) throws IOException {
+        return fromMp3(Files.newInputStream(new File(path).toPath()), path, mono);
+    }
+
+    /**
+     * Como {@link #fromMp3(String, boolean)}, lendo os bytes do MP3 de um stream
+     * (ex.: uma entrada de um pacote de assets). O stream é fechado no fim.
+     * @param name Nome usado nas mensagens de erro
+     */
+    public static SoundBuffer fromMp3(InputStream in, String name, boolean mono) throws IOException {
+        try (Mp3Decoder decoder = new Mp3Decoder(in)) {
+            short[] samples = new short[64 * 1024];
+            int size = 0;
+            int channels = 0;
+            int rate = 0;
+            int length;
+            while ((length = decoder.nextFrame()) >= 0) {
+                if (channels == 0) {
+                    channels = decoder.getChannels();
+                    rate = decoder.getSampleRate();
+                }
+                if (size + length > samples.length) {
+                    samples = Arrays.copyOf(samples, Math.max(samples.length * 2, size + length));
+                }
+                System.arraycopy(decoder.buffer(), 0, samples, size, length);
+                size += length;
+            }
+            if (channels == 0) {
+                throw new IOException("Nenhum quadro MP3 encontrado: " + name);
+            }
+            SoundBuffer buffer = fromPcm(Arrays.copyOf(samples, size), channels, rate);
+            return mono ? buffer.toMono() : buffer;
+        }
+    }
+
+    /**
+     * Lê o stream inteiro, convertendo para PCM 16 bits e para a taxa do mixer.
+     */
+    public static SoundBuffer fromStream(AudioInputStream stream) throws IOException {
+        AudioFormat format = stream.getFormat();
+        int channels = format.getChannels();
+        if (channels != 1 && channels != 2) {
+            throw new IOException("Apenas sons mono ou estéreo são suportados: " + channels + " canais");
+        }
+        float rate = format.getSampleRate();
+        AudioFormat target = new AudioFormat(rate, 16, channels, true, false);
+        AudioInputStream pcm = stream;
+        if (!format.matches(target)) {
+            try {
+                pcm = AudioSystem.getAudioInputStream(target, stream);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Conversão de áudio não suportada: " + format, e);
+            }
+        }
+        byte[] bytes = pcm.readAllBytes();
+        short[] samples = new short[bytes.length / 2];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) ((bytes[i * 2] & 0xFF) | (bytes[i * 2 + 1] << 8));
+        }
+        return fromPcm(samples, channels, rate);
+    }
+
+    /**
+     * Cria um buffer a partir de PCM 16 bits em qualquer taxa, reamostrando
+     * (interpolação linear) para a taxa do mixer se necessário.
+     */
+    public static SoundBuffer fromPcm(short[] samples, int channels, float sampleRate) {
+        if (sampleRate == AudioMixer.SAMPLE_RATE || sampleRate <= 0 || samples.length < channels * 2) {
+            return new SoundBuffer(samples, channels);
+        }
+        final int frames = samples.length / channels;
+        final double step = sampleRate / AudioMixer.SAMPLE_RATE;
+        final int outFrames = (int) ((frames - 1) / step) + 1;
+        short[] out = new short[outFrames * channels];
+        for (int f = 0; f < outFrames; f++) {
+            double source = f * step;
+            int i = (int) source;
+            double frac = source - i;
+            int next = Math.min(i + 1, frames - 1);
+            for (int c = 0; c < channels; c++) {
+                int a = samples[i * channels + c];
+                int b = samples[next * channels + c];
+                out[f * channels + c] = (short) Math.round(a + (b - a) * frac);
+            }
+        }
+        return new SoundBuffer(out, channels);
+    }
+
+    /**
+     * Versão mono do buffer (média dos dois canais). Buffers mono retornam a si mesmos.
+     */
+    public SoundBuffer toMono() {
+        if (channels == 1) return this;
+        short[] mono = new short[frames];
+        for (int f = 0; f < frames; f++) {
+            mono[f] = (short) ((samples[f * 2] + samples[f * 2 + 1]) >> 1);
+        }
+        return new SoundBuffer(mono, 1);
+    }
+
+    /**
+     * Limita quantas cópias deste som tocam ao mesmo tempo no mixer; ao passar do
+     * limite, uma cópia anterior é roubada (ex.: tiros em sequência não ocupam
+     * todas as vozes). 0 significa sem limite próprio.
+     */
+    public void setMaxPolyphony(int maxPolyphony) {
+        if (maxPolyphony < 0) {
+            throw new IllegalArgumentException("O limite de polifonia não pode ser negativo");
+        }
+        this.maxPolyphony = maxPolyphony;
+    }
+
+    public int getMaxPolyphony() {
+        return maxPolyphony;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getFrames() {
+        return frames;
+    }
+
+    public double getDurationSeconds() {
+        return frames / (double) AudioMixer.SAMPLE_RATE;
+    }
+
+    /** @return Memória ocupada pelas amostras, em bytes */
+    public long getMemoryBytes() {
+        return samples.length * 2L;
+    }
+
+    short[] samples() {
+        return samples;
+    }
+}
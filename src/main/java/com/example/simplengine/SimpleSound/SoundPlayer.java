@@ -1,27 +1,34 @@
 package com.example.simplengine.SimpleSound;
 
-import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CompletionException;
 
 import javax.sound.sampled.AudioInputStream;
-import javax.sound.sampled.AudioSystem;
-import javax.sound.sampled.Clip;
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
-
-import javazoom.jl.player.Player;
 
 public abstract class SoundPlayer {
 
-    private static Map<String, String> loadedMp3Paths = new HashMap<>();
-    private static Map<String, Clip> loadedWavClips = new HashMap<>();
+    /** Handle retornado quando um som não pôde ser carregado */
+    public static final int INVALID_HANDLE = SoundRegistry.INVALID_HANDLE;
+
+    // Sons pré-carregados; seguro para threads de carregamento e a do jogo ao mesmo tempo
+    private static final SoundRegistry registry = new SoundRegistry();
+
+    // Sons decodificados uma única vez e tocados pelo AudioMixer
+    private static final PcmCache pcmCache = new PcmCache();
+
+    /**
+     * Cache de sons decodificados, para ajustar o limite de memória ou o modo mono.
+     */
+    public static PcmCache getPcmCache() {
+        return pcmCache;
+    }
     
     /**
-     * Toca um arquivo de áudio (suporta MP3 e WAV)
+     * Toca um arquivo de áudio (suporta MP3 e WAV). Feito para efeitos curtos:
+     * o arquivo é decodificado inteiro antes de tocar. Para músicas e faixas
+     * longas use {@link #playMusic}, que toca em streaming.
      * @param filePath Caminho do arquivo de áudio
      */
     public static void playSound(String filePath) {
@@ -32,13 +39,9 @@ public abstract class SoundPlayer {
         
         String lowerPath = filePath.toLowerCase();
         
-        // Se for MP3
-        if (lowerPath.endsWith(".mp3")) {
-            playMp3(filePath);
-        } 
-        // Se for WAV
-        else if (lowerPath.endsWith(".wav")) {
-            playWav(filePath);
+        // MP3 ou WAV: decodificado uma vez e guardado no cache
+        if (lowerPath.endsWith(".mp3") || lowerPath.endsWith(".wav")) {
+            playCached(filePath);
         } 
         else {
             System.err.println("SoundPlayer error: Unsupported audio format. Use .mp3 or .wav");
@@ -46,103 +49,335 @@ public abstract class SoundPlayer {
     }
     
     /**
-     * Toca um arquivo MP3 em uma thread separada
-     * @param filePath Caminho do arquivo MP3
+     * Toca um arquivo pelo AudioMixer. Se já estiver no cache toca na hora; senão
+     * toca assim que a decodificação em segundo plano terminar, sem ler o
+     * arquivo na thread do jogo.
+     * @param filePath Caminho do arquivo MP3 ou WAV
      */
-    private static void playMp3(String filePath) {
-        Thread mp3Thread = new Thread(() -> {
-            try {
-                FileInputStream fis = new FileInputStream(filePath);
-                BufferedInputStream bis = new BufferedInputStream(fis);
-                Player player = new Player(bis);
-                player.play();
-                bis.close();
-                fis.close();
-            } catch (Exception e) {
-                System.err.println("SoundPlayer error: " + e.getMessage());
+    private static void playCached(String filePath) {
+        pcmCache.load(filePath).whenComplete((buffer, error) -> {
+            if (error != null) {
+                reportDecodeError(error);
+            } else {
+                AudioMixer.getInstance().play(buffer);
             }
         });
-        mp3Thread.start();
+    }
+
+    /**
+     * Toca sem alterar o buffer, que pode ser compartilhado por vários nomes
+     * (mesmo MP3 no cache) ou ter um limite próprio.
+     * @param polyphony Limite do nome no registro; 0 usa o do próprio buffer
+     * @param x Posição no mundo, ou NaN para um som sem posição
+     */
+    private static void play(SoundBuffer buffer, int polyphony, float x, float y) {
+        final int limit = polyphony > 0 ? polyphony : buffer.getMaxPolyphony();
+        if (Float.isNaN(x)) {
+            AudioMixer.getInstance().play(buffer, 1f, 0f, false, limit);
+        } else {
+            AudioMixer.getInstance().playAt(buffer, x, y, 1f, false, limit);
+        }
+    }
+
+    private static void reportDecodeError(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        System.err.println("SoundPlayer error: " + cause.getMessage());
     }
     
     /**
-     * Toca um arquivo WAV
-     * @param filePath Caminho do arquivo WAV
+     * Toca uma música MP3 em streaming no canal de música, substituindo a atual.
+     * Indicado para faixas longas: a música não é decodificada inteira na memória.
+     * @param filePath Caminho do arquivo MP3
+     * @param loop Se true, repete sem intervalo até ser parada
      */
-    private static void playWav(String filePath) {
-        try {
-            File audioFile = new File(filePath);
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
-            clip.start();
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            System.err.println("SoundPlayer error: " + e.getMessage());
+    public static void playMusic(String filePath, boolean loop) {
+        crossfadeMusic(filePath, loop, 0f);
+    }
+
+    /**
+     * Troca a música atual por outra com crossfade.
+     * @param filePath Caminho do arquivo MP3
+     * @param loop Se true, repete sem intervalo até ser parada
+     * @param seconds Duração do crossfade
+     */
+    public static void crossfadeMusic(String filePath, boolean loop, float seconds) {
+        if (filePath == null) {
+            System.err.println("SoundPlayer error: File path cannot be null");
+            return;
+        }
+        if (!filePath.toLowerCase().endsWith(".mp3")) {
+            System.err.println("SoundPlayer error: Music must be an .mp3 file");
+            return;
         }
+        AudioMixer.getInstance().getMusic().crossfade(filePath, loop, seconds);
+    }
+
+    /**
+     * Para a música, diminuindo o volume ao longo de {@code fadeSeconds}.
+     */
+    public static void stopMusic(float fadeSeconds) {
+        AudioMixer.getInstance().getMusic().fadeOut(fadeSeconds);
     }
 
     /**
      * Pré-carrega um arquivo de áudio (MP3 ou WAV)
      * @param soundName Identificador do som
      * @param filePath Caminho do arquivo de áudio
+     * @return Handle do som para {@link #playLoadedSound(int)}, ou
+     *         {@link #INVALID_HANDLE} em caso de erro. Recarregar o mesmo nome
+     *         mantém o handle.
      */
-    public static void loadSound(String soundName, String filePath) {
+    public static int loadSound(String soundName, String filePath) {
         if (soundName == null) {
             System.err.println("SoundPlayer error: Sound name cannot be null");
-            return;
+            return INVALID_HANDLE;
         }
         
         if (filePath == null) {
             System.err.println("SoundPlayer error: File path cannot be null");
-            return;
+            return INVALID_HANDLE;
         }
         
         String lowerPath = filePath.toLowerCase();
         
-        // Se for MP3, armazena o caminho
+        // Se for MP3, registra o caminho e já começa a decodificar em segundo plano
         if (lowerPath.endsWith(".mp3")) {
-            loadedMp3Paths.put(soundName, filePath);
+            decode(registerCached(soundName, filePath, null), false, Float.NaN, Float.NaN);
+            return registry.getHandle(soundName);
         } 
-        // Se for WAV, carrega o Clip
+        // Se for WAV, decodifica agora (ou reaproveita o cache) para reportar erros na hora
         else if (lowerPath.endsWith(".wav")) {
             try {
-                File audioFile = new File(filePath);
-                AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
-                Clip clip = AudioSystem.getClip();
-                clip.open(audioStream);
-                loadedWavClips.put(soundName, clip);
-            } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
+                registerCached(soundName, filePath, pcmCache.loadNow(filePath));
+                return registry.getHandle(soundName);
+            } catch (IOException e) {
                 System.err.println("SoundPlayer error: " + e.getMessage());
+                return INVALID_HANDLE;
             }
         } 
         else {
             System.err.println("SoundPlayer error: Unsupported audio format. Use .mp3 or .wav");
+            return INVALID_HANDLE;
+        }
+    }
+
+    /**
+     * Decodifica o arquivo de um som registrado pelo cache e guarda uma
+     * referência fraca ao resultado, para os próximos plays não precisarem do cache.
+     */
+    private static void decode(SoundRegistry.Sound sound, boolean playWhenReady, float x, float y) {
+        final SoundRegistry.State state = sound.state();
+        final int polyphony = sound.maxPolyphony;
+        pcmCache.load(state.path()).whenComplete((buffer, error) -> {
+            if (error != null) {
+                reportDecodeError(error);
+                return;
+            }
+            sound.attachDecoded(state, buffer);
+            if (playWhenReady) {
+                play(buffer, polyphony, x, y);
+            }
+        });
+    }
+
+    /**
+     * Registra um som lido de um arquivo. O buffer fica só no PcmCache, que
+     * decide quanto tempo mantê-lo; o registro guarda uma referência fraca.
+     */
+    private static SoundRegistry.Sound registerCached(String soundName, String filePath, SoundBuffer decoded) {
+        SoundRegistry.Sound sound = registry.register(soundName);
+        sound.set(new SoundRegistry.State(filePath, true, null, decoded != null ? new WeakReference<>(decoded) : null));
+        return sound;
+    }
+
+    /**
+     * Registra um som sem arquivo de origem. Sem como decodificá-lo de novo, o
+     * registro mantém o buffer em memória, fora do limite do PcmCache.
+     */
+    private static void registerBuffer(String soundName, SoundBuffer buffer) {
+        registry.register(soundName).set(new SoundRegistry.State(null, false, buffer, null));
+    }
+
+    /**
+     * Pré-carrega um som a partir de um stream já decodificado em memória.
+     * Usado pelo AssetManager para sons de pacotes. O som fica em memória
+     * enquanto o nome estiver registrado e não conta no limite do PcmCache.
+     * @param soundName Identificador do som
+     * @param audioStream Stream de áudio PCM
+     */
+    public static void loadDecodedSound(String soundName, AudioInputStream audioStream) {
+        if (soundName == null) {
+            System.err.println("SoundPlayer error: Sound name cannot be null");
+            return;
+        }
+
+        if (audioStream == null) {
+            System.err.println("SoundPlayer error: Audio stream cannot be null");
+            return;
+        }
+
+        try {
+            registerBuffer(soundName, SoundBuffer.fromStream(audioStream));
+        } catch (IOException e) {
+            System.err.println("SoundPlayer error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pré-carrega um som já convertido para o mixer. Como o som a partir de um
+     * stream, fica em memória fora do limite do PcmCache.
+     * @param soundName Identificador do som
+     * @param buffer Som decodificado
+     */
+    public static void loadDecodedSound(String soundName, SoundBuffer buffer) {
+        if (soundName == null || buffer == null) {
+            System.err.println("SoundPlayer error: Sound name and buffer cannot be null");
+            return;
+        }
+        registerBuffer(soundName, buffer);
+    }
+
+    /**
+     * Pré-carrega um arquivo MP3 ou WAV já decodificado, colocando-o no cache
+     * de PCM. Usado pelo AssetManager, que decodifica o arquivo fora da thread
+     * do jogo. Como em {@link #loadSound}, o som segue o limite do cache.
+     * @param soundName Identificador do som
+     * @param filePath Caminho do arquivo
+     * @param buffer Som decodificado
+     */
+    public static void loadDecodedFile(String soundName, String filePath, SoundBuffer buffer) {
+        if (soundName == null || filePath == null || buffer == null) {
+            System.err.println("SoundPlayer error: Sound name, path and buffer cannot be null");
+            return;
+        }
+        pcmCache.put(filePath, buffer);
+        registerCached(soundName, filePath, buffer);
+    }
+
+    /**
+     * @return Handle de um som carregado, ou {@link #INVALID_HANDLE} se o nome
+     *         nunca foi carregado
+     */
+    public static int getSoundHandle(String soundName) {
+        return registry.getHandle(soundName);
+    }
+
+    /**
+     * @return true se há um som carregado com esse nome
+     */
+    public static boolean isSoundLoaded(String soundName) {
+        SoundRegistry.Sound sound = registry.get(registry.getHandle(soundName));
+        return sound != null && sound.state().isLoaded();
+    }
+
+    /**
+     * Limita quantas cópias de um som carregado tocam ao mesmo tempo. Ao passar
+     * do limite, a cópia mais antiga é interrompida. O limite fica no registro,
+     * não no buffer: nomes que compartilham um MP3 têm limites independentes.
+     * Pode ser chamado antes de {@link #loadSound}; o nome só ganha handle ao
+     * ser carregado.
+     * @param soundName Identificador do som
+     * @param limit Máximo de cópias simultâneas (0 = usa o limite do buffer, se houver)
+     */
+    public static void setMaxPolyphony(String soundName, int limit) {
+        if (soundName == null) {
+            System.err.println("SoundPlayer error: Sound name cannot be null");
+            return;
         }
+        if (limit < 0) {
+            System.err.println("SoundPlayer error: Polyphony limit cannot be negative");
+            return;
+        }
+        registry.setMaxPolyphony(soundName, limit);
     }
 
     /**
-     * Reproduz um som previamente carregado (MP3 ou WAV)
+     * Reproduz um som previamente carregado (MP3 ou WAV). Chamadas seguidas
+     * tocam cópias sobrepostas do som, sem interromper as anteriores.
      * @param soundName Identificador do som
      */
     public static void playLoadedSound(String soundName) {
-        // Verifica se é um MP3 carregado
-        String mp3Path = loadedMp3Paths.get(soundName);
-        if (mp3Path != null) {
-            playMp3(mp3Path);
+        int handle = registry.getHandle(soundName);
+        if (handle == INVALID_HANDLE) {
+            System.err.println("SoundPlayer error: Sound not loaded - " + soundName);
             return;
         }
-        
-        // Verifica se é um WAV carregado
-        Clip wavClip = loadedWavClips.get(soundName);
-        if (wavClip != null) {
-            if (wavClip.isRunning()) {
-                wavClip.stop();
+        playLoadedSound(handle);
+    }
+
+    /**
+     * Reproduz um som pelo handle devolvido em {@link #loadSound}. É só um acesso
+     * a array, sem procurar o nome.
+     * @param handle Handle do som
+     */
+    public static void playLoadedSound(int handle) {
+        playLoaded(handle, Float.NaN, Float.NaN);
+    }
+
+    /**
+     * Reproduz um som carregado numa posição do mundo. O volume e o pan
+     * dependem da distância até a câmera (veja {@link AudioMixer#playAt}).
+     * @param soundName Identificador do som
+     * @param x Posição X no mundo
+     * @param y Posição Y no mundo
+     */
+    public static void playLoadedSoundAt(String soundName, float x, float y) {
+        int handle = registry.getHandle(soundName);
+        if (handle == INVALID_HANDLE) {
+            System.err.println("SoundPlayer error: Sound not loaded - " + soundName);
+            return;
+        }
+        playLoadedSoundAt(handle, x, y);
+    }
+
+    /**
+     * Reproduz um som carregado, pelo handle, numa posição do mundo.
+     */
+    public static void playLoadedSoundAt(int handle, float x, float y) {
+        if (Float.isNaN(x) || Float.isNaN(y)) {
+            System.err.println("SoundPlayer error: Sound position cannot be NaN");
+            return;
+        }
+        playLoaded(handle, x, y);
+    }
+
+    private static void playLoaded(int handle, float x, float y) {
+        SoundRegistry.Sound sound = registry.get(handle);
+        if (sound == null) {
+            System.err.println("SoundPlayer error: Invalid sound handle - " + handle);
+            return;
+        }
+
+        // Som sem arquivo de origem, mantido pelo registro
+        SoundRegistry.State state = sound.state();
+        SoundBuffer buffer = state.buffer();
+        if (buffer != null) {
+            play(buffer, sound.maxPolyphony, x, y);
+            return;
+        }
+
+        // Arquivo: usa o buffer decodificado enquanto o cache o mantiver; senão decodifica de novo
+        if (state.cached()) {
+            WeakReference<SoundBuffer> decoded = state.decoded();
+            buffer = decoded != null ? decoded.get() : null;
+            if (buffer != null) {
+                play(buffer, sound.maxPolyphony, x, y);
+            } else {
+                decode(sound, true, x, y);
             }
-            wavClip.setFramePosition(0);
-            wavClip.start();
             return;
         }
-        
-        System.err.println("SoundPlayer error: Sound not loaded - " + soundName);
+
+        System.err.println("SoundPlayer error: Sound not loaded - " + sound.name);
+    }
+
+    /**
+     * Registro interno, usado pelos testes.
+     */
+    static SoundRegistry registry() {
+        return registry;
     }
 }
@@ -0,0 +1,148 @@
+package com.example.simplengine.SimpleSound;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro dos sons carregados pelo {@link SoundPlayer}. Cada nome recebe um
+ * handle inteiro fixo no primeiro carregamento; recarregar o mesmo nome
+ * reaproveita o handle.
+ *
+ * Leituras não usam locks: o handle é um índice num array copiado a cada
+ * crescimento (copy-on-write) e publicado por um campo volatile, e o nome é
+ * resolvido num ConcurrentHashMap. Só quem registra sons sincroniza.
+ */
+final class SoundRegistry {
+
+    static final int INVALID_HANDLE = -1;
+
+    /**
+     * O que um carregamento define para um som. É imutável: recarregar troca o
+     * estado inteiro de uma vez, então quem toca nunca vê um caminho novo com o
+     * buffer antigo, nem um som sem buffer no meio de uma troca.
+     * @param path Arquivo de origem, ou null se veio de um stream
+     * @param cached Se true, o som fica no PcmCache e é decodificado de novo
+     *        a partir de {@code path} se o cache o descartar
+     * @param buffer Som mantido pelo próprio registro (stream ou pacote), ou null
+     * @param decoded Som decodificado, enquanto o PcmCache ainda o mantém em memória
+     */
+    record State(String path, boolean cached, SoundBuffer buffer, WeakReference<SoundBuffer> decoded) {
+
+        static final State EMPTY = new State(null, false, null, null);
+
+        /** @return true se há algo para tocar */
+        boolean isLoaded() {
+            return buffer != null || cached;
+        }
+    }
+
+    /** Um som registrado. O estado é trocado inteiro quando o som é recarregado. */
+    static final class Sound {
+        final String name;
+        private volatile State state = State.EMPTY;
+        volatile int maxPolyphony;
+
+        Sound(String name) {
+            this.name = name;
+        }
+
+        /** @return O estado atual, lido de uma vez só */
+        State state() {
+            return state;
+        }
+
+        synchronized void set(State next) {
+            state = next;
+        }
+
+        /**
+         * Guarda o som decodificado, se o som não foi recarregado desde que a
+         * decodificação começou.
+         * @param expected Estado lido antes de decodificar
+         */
+        synchronized void attachDecoded(State expected, SoundBuffer decoded) {
+            if (state == expected) {
+                state = new State(expected.path(), expected.cached(), expected.buffer(), new WeakReference<>(decoded));
+            }
+        }
+    }
+
+    private final Map<String, Integer> handles = new ConcurrentHashMap<>();
+    // Limites definidos antes do nome ser carregado
+    private final Map<String, Integer> pendingLimits = new HashMap<>();
+    private volatile Sound[] sounds = new Sound[16];
+    private int count;
+
+    /**
+     * Retorna o som do nome dado, registrando-o se ainda não existir.
+     */
+    synchronized Sound register(String name) {
+        Integer existing = handles.get(name);
+        if (existing != null) {
+            return sounds[existing];
+        }
+        Sound[] current = sounds;
+        if (count == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        Sound sound = new Sound(name);
+        Integer limit = pendingLimits.remove(name);
+        if (limit != null) {
+            sound.maxPolyphony = limit;
+        }
+        current[count] = sound;
+        // O array é publicado antes do nome, então quem acha o handle acha o som.
+        sounds = current;
+        handles.put(name, count);
+        count++;
+        return sound;
+    }
+
+    /**
+     * Define o limite de polifonia de um nome sem registrá-lo: se o nome ainda
+     * não foi carregado, o limite é aplicado quando for.
+     */
+    synchronized void setMaxPolyphony(String name, int limit) {
+        Integer existing = handles.get(name);
+        if (existing != null) {
+            sounds[existing].maxPolyphony = limit;
+        } else {
+            pendingLimits.put(name, limit);
+        }
+    }
+
+    /**
+     * @return O handle do nome, ou {@link #INVALID_HANDLE} se nunca foi registrado
+     */
+    int getHandle(String name) {
+        if (name == null) return INVALID_HANDLE;
+        Integer handle = handles.get(name);
+        return handle != null ? handle : INVALID_HANDLE;
+    }
+
+    /**
+     * @return O som do handle, ou null se o handle não for válido
+     */
+    Sound get(int handle) {
+        Sound[] current = sounds;
+        return handle >= 0 && handle < current.length ? current[handle] : null;
+    }
+
+    /** @return Quantos nomes estão registrados */
+    int size() {
+        return handles.size();
+    }
+
+    /**
+     * Esquece todos os sons; handles já distribuídos deixam de valer.
+     */
+    synchronized void clear() {
+        handles.clear();
+        pendingLimits.clear();
+        sounds = new Sound[16];
+        count = 0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Saída que grava o áudio mixado num arquivo WAV, para conferir o resultado
+ * do mixer sem placa de som. Os tamanhos do cabeçalho são preenchidos ao fechar.
+ */
+public final class WavFileAudioOutput implements AudioOutput {
+
+    private static final int HEADER_SIZE = 44;
+
+    private final Path path;
+    private RandomAccessFile file;
+    private long dataBytes;
+
+    public WavFileAudioOutput(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("O caminho não pode ser nulo");
+        }
+        this.path = path;
+    }
+
+    @Override
+    public void open(AudioFormat format, int blockFrames) throws IOException {
+        if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED || format.isBigEndian()) {
+            throw new IOException("WavFileAudioOutput só grava PCM little-endian: " + format);
+        }
+        file = new RandomAccessFile(path.toFile(), "rw");
+        file.setLength(0);
+        dataBytes = 0;
+        byte[] header = new byte[HEADER_SIZE];
+        writeAscii(header, 0, "RIFF");
+        writeAscii(header, 8, "WAVE");
+        writeAscii(header, 12, "fmt ");
+        writeInt(header, 16, 16);
+        writeShort(header, 20, 1);
+        writeShort(header, 22, format.getChannels());
+        writeInt(header, 24, (int) format.getSampleRate());
+        writeInt(header, 28, (int) format.getSampleRate() * format.getFrameSize());
+        writeShort(header, 32, format.getFrameSize());
+        writeShort(header, 34, format.getSampleSizeInBits());
+        writeAscii(header, 36, "data");
+        file.write(header);
+    }
+
+    @Override
+    public void write(byte[] data, int length) throws IOException {
+        file.write(data, 0, length);
+        dataBytes += length;
+    }
+
+    @Override
+    public void close() {
+        if (file == null) return;
+        try {
+            byte[] size = new byte[4];
+            writeInt(size, 0, (int) (HEADER_SIZE - 8 + dataBytes));
+            file.seek(4);
+            file.write(size);
+            writeInt(size, 0, (int) dataBytes);
+            file.seek(40);
+            file.write(size);
+            file.close();
+        } catch (IOException e) {
+            System.err.println("WavFileAudioOutput error: " + e.getMessage());
+        }
+        file = null;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /** @return Bytes de áudio gravados até agora (sem o cabeçalho) */
+    public long getDataBytes() {
+        return dataBytes;
+    }
+
+    private static void writeAscii(byte[] target, int offset, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            target[offset + i] = (byte) text.charAt(i);
+        }
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >> 8);
+        target[offset + 2] = (byte) (value >> 16);
+        target[offset + 3] = (byte) (value >> 24);
+    }
+
+    private static void writeShort(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >> 8);
+    }
+}
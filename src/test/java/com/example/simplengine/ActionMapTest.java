@@ -0,0 +1,155 @@
+package com.example.simplengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.Inputs.ActionMap;
+import com.example.simplengine.Inputs.InputManager;
+import com.example.simplengine.Inputs.Keys;
+import com.example.simplengine.Inputs.MouseManager;
+
+import java.awt.Canvas;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.util.EnumSet;
+
+public class ActionMapTest {
+
+    private final Canvas source = new Canvas();
+
+    private InputManager input;
+    private MouseManager mouse;
+    private KeyListener keys;
+    private ActionMap actions;
+
+    @BeforeEach
+    void setUp() {
+        input = InputManager.getInstance();
+        mouse = MouseManager.getInstance();
+        keys = input.getKeyListener();
+
+        // Solta teclas e botões que outros testes deixaram pressionados
+        for (Keys key : Keys.values()) {
+            release(key);
+        }
+        mouse.mouseReleased(mouseEvent(MouseEvent.MOUSE_RELEASED, MouseEvent.BUTTON1));
+        mouse.mouseReleased(mouseEvent(MouseEvent.MOUSE_RELEASED, MouseEvent.BUTTON2));
+        mouse.mouseReleased(mouseEvent(MouseEvent.MOUSE_RELEASED, MouseEvent.BUTTON3));
+        input.poll();
+        input.update();
+
+        actions = new ActionMap();
+    }
+
+    @Test
+    void action_anyBoundKey_activatesIt() {
+        int up = actions.bind("up", Keys.W, Keys.ARROW_UP);
+
+        press(Keys.ARROW_UP);
+        input.poll();
+
+        assertTrue(actions.isDown("up"));
+        assertTrue(actions.isDown(up));
+        assertTrue(actions.isPressed(up));
+        assertFalse(actions.isReleased(up));
+
+        press(Keys.W);
+        release(Keys.ARROW_UP);
+        input.poll();
+
+        assertTrue(actions.isDown(up), "W ainda segura a ação");
+        assertTrue(actions.isPressed(up), "Apertar W conta como novo aperto");
+        assertTrue(actions.isReleased(up));
+    }
+
+    @Test
+    void rebind_recompilesMasks() {
+        int jump = actions.bind("jump", Keys.SPACE);
+        assertEquals(jump, actions.bind("jump", Keys.ENTER), "Religar mantém o id");
+
+        press(Keys.SPACE);
+        input.poll();
+        assertFalse(actions.isDown(jump), "SPACE não está mais ligada");
+
+        press(Keys.ENTER);
+        input.poll();
+        assertTrue(actions.isDown(jump));
+
+        actions.removeKey("jump", Keys.ENTER);
+        assertFalse(actions.isDown(jump));
+
+        actions.addKey("jump", Keys.SPACE);
+        assertTrue(actions.isDown(jump));
+        assertEquals(EnumSet.of(Keys.SPACE), actions.getKeys("jump"));
+
+        actions.unbind("jump");
+        assertFalse(actions.isDown(jump));
+    }
+
+    @Test
+    void mouseButtons_countAsDown() {
+        int fire = actions.bind("fire", Keys.CTRL);
+        actions.bindMouse("fire", MouseManager.BUTTON_LEFT | MouseManager.BUTTON_RIGHT);
+
+        mouse.mousePressed(mouseEvent(MouseEvent.MOUSE_PRESSED, MouseEvent.BUTTON3));
+        assertTrue(actions.isDown(fire));
+        assertEquals(MouseManager.BUTTON_RIGHT, mouse.getButtonMask());
+        assertTrue(mouse.isRightPressed());
+
+        mouse.mousePressed(mouseEvent(MouseEvent.MOUSE_PRESSED, MouseEvent.BUTTON2));
+        mouse.mouseReleased(mouseEvent(MouseEvent.MOUSE_RELEASED, MouseEvent.BUTTON3));
+        assertFalse(actions.isDown(fire), "O botão do meio não está ligado");
+        assertTrue(mouse.isMiddlePressed());
+
+        mouse.mouseReleased(mouseEvent(MouseEvent.MOUSE_RELEASED, MouseEvent.BUTTON2));
+        assertEquals(0, mouse.getButtonMask());
+    }
+
+    @Test
+    void axis_combinesBothSides() {
+        actions.bindAxis("move_x", new Keys[] {Keys.A, Keys.ARROW_LEFT}, new Keys[] {Keys.D, Keys.ARROW_RIGHT});
+
+        assertEquals(0f, actions.getAxis("move_x"));
+
+        press(Keys.ARROW_LEFT);
+        input.poll();
+        assertEquals(-1f, actions.getAxis("move_x"));
+
+        press(Keys.D);
+        input.poll();
+        assertEquals(0f, actions.getAxis("move_x"), "Os dois lados se anulam");
+
+        release(Keys.ARROW_LEFT);
+        input.poll();
+        assertEquals(1f, actions.getAxis("move_x"));
+
+        actions.bindAxis("move_x", new Keys[] {Keys.D}, new Keys[] {Keys.A});
+        assertEquals(-1f, actions.getAxis("move_x"), "Religar inverte o eixo");
+    }
+
+    @Test
+    void unknownNames_areInactive() {
+        assertEquals(ActionMap.INVALID_ACTION, actions.getActionId("nada"));
+        assertFalse(actions.isDown("nada"));
+        assertFalse(actions.isPressed(ActionMap.INVALID_ACTION));
+        assertFalse(actions.isReleased(42));
+        assertEquals(0f, actions.getAxis("nada"));
+    }
+
+    private void press(Keys key) {
+        keys.keyPressed(new KeyEvent(source, KeyEvent.KEY_PRESSED, System.currentTimeMillis(), 0,
+            key.getKeyCode(), KeyEvent.CHAR_UNDEFINED));
+    }
+
+    private void release(Keys key) {
+        keys.keyReleased(new KeyEvent(source, KeyEvent.KEY_RELEASED, System.currentTimeMillis(), 0,
+            key.getKeyCode(), KeyEvent.CHAR_UNDEFINED));
+    }
+
+    private MouseEvent mouseEvent(int id, int button) {
+        return new MouseEvent(source, id, System.currentTimeMillis(), 0, 0, 0, 1, false, button);
+    }
+}
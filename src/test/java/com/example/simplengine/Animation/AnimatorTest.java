@@ -0,0 +1,93 @@
+package com.example.simplengine.Animation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.GameObjects.SpriteObject;
+
+public class AnimatorTest {
+
+    private static final int[] COLORS = { 0xFFFF0000, 0xFF00FF00, 0xFF0000FF, 0xFFFFFF00 };
+
+    private BufferedImage sheet;
+
+    @BeforeEach
+    void setUp() {
+        // Grade 2x2 de quadros 8x8, cada um de uma cor
+        sheet = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        for (int i = 0; i < 4; i++) {
+            g.setColor(new java.awt.Color(COLORS[i], true));
+            g.fillRect((i % 2) * 8, (i / 2) * 8, 8, 8);
+        }
+        g.dispose();
+    }
+
+    @Test
+    void animationClip_fromGrid_computesRegionsInReadingOrder() {
+        AnimationClip clip = AnimationClip.fromGrid(sheet, 8, 8, 10, true);
+        assertEquals(4, clip.getFrameCount());
+        assertEquals(8, clip.getFrameX(1));
+        assertEquals(0, clip.getFrameY(1));
+        assertEquals(0, clip.getFrameX(2));
+        assertEquals(8, clip.getFrameY(2));
+        assertEquals(0.4, clip.getDuration(), 1e-9);
+    }
+
+    @Test
+    void animationClip_invalidRegion_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AnimationClip(sheet, new int[] { 10, 10, 8, 8 }, 10, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> AnimationClip.fromGrid(sheet, 8, 8, 2, 3, 10, true));
+    }
+
+    @Test
+    void animator_update_loopsAndClampsByClip() {
+        Animator looping = new Animator(AnimationClip.fromGrid(sheet, 8, 8, 10, true));
+        looping.update(0.25);
+        assertEquals(2, looping.getFrame());
+        looping.update(0.2);
+        assertEquals(0, looping.getFrame(), "Deve voltar ao início depois de 0.4s");
+
+        Animator once = new Animator(AnimationClip.fromGrid(sheet, 8, 8, 10, false));
+        once.update(1.0);
+        assertEquals(3, once.getFrame());
+        assertTrue(once.isFinished());
+    }
+
+    @Test
+    void animator_play_sameClipDoesNotRestart() {
+        AnimationClip run = AnimationClip.fromGrid(sheet, 8, 8, 10, true);
+        AnimationClip idle = AnimationClip.fromGrid(sheet, 8, 8, 0, 1, 10, true);
+        Animator animator = new Animator(run);
+        animator.update(0.15);
+        animator.play(run);
+        assertEquals(1, animator.getFrame());
+
+        animator.play(idle);
+        assertEquals(0, animator.getFrame());
+        assertSame(idle, animator.getClip());
+    }
+
+    @Test
+    void spriteObject_withAnimator_drawsCurrentFrameRegion() throws Exception {
+        AnimationClip clip = AnimationClip.fromGrid(sheet, 8, 8, 10, true);
+        SpriteObject sprite = new SpriteObject(0, 0);
+        sprite.play(clip);
+        assertEquals(8, sprite.getWidth(), "Sem tamanho definido, usa o tamanho do quadro");
+
+        sprite.update(0.35);
+        BufferedImage target = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        sprite.render(g);
+        g.dispose();
+
+        assertEquals(COLORS[3], target.getRGB(4, 4));
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.simplengine.Assets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AssetManagerTest {
+
+    @TempDir
+    File tempDir;
+
+    private AssetManager assets;
+    private File imageFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        assets = new AssetManager(2);
+        imageFile = new File(tempDir, "asset.png");
+        ImageIO.write(new BufferedImage(32, 16, BufferedImage.TYPE_INT_ARGB), "png", imageFile);
+    }
+
+    @AfterEach
+    void tearDown() {
+        assets.shutdown();
+    }
+
+    private void waitUntilFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (assets.getFinishedCount() < assets.getRequestedCount() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void assetManager_loadImage_publishesOnUpdate() throws Exception {
+        AssetHandle<BufferedImage> handle = assets.loadImage(imageFile.getAbsolutePath());
+        waitUntilFinished();
+
+        assertNull(handle.get(), "A imagem só deve aparecer depois do update");
+        assertFalse(handle.getFuture().isDone(), "O future só completa no update");
+        assertEquals(1, assets.update());
+
+        assertTrue(handle.isReady());
+        assertSame(handle.get(), handle.getFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(32, handle.get().getWidth());
+        assertEquals(16, handle.get().getHeight());
+    }
+
+    @Test
+    void assetManager_loadImage_samePathReturnsSameHandle() {
+        AssetHandle<BufferedImage> first = assets.loadImage(imageFile.getAbsolutePath());
+        AssetHandle<BufferedImage> second = assets.loadImage(imageFile.getAbsolutePath());
+        assertSame(first, second);
+        assertEquals(1, assets.getRequestedCount(), "Pedidos repetidos não devem carregar de novo");
+    }
+
+    @Test
+    void assetManager_onLoad_runsOnUpdateThread() throws Exception {
+        AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        AssetHandle<BufferedImage> handle = assets.loadImage(imageFile.getAbsolutePath());
+        handle.onLoad(img -> callbackThread.set(Thread.currentThread()));
+
+        waitUntilFinished();
+        assets.update();
+
+        assertSame(Thread.currentThread(), callbackThread.get(), "Callback deve rodar na thread que chama update");
+    }
+
+    @Test
+    void assetManager_missingFile_reportsFailure() throws Exception {
+        AssetHandle<BufferedImage> handle = assets.loadImage(new File(tempDir, "missing.png").getAbsolutePath());
+        waitUntilFinished();
+        assets.update();
+
+        assertThrows(ExecutionException.class, () -> handle.getFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(handle.isFailed());
+        assertNotNull(handle.getError());
+        assertNull(handle.get());
+    }
+
+    @Test
+    void assetManager_soundRegistrationFails_failsFuture() throws Exception {
+        AssetHandle<String> handle = assets.loadSound("voice", new File(tempDir, "voice.ogg").getAbsolutePath());
+        waitUntilFinished();
+        assertFalse(handle.getFuture().isDone(), "O registro no SoundPlayer ainda não rodou");
+        assets.update();
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> handle.getFuture().get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertTrue(handle.isFailed());
+    }
+
+    @Test
+    void assetManager_progress_reachesOne() throws Exception {
+        assertEquals(1f, assets.getProgress(), 0.0001f, "Sem pedidos o progresso deve ser 1");
+        assets.loadImage(imageFile.getAbsolutePath());
+        waitUntilFinished();
+        assets.update();
+
+        assertEquals(1f, assets.getProgress(), 0.0001f);
+        assertTrue(assets.isIdle());
+    }
+
+    @Test
+    void assetManager_reloadImage_swapsOnUpdate() throws Exception {
+        AssetHandle<BufferedImage> handle = assets.loadImage(imageFile.getAbsolutePath());
+        waitUntilFinished();
+        assets.update();
+        BufferedImage first = handle.get();
+
+        ImageIO.write(new BufferedImage(8, 4, BufferedImage.TYPE_INT_ARGB), "png", imageFile);
+        assertTrue(assets.reloadImage(imageFile.getAbsolutePath()));
+        waitUntilFinished();
+
+        assertSame(first, handle.get(), "A troca só deve acontecer no update");
+        assets.update();
+        assertEquals(8, handle.get().getWidth());
+        assertFalse(assets.reloadImage("nao-carregada.png"));
+    }
+
+    @Test
+    void assetManager_hotReload_debouncesBurstOfWrites() throws Exception {
+        AssetHandle<BufferedImage> handle = assets.loadImage(imageFile.getAbsolutePath());
+        waitUntilFinished();
+        assets.update();
+        int requestedBefore = assets.getRequestedCount();
+
+        assets.setHotReload(true, 300);
+        assertTrue(assets.isHotReload());
+        for (int i = 0; i < 5; i++) {
+            ImageIO.write(new BufferedImage(10 + i, 4, BufferedImage.TYPE_INT_ARGB), "png", imageFile);
+        }
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (assets.getRequestedCount() == requestedBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(600);
+        waitUntilFinished();
+        assets.update();
+
+        assertEquals(requestedBefore + 1, assets.getRequestedCount(), "Várias escritas seguidas devem gerar uma recarga");
+        assertEquals(14, handle.get().getWidth());
+        assets.setHotReload(false);
+        assertFalse(assets.isHotReload());
+    }
+}
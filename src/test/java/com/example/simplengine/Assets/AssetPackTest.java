@@ -0,0 +1,186 @@
+package com.example.simplengine.Assets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.simplengine.SimpleSound.SoundPlayer;
+
+public class AssetPackTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path sourceDir;
+    private Path packFile;
+    private BufferedImage original;
+    private byte[] pcm;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sourceDir = Files.createDirectories(tempDir.resolve("assets/sprites"));
+
+        original = new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+        original.setRGB(0, 0, 0xFFFF0000);
+        original.setRGB(2, 1, 0x8000FF00);
+        ImageIO.write(original, "png", sourceDir.resolve("hero.png").toFile());
+
+        pcm = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+        AudioFormat format = new AudioFormat(8000f, 16, 1, true, false);
+        AudioInputStream stream = new AudioInputStream(new ByteArrayInputStream(pcm), format, pcm.length / 2);
+        AudioSystem.write(stream, AudioFileFormat.Type.WAVE, tempDir.resolve("assets/jump.wav").toFile());
+
+        Files.write(tempDir.resolve("assets/level.txt"), "level-1".getBytes(StandardCharsets.UTF_8));
+
+        packFile = tempDir.resolve("game.pack");
+        assertEquals(3, AssetPacker.pack(tempDir.resolve("assets"), packFile));
+    }
+
+    @Test
+    void assetPack_image_roundTripsPixels() throws IOException {
+        try (AssetPack pack = AssetPack.open(packFile)) {
+            assertEquals(AssetPack.EntryType.IMAGE, pack.getType("sprites/hero.png"));
+            BufferedImage image = pack.readImage("sprites/hero.png");
+
+            assertEquals(3, image.getWidth());
+            assertEquals(2, image.getHeight());
+            assertEquals(0xFFFF0000, image.getRGB(0, 0));
+            assertEquals(0x8000FF00, image.getRGB(2, 1));
+        }
+    }
+
+    @Test
+    void assetPack_wav_storesDecodedPcm() throws IOException {
+        try (AssetPack pack = AssetPack.open(packFile)) {
+            AudioFormat format = pack.getAudioFormat("jump.wav");
+            assertEquals(8000f, format.getSampleRate(), 0.01f);
+            assertEquals(16, format.getSampleSizeInBits());
+            assertEquals(1, format.getChannels());
+
+            try (AudioInputStream stream = pack.openAudio("jump.wav")) {
+                assertArrayEquals(pcm, stream.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    void assetPack_otherFiles_areStoredRaw() throws IOException {
+        try (AssetPack pack = AssetPack.open(packFile)) {
+            ByteBuffer data = pack.getData("level.txt");
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            assertEquals("level-1", new String(bytes, StandardCharsets.UTF_8));
+            assertEquals(AssetPack.EntryType.RAW, pack.getType("level.txt"));
+        }
+    }
+
+    @Test
+    void assetPack_missingEntry_throwsIOException() throws IOException {
+        try (AssetPack pack = AssetPack.open(packFile)) {
+            assertFalse(pack.contains("nope.png"));
+            assertThrows(IOException.class, () -> pack.readImage("nope.png"));
+        }
+    }
+
+    @Test
+    void assetPack_invalidFile_throwsIOException() throws IOException {
+        Path bogus = tempDir.resolve("bogus.pack");
+        Files.write(bogus, new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+        assertThrows(IOException.class, () -> AssetPack.open(bogus));
+    }
+
+    @Test
+    void assetPack_imageSizeMismatch_throwsIOExceptionWithEntryName() throws IOException {
+        byte[] bytes = Files.readAllBytes(packFile);
+        byte[] name = "sprites/hero.png".getBytes(StandardCharsets.UTF_8);
+        int at = indexOf(bytes, name);
+        // Depois do nome: tipo (1), offset (8), tamanho (8) e então a largura
+        ByteBuffer.wrap(bytes).putInt(at + name.length + 17, 300);
+        Path corrupt = tempDir.resolve("corrupt.pack");
+        Files.write(corrupt, bytes);
+
+        IOException error = assertThrows(IOException.class, () -> AssetPack.open(corrupt));
+        assertTrue(error.getMessage().contains("sprites/hero.png"));
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        throw new AssertionError("Padrão não encontrado");
+    }
+
+    @Test
+    void assetManager_mountedPack_servesImages() throws Exception {
+        AssetManager assets = new AssetManager(1);
+        try (AssetPack pack = AssetPack.open(packFile)) {
+            assets.mount("assets/", pack);
+            Files.delete(sourceDir.resolve("hero.png"));
+
+            AssetHandle<BufferedImage> handle = assets.loadImage("assets/sprites/hero.png");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (assets.update() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            BufferedImage image = handle.getFuture().get(5, TimeUnit.SECONDS);
+
+            assertEquals(0xFFFF0000, image.getRGB(0, 0), "Imagem deve vir do pacote, não do disco");
+        } finally {
+            assets.shutdown();
+        }
+    }
+
+    @Test
+    void assetManager_mountedPack_servesMp3s() throws Exception {
+        // Dez quadros MPEG-1 Layer III silenciosos (128 kbps, 44.1 kHz)
+        byte[] mp3 = new byte[417 * 10];
+        for (int f = 0; f < 10; f++) {
+            mp3[f * 417] = (byte) 0xFF;
+            mp3[f * 417 + 1] = (byte) 0xFB;
+            mp3[f * 417 + 2] = (byte) 0x90;
+        }
+        Path music = tempDir.resolve("assets/theme.mp3");
+        Files.write(music, mp3);
+        Path musicPack = tempDir.resolve("music.pack");
+        AssetPacker.pack(tempDir.resolve("assets"), musicPack);
+        Files.delete(music);
+
+        AssetManager assets = new AssetManager(1);
+        try (AssetPack pack = AssetPack.open(musicPack)) {
+            assertEquals(AssetPack.EntryType.RAW, pack.getType("theme.mp3"));
+            assets.mount("assets/", pack);
+
+            AssetHandle<String> handle = assets.loadSound("packedTheme", "assets/theme.mp3");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (assets.update() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            handle.getFuture().get(5, TimeUnit.SECONDS);
+
+            assertTrue(SoundPlayer.isSoundLoaded("packedTheme"), "MP3 deve vir do pacote, não do disco");
+        } finally {
+            assets.shutdown();
+        }
+    }
+}
@@ -453,4 +453,20 @@ public class SpriteTest {
         assertEquals(50, sprite.getWidth(), "Largura deve ser atualizada para 50");
         assertEquals(25, sprite.getHeight(), "Altura deve ser atualizada para 25");
     }
+
+    @Test
+    void sprite_selectImage_usesMipLevelWhenZoomedOut() {
+        BufferedImage img = new BufferedImage(128, 128, BufferedImage.TYPE_INT_ARGB);
+        SpriteObject sprite = new SpriteObject(img, 0, 0);
+
+        assertSame(img, sprite.selectImage(new java.awt.geom.AffineTransform(), 128, 128));
+
+        java.awt.geom.AffineTransform zoomedOut = java.awt.geom.AffineTransform.getScaleInstance(0.25, 0.25);
+        com.example.simplengine.Render.MipChain.of(img).build(img);  // como ao carregar a imagem
+        BufferedImage selected = sprite.selectImage(zoomedOut, 128, 128);
+        assertEquals(32, selected.getWidth(), "Zoom de 0.25 deve usar o nível 2");
+
+        sprite.setMipmapping(false);
+        assertSame(img, sprite.selectImage(zoomedOut, 128, 128));
+    }
 }
@@ -21,6 +21,11 @@ public class InputManagerTest {
         inputManager = InputManager.getInstance();
         listener = inputManager.getKeyListener();
         
+        // Solta as teclas que outros testes deixaram pressionadas
+        for (Keys key : Keys.values()) {
+            listener.keyReleased(createKeyEvent(KeyEvent.KEY_RELEASED, key.getKeyCode()));
+        }
+        inputManager.poll();
         inputManager.update();
     }
 
@@ -35,6 +40,7 @@ public class InputManagerTest {
     void inputManager_keyPressed_setsKeyDown() {
         KeyEvent pressEvent = createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_W);
         listener.keyPressed(pressEvent);
+        inputManager.poll();
 
         assertTrue(inputManager.isKeyDown(Keys.W), "W deve estar pressionada");
         assertTrue(inputManager.isKeyPressed(Keys.W), "W deve estar marcada como 'just pressed'");
@@ -47,7 +53,9 @@ public class InputManagerTest {
         KeyEvent releaseEvent = createKeyEvent(KeyEvent.KEY_RELEASED, KeyEvent.VK_SPACE);
         
         listener.keyPressed(pressEvent);
+        inputManager.poll();
         listener.keyReleased(releaseEvent);
+        inputManager.poll();
 
         assertFalse(inputManager.isKeyDown(Keys.SPACE), "SPACE não deve estar pressionada");
         assertTrue(inputManager.isKeyReleased(Keys.SPACE), "SPACE deve estar marcada como 'just released'");
@@ -58,6 +66,7 @@ public class InputManagerTest {
 
         KeyEvent pressEvent = createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_A);
         listener.keyPressed(pressEvent);
+        inputManager.poll();
 
         inputManager.update();
 
@@ -70,12 +79,14 @@ public class InputManagerTest {
 
         listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_W));
         listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_D));
+        inputManager.poll();
 
         assertTrue(inputManager.isKeyDown(Keys.W), "W deve estar pressionada");
         assertTrue(inputManager.isKeyDown(Keys.D), "D deve estar pressionada");
         assertFalse(inputManager.isKeyDown(Keys.S), "S não deve estar pressionada");
 
         listener.keyReleased(createKeyEvent(KeyEvent.KEY_RELEASED, KeyEvent.VK_W));
+        inputManager.poll();
 
         assertFalse(inputManager.isKeyDown(Keys.W), "W não deve estar mais pressionada");
         assertTrue(inputManager.isKeyDown(Keys.D), "D ainda deve estar pressionada");
@@ -87,6 +98,7 @@ public class InputManagerTest {
         assertTrue(inputManager.isKeyUp(Keys.ENTER), "ENTER deve estar 'up' inicialmente");
 
         listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_ENTER));
+        inputManager.poll();
 
         assertTrue(inputManager.isKeyDown(Keys.ENTER), "ENTER deve estar pressionada");
         assertFalse(inputManager.isKeyUp(Keys.ENTER), "ENTER não deve estar 'up'");
@@ -97,6 +109,7 @@ public class InputManagerTest {
 
         KeyEvent unknownKeyPress = createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_PAUSE);
         listener.keyPressed(unknownKeyPress);
+        inputManager.poll();
 
         assertFalse(inputManager.isKeyDown(Keys.SPACE), "Nenhuma tecla válida deve estar afetada");
     }
@@ -105,6 +118,7 @@ public class InputManagerTest {
     void inputManager_holdingKey_doesNotTriggerMultiplePressed() {
 
         listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_A));
+        inputManager.poll();
         
         inputManager.update();
         
@@ -112,11 +126,126 @@ public class InputManagerTest {
         assertTrue(inputManager.isKeyDown(Keys.A), "A deve estar 'down'");
 
         listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_A));
+        inputManager.poll();
         
         assertFalse(inputManager.isKeyPressed(Keys.A), "A não deve estar 'just pressed' ao segurar");
         assertTrue(inputManager.isKeyDown(Keys.A), "A deve continuar 'down'");
     }
 
+    @Test
+    void inputManager_eventsApplyOnlyOnPoll() {
+        listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_Q));
+        assertFalse(inputManager.isKeyDown(Keys.Q), "O estado só muda no poll");
+
+        inputManager.poll();
+        assertTrue(inputManager.isKeyDown(Keys.Q));
+        assertTrue(inputManager.isKeyPressed(Keys.Q));
+
+        inputManager.poll();
+        assertFalse(inputManager.isKeyPressed(Keys.Q), "'Just pressed' dura um tick");
+        assertTrue(inputManager.isKeyDown(Keys.Q));
+    }
+
+    @Test
+    void inputManager_tapBetweenTicks_isNotLost() {
+        KeyEvent press = new KeyEvent(new java.awt.Canvas(), KeyEvent.KEY_PRESSED, 12345L, 0,
+            KeyEvent.VK_E, KeyEvent.CHAR_UNDEFINED);
+        listener.keyPressed(press);
+        listener.keyReleased(createKeyEvent(KeyEvent.KEY_RELEASED, KeyEvent.VK_E));
+
+        inputManager.poll();
+        assertTrue(inputManager.isKeyPressed(Keys.E), "O toque rápido aparece como pressionado");
+        assertTrue(inputManager.isKeyReleased(Keys.E), "E como solto no mesmo tick");
+        assertFalse(inputManager.isKeyDown(Keys.E));
+        assertEquals(12345L, inputManager.getKeyPressedTime(Keys.E), "O instante do evento é preservado");
+    }
+
+    @Test
+    void inputManager_eventsFromAnotherThread_areAllApplied() throws Exception {
+        // 100 toques = 200 eventos, abaixo da capacidade da fila: nenhum pode ser descartado
+        final int taps = 100;
+        final long droppedBefore = inputManager.getDroppedEvents();
+        Thread awt = new Thread(() -> {
+            for (int i = 0; i < taps; i++) {
+                listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_X));
+                listener.keyReleased(createKeyEvent(KeyEvent.KEY_RELEASED, KeyEvent.VK_X));
+            }
+        });
+        awt.start();
+        int ticksWithPress = 0;
+        while (awt.isAlive()) {
+            inputManager.poll();
+            if (inputManager.isKeyPressed(Keys.X)) ticksWithPress++;
+        }
+        awt.join();
+        inputManager.poll();
+        if (inputManager.isKeyPressed(Keys.X)) ticksWithPress++;
+
+        assertEquals(droppedBefore, inputManager.getDroppedEvents());
+        assertTrue(ticksWithPress > 0);
+        assertFalse(inputManager.isKeyDown(Keys.X), "O último evento (soltar) vence");
+    }
+
+    @Test
+    void inputManager_legacyLoopWithOnlyUpdate_stillSeesKeys() {
+        listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_D));
+        inputManager.update();  // fim do frame N
+
+        // Frame N+1: o loop antigo nunca chama poll()
+        assertTrue(inputManager.isKeyDown(Keys.D));
+        assertTrue(inputManager.isKeyPressed(Keys.D));
+        inputManager.update();
+        assertFalse(inputManager.isKeyPressed(Keys.D), "O aperto dura um frame");
+        assertTrue(inputManager.isKeyDown(Keys.D));
+    }
+
+    @Test
+    void inputManager_pollAndUpdateTogether_doNotLosePresses() {
+        inputManager.poll();
+        listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_E));
+        inputManager.update();  // aplica E no fim do frame
+        listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, KeyEvent.VK_Q));
+        inputManager.poll();    // início do próximo tick
+
+        assertTrue(inputManager.isKeyPressed(Keys.E), "O poll não apaga o que o update aplicou");
+        assertTrue(inputManager.isKeyPressed(Keys.Q));
+
+        inputManager.poll();
+        assertFalse(inputManager.isKeyPressed(Keys.E));
+        assertFalse(inputManager.isKeyPressed(Keys.Q));
+    }
+
+    @Test
+    void keys_fromKeyCode_usesDirectLookup() {
+        for (Keys key : Keys.values()) {
+            assertSame(key, Keys.fromKeyCode(key.getKeyCode()));
+        }
+        assertNull(Keys.fromKeyCode(KeyEvent.VK_PAGE_UP), "Tecla não mapeada");
+        assertNull(Keys.fromKeyCode(-1));
+        assertNull(Keys.fromKeyCode(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void inputManager_everyKey_hasIndependentBit() {
+        for (Keys key : Keys.values()) {
+            listener.keyPressed(createKeyEvent(KeyEvent.KEY_PRESSED, key.getKeyCode()));
+        }
+        inputManager.poll();
+        for (Keys key : Keys.values()) {
+            assertTrue(inputManager.isKeyDown(key), key + " deve estar pressionada");
+            assertTrue(inputManager.isKeyPressed(key));
+        }
+
+        listener.keyReleased(createKeyEvent(KeyEvent.KEY_RELEASED, KeyEvent.VK_F12));
+        inputManager.poll();
+        for (Keys key : Keys.values()) {
+            assertFalse(inputManager.isKeyPressed(key), "Poll zera o 'just pressed'");
+            assertEquals(key != Keys.F12, inputManager.isKeyDown(key), key.name());
+        }
+        assertTrue(inputManager.isKeyReleased(Keys.F12));
+        assertFalse(inputManager.isKeyReleased(Keys.A));
+    }
+
     private KeyEvent createKeyEvent(int id, int keyCode) {
         return new KeyEvent(
             new java.awt.Canvas(),
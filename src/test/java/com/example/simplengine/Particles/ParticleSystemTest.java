@@ -0,0 +1,164 @@
+package com.example.simplengine.Particles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+public class ParticleSystemTest {
+
+    private static final double DELTA = 0.001;
+
+    @Test
+    void particleSystem_spawn_respectsCapacity() {
+        ParticleSystem system = new ParticleSystem(2);
+        assertTrue(system.spawn(0, 0, 0, 0, 1, 0xFFFFFFFF));
+        assertTrue(system.spawn(0, 0, 0, 0, 1, 0xFFFFFFFF));
+        assertFalse(system.spawn(0, 0, 0, 0, 1, 0xFFFFFFFF), "Sistema cheio não deve aceitar partículas");
+        assertEquals(2, system.getCount());
+    }
+
+    @Test
+    void particleSystem_update_integratesVelocity() {
+        ParticleSystem system = new ParticleSystem(10);
+        system.spawn(10, 20, 100, -50, 5, 0xFFFFFFFF);
+
+        system.update(0.5);
+
+        assertEquals(60.0, system.getX(0), DELTA, "X deve ser 10 + 100 * 0.5");
+        assertEquals(-5.0, system.getY(0), DELTA, "Y deve ser 20 - 50 * 0.5");
+        assertEquals(4.5, system.getLife(0), DELTA);
+    }
+
+    @Test
+    void particleSystem_update_compactsDeadParticles() {
+        ParticleSystem system = new ParticleSystem(10);
+        system.spawn(1, 0, 0, 0, 0.1f, 0xFFFFFFFF);
+        system.spawn(2, 0, 0, 0, 1.0f, 0xFFFFFFFF);
+        system.spawn(3, 0, 0, 0, 0.1f, 0xFFFFFFFF);
+        system.spawn(4, 0, 0, 0, 1.0f, 0xFFFFFFFF);
+
+        system.update(0.2);
+
+        assertEquals(2, system.getCount(), "Partículas mortas devem ser removidas");
+        float a = system.getX(0);
+        float b = system.getX(1);
+        assertEquals(6.0, a + b, DELTA, "Apenas as partículas em X=2 e X=4 devem sobrar");
+    }
+
+    @Test
+    void particleSystem_parallelUpdate_matchesSerial() {
+        ParticleSystem serial = new ParticleSystem(50_000);
+        ParticleSystem parallel = new ParticleSystem(50_000);
+        parallel.setParallel(true);
+        serial.setGravity(98f);
+        parallel.setGravity(98f);
+
+        for (int i = 0; i < 50_000; i++) {
+            serial.spawn(i, 0, i % 7, -i % 5, 1 + (i % 3), 0xFFFFFFFF);
+            parallel.spawn(i, 0, i % 7, -i % 5, 1 + (i % 3), 0xFFFFFFFF);
+        }
+
+        serial.update(1.0 / 60.0);
+        parallel.update(1.0 / 60.0);
+
+        assertEquals(serial.getCount(), parallel.getCount());
+        for (int i = 0; i < serial.getCount(); i++) {
+            assertEquals(serial.getX(i), parallel.getX(i), DELTA);
+            assertEquals(serial.getY(i), parallel.getY(i), DELTA);
+        }
+    }
+
+    @Test
+    void particleEmitter_update_emitsAtRate() {
+        ParticleSystem system = new ParticleSystem(1000);
+        ParticleEmitter emitter = new ParticleEmitter(system);
+        emitter.setSeed(42);
+        emitter.setRate(100);
+
+        for (int i = 0; i < 10; i++) {
+            emitter.update(0.1);
+        }
+
+        assertEquals(100, system.getCount(), 1, "Um segundo a 100/s deve emitir ~100 partículas");
+    }
+
+    @Test
+    void particleEmitter_burst_stopsWhenSystemIsFull() {
+        ParticleSystem system = new ParticleSystem(5);
+        ParticleEmitter emitter = new ParticleEmitter(system);
+        assertEquals(5, emitter.burst(10));
+        assertEquals(5, system.getCount());
+    }
+
+    @Test
+    void particleSystem_render_drawsParticles() {
+        ParticleSystem system = new ParticleSystem(10);
+        system.setFadeOut(false);
+        system.spawn(5, 5, 0, 0, 1, 0xFFFF0000);
+
+        BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        system.render(g);
+        g.dispose();
+
+        assertEquals(0xFFFF0000, image.getRGB(5, 5), "Pixel da partícula deve estar vermelho");
+        assertEquals(0, image.getRGB(0, 0), "Fundo deve continuar transparente");
+    }
+
+    @Test
+    void particleSystem_render_blendsOverlappingParticles() {
+        ParticleSystem system = new ParticleSystem(10);
+        system.setFadeOut(false);
+        system.setParticleSize(4);
+        system.spawn(4, 4, 0, 0, 1, 0xFFFF0000);
+        system.spawn(4, 4, 0, 0, 1, 0x800000FF);  // azul meio transparente por cima
+
+        BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        system.render(g);
+        g.dispose();
+
+        int pixel = image.getRGB(5, 5);
+        assertEquals(0xFF, pixel >>> 24);
+        assertEquals(0x7F, (pixel >> 16) & 0xFF, 2, "O vermelho de baixo continua visível");
+        assertEquals(0x80, pixel & 0xFF, 2);
+    }
+
+    @Test
+    void particleSystem_render_batchesScreenWideSystemsInPages() {
+        ParticleSystem system = new ParticleSystem(10);
+        system.setFadeOut(false);
+        system.setParticleSize(4);
+        system.spawn(10, 10, 0, 0, 1, 0x80FF0000);
+        system.spawn(1500, 900, 0, 0, 1, 0x80FF0000);
+        system.spawn(510, 20, 0, 0, 1, 0xFF00FF00);  // atravessa a borda entre duas páginas
+
+        BufferedImage image = new BufferedImage(1600, 1000, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        system.render(g);
+        g.dispose();
+
+        assertEquals(image.getRGB(11, 11), image.getRGB(1501, 901));
+        assertEquals(0x80, image.getRGB(11, 11) >>> 24, 1);
+        assertEquals(0xFF00FF00, image.getRGB(513, 23), "A partícula não é cortada na borda da página");
+        assertEquals(0, image.getRGB(800, 500));
+    }
+
+    @Test
+    void particleSystem_render_hugeSpreadDrawsDirectly() {
+        ParticleSystem system = new ParticleSystem(10);
+        system.spawn(5, 5, 0, 0, 1, 0xFFFF0000);
+        system.spawn(50_000, 50_000, 0, 0, 1, 0xFFFF0000);
+
+        BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        system.render(g);
+        g.dispose();
+
+        assertEquals(0xFF, image.getRGB(5, 5) >>> 24, "Vida cheia: alfa cheio mesmo com o fade");
+        assertEquals(0xFF0000, image.getRGB(5, 5) & 0xFFFFFF);
+    }
+}
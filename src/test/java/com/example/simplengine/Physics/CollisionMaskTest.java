@@ -0,0 +1,134 @@
+package com.example.simplengine.Physics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.GameObjects.Rect;
+import com.example.simplengine.GameObjects.SpriteObject;
+import com.example.simplengine.Vectors.Vector2;
+
+public class CollisionMaskTest {
+
+    /** Círculo opaco inscrito numa imagem transparente. */
+    private static BufferedImage circle(int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillOval(0, 0, size, size);
+        g.dispose();
+        return image;
+    }
+
+    /** Compara com a versão pixel a pixel. */
+    private static boolean bruteForce(CollisionMask a, CollisionMask b, int dx, int dy) {
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                if (a.get(x, y) && b.get(x - dx, y - dy)) return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void collisionMask_fromImage_setsOpaquePixelsOnly() {
+        BufferedImage image = new BufferedImage(130, 2, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0xFF000000);
+        image.setRGB(129, 1, 0xFF000000);
+        image.setRGB(64, 0, 0x10000000);
+        CollisionMask mask = CollisionMask.fromImage(image, CollisionMask.DEFAULT_ALPHA_THRESHOLD);
+
+        assertTrue(mask.get(0, 0));
+        assertTrue(mask.get(129, 1));
+        assertFalse(mask.get(64, 0), "Pixel quase transparente não deve ser sólido");
+        assertEquals(2, mask.count());
+    }
+
+    @Test
+    void collisionMask_overlaps_matchesPixelByPixelAcrossWordBoundaries() {
+        CollisionMask a = CollisionMask.of(circle(150));
+        CollisionMask b = CollisionMask.of(circle(70));
+        for (int dy = -80; dy <= 160; dy += 7) {
+            for (int dx = -80; dx <= 160; dx += 5) {
+                assertEquals(bruteForce(a, b, dx, dy), a.overlaps(b, dx, dy), "dx=" + dx + " dy=" + dy);
+            }
+        }
+    }
+
+    @Test
+    void collisionMask_scaledAndRegion_areCached() {
+        CollisionMask mask = CollisionMask.of(circle(100));
+        CollisionMask half = mask.scaled(50, 50);
+        assertSame(half, mask.scaled(50, 50));
+        assertEquals(50, half.getWidth());
+        assertTrue(half.get(25, 25));
+        assertFalse(half.get(0, 0));
+
+        CollisionMask corner = mask.region(70, 0, 30, 30);
+        assertSame(corner, mask.region(70, 0, 30, 30));
+        assertEquals(mask.get(99, 0), corner.get(29, 0));
+        assertEquals(mask.get(85, 15), corner.get(15, 15));
+    }
+
+    @Test
+    void collisionMask_scaled_keepsOnlyRecentSizes() {
+        CollisionMask mask = CollisionMask.of(circle(100));
+        CollisionMask first = mask.scaled(50, 50);
+        CollisionMask recent = null;
+        // Uma escala animada pede um tamanho novo a cada frame
+        for (int size = 60; size < 160; size++) {
+            recent = mask.scaled(size, size);
+        }
+        assertSame(recent, mask.scaled(159, 159));
+        assertNotSame(first, mask.scaled(50, 50), "Tamanhos antigos saem do cache");
+    }
+
+    @Test
+    void sprite_collisionMask_isReusedUntilSizeOrImageChanges() {
+        SpriteObject sprite = new SpriteObject(circle(64), 0, 0);
+        sprite.setPixelPerfect(true);
+        CollisionMask mask = sprite.getCollisionMask();
+        assertSame(mask, sprite.getCollisionMask());
+
+        sprite.setScale(2f);
+        CollisionMask bigger = sprite.getCollisionMask();
+        assertEquals(128, bigger.getWidth());
+        assertSame(bigger, sprite.getCollisionMask());
+
+        sprite.setImage(circle(64));
+        assertNotSame(bigger, sprite.getCollisionMask());
+    }
+
+    @Test
+    void sprite_pixelPerfect_rejectsOverlappingBoxesWithTransparentCorners() {
+        SpriteObject a = new SpriteObject(circle(64), 0, 0);
+        SpriteObject b = new SpriteObject(circle(64), 0, 0);
+        b.setPosition(new Vector2(56, 56));
+        assertTrue(a.intersects(b), "Sem máscara, só as caixas são testadas");
+
+        a.setPixelPerfect(true);
+        b.setPixelPerfect(true);
+        assertFalse(a.intersects(b), "Os cantos transparentes não devem colidir");
+
+        b.setPosition(new Vector2(40, 0));
+        assertTrue(a.intersects(b));
+    }
+
+    @Test
+    void sprite_pixelPerfect_againstRectAndScale() {
+        SpriteObject sprite = new SpriteObject(circle(64), 0, 0);
+        sprite.setPixelPerfect(true);
+        Rect corner = new Rect(4, 4, 0, 0);
+        assertFalse(sprite.intersects(corner));
+        assertFalse(corner.intersects(sprite), "Rect deve usar a máscara do sprite");
+
+        sprite.setScale(2.0f);
+        Rect center = new Rect(4, 4, 62, 62);
+        assertTrue(sprite.intersects(center));
+        assertEquals(128, sprite.getCollisionMask().getWidth());
+    }
+}
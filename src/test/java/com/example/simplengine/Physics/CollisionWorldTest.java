@@ -0,0 +1,126 @@
+package com.example.simplengine.Physics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.GameObjects.GameObject;
+import com.example.simplengine.GameObjects.Rect;
+import com.example.simplengine.Vectors.Vector2;
+
+public class CollisionWorldTest {
+
+    private static final int PLAYER = 1;
+    private static final int ENEMY = 2;
+    private static final int PICKUP = 4;
+
+    private CollisionWorld world;
+
+    @BeforeEach
+    void setUp() {
+        world = new CollisionWorld();
+    }
+
+    @Test
+    void collisionWorld_step_reportsBeginStayEnd() {
+        Rect a = new Rect(10, 10, 0, 0);
+        Rect b = new Rect(10, 10, 5, 5);
+        world.add(a);
+        world.add(b);
+
+        ContactEvents events = world.step();
+        assertEquals(1, events.size());
+        assertEquals(ContactEvents.Type.BEGIN, events.getType(0));
+        assertSame(a, events.getA(0));
+        assertSame(b, events.getB(0));
+        assertTrue(world.isTouching(b, a));
+
+        events = world.step();
+        assertEquals(1, events.count(ContactEvents.Type.STAY));
+
+        b.setPosition(new Vector2(100, 100));
+        events = world.step();
+        assertEquals(1, events.size());
+        assertEquals(ContactEvents.Type.END, events.getType(0));
+        assertFalse(world.isTouching(a, b));
+        assertEquals(0, world.getContactCount());
+    }
+
+    @Test
+    void collisionWorld_layers_rejectPairsBeforeNarrowPhase() {
+        world.add(new Rect(10, 10, 0, 0), PLAYER, ENEMY | PICKUP);
+        world.add(new Rect(10, 10, 2, 2), ENEMY, PLAYER);
+        world.add(new Rect(10, 10, 4, 4), ENEMY, PLAYER);
+        world.add(new Rect(10, 10, 6, 6), PICKUP, PLAYER);
+
+        ContactEvents events = world.step();
+        assertEquals(3, events.count(ContactEvents.Type.BEGIN), "Inimigos não colidem entre si");
+        assertEquals(3, world.getNarrowPhaseTests(), "Pares filtrados não chegam ao intersects");
+    }
+
+    @Test
+    void collisionWorld_remove_reportsEndWithRemovedObject() {
+        Rect a = new Rect(10, 10, 0, 0);
+        Rect b = new Rect(10, 10, 5, 0);
+        world.add(a);
+        world.add(b);
+        world.step();
+
+        assertTrue(world.remove(b));
+        ContactEvents events = world.step();
+        assertEquals(1, events.size());
+        assertEquals(ContactEvents.Type.END, events.getType(0));
+        assertSame(b, events.getB(0));
+
+        Rect c = new Rect(10, 10, 5, 0);
+        world.add(c);
+        events = world.step();
+        assertEquals(ContactEvents.Type.BEGIN, events.getType(0));
+        assertSame(c, events.getB(0));
+    }
+
+    @Test
+    void collisionWorld_listeners_receiveOneBatchPerStep() {
+        List<Integer> batches = new ArrayList<>();
+        world.addListener(e -> batches.add(e.size()));
+        world.setReportStay(false);
+        world.add(new Rect(10, 10, 0, 0));
+        world.add(new Rect(10, 10, 5, 0));
+        world.add(new Rect(10, 10, 12, 0));
+
+        world.step();
+        world.step();
+        assertEquals(List.of(2), batches, "Sem STAY o segundo passo não gera lote");
+    }
+
+    @Test
+    void collisionWorld_step_matchesBruteForce() {
+        Random random = new Random(7);
+        List<GameObject> rects = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Rect r = new Rect(5 + random.nextInt(20), 5 + random.nextInt(20), random.nextInt(500), random.nextInt(500));
+            rects.add(r);
+            world.add(r);
+        }
+        for (int frame = 0; frame < 3; frame++) {
+            world.step();
+            int expected = 0;
+            for (int i = 0; i < rects.size(); i++) {
+                for (int j = i + 1; j < rects.size(); j++) {
+                    boolean touching = rects.get(i).intersects(rects.get(j));
+                    if (touching) expected++;
+                    assertEquals(touching, world.isTouching(rects.get(i), rects.get(j)));
+                }
+            }
+            assertEquals(expected, world.getContactCount());
+            for (GameObject r : rects) {
+                r.getPosition().setX(r.getPosition().getX() + random.nextInt(11) - 5);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.simplengine.Physics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.GameObjects.Rect;
+
+public class PhysicsWorldTest {
+
+    private static final double DT = 1.0 / 120;
+
+    private PhysicsWorld world;
+    private RigidBody floor;
+
+    @BeforeEach
+    void setUp() {
+        world = new PhysicsWorld();
+        floor = new RigidBody(new Rect(1000, 20, -500, 200), 0);
+        world.add(floor);
+    }
+
+    private void run(double seconds) {
+        for (int i = 0; i < (int) (seconds / DT); i++) {
+            world.step(DT);
+        }
+    }
+
+    @Test
+    void physicsWorld_crateFallsAndRestsOnFloor() {
+        RigidBody crate = new RigidBody(new Rect(20, 20, 0, 0), 1);
+        world.add(crate);
+        run(2);
+
+        double bottom = crate.getObject().getPosition().getY() + 20;
+        assertEquals(200, bottom, 1.0, "A caixa deve parar sobre o chão");
+        assertFalse(crate.isAwake(), "Parada, a caixa deve dormir");
+        assertEquals(0, world.getAwakeCount());
+    }
+
+    @Test
+    void physicsWorld_restitution_bounces() {
+        RigidBody ball = new RigidBody(new Rect(10, 10, 0, 0), 1);
+        ball.setRestitution(0.8);
+        world.add(ball);
+
+        double lowestSpeed = 0;
+        for (int i = 0; i < 120; i++) {
+            world.step(DT);
+            lowestSpeed = Math.min(lowestSpeed, ball.getObject().getSpeed().getY());
+        }
+        assertTrue(lowestSpeed < -200, "A bola deve subir depois de bater no chão");
+    }
+
+    @Test
+    void physicsWorld_friction_stopsSlidingCrate() {
+        RigidBody crate = new RigidBody(new Rect(20, 20, 0, 180), 1);
+        crate.setFriction(0.8);
+        floor.setFriction(0.8);
+        world.add(crate);
+        crate.setVelocity(300, 0);
+        run(1.5);
+
+        assertEquals(0, crate.getObject().getSpeed().getX(), 1.0);
+        double x = crate.getObject().getPosition().getX();
+        assertTrue(x > 10 && x < 200, "A caixa deve deslizar um pouco e parar, x=" + x);
+    }
+
+    @Test
+    void physicsWorld_stackSleeps_andWakesWhenSupportRemoved() {
+        RigidBody bottom = new RigidBody(new Rect(20, 20, 0, 180), 1);
+        RigidBody middle = new RigidBody(new Rect(20, 20, 0, 160), 1);
+        RigidBody top = new RigidBody(new Rect(20, 20, 0, 140), 1);
+        world.add(bottom);
+        world.add(middle);
+        world.add(top);
+        run(3);
+
+        assertEquals(0, world.getAwakeCount(), "A pilha em repouso deve dormir");
+        double topY = top.getObject().getPosition().getY();
+        world.step(DT);
+        assertEquals(topY, top.getObject().getPosition().getY(), 0.0, "Corpos dormindo não se movem");
+
+        world.remove(floor);
+        assertTrue(bottom.isAwake(), "Remover o apoio acorda quem estava nele");
+        run(0.5);
+        assertTrue(bottom.getObject().getPosition().getY() > 200);
+    }
+
+    @Test
+    void physicsWorld_movingBody_wakesSleepingBody() {
+        RigidBody crate = new RigidBody(new Rect(20, 20, 0, 180), 1);
+        world.add(crate);
+        run(1.5);
+        assertFalse(crate.isAwake());
+
+        RigidBody ball = new RigidBody(new Rect(10, 10, -100, 185), 1);
+        world.add(ball);
+        ball.setVelocity(400, 0);
+        run(0.5);
+
+        assertTrue(crate.getObject().getPosition().getX() > 0, "A caixa deve ser empurrada");
+    }
+
+    @Test
+    void physicsWorld_sleepingStack_costsNoPairChecks() {
+        // Pilha alta com o mesmo X mínimo: o pior caso para uma varredura só em X
+        RigidBody[] stack = new RigidBody[300];
+        for (int i = 0; i < stack.length; i++) {
+            stack[i] = new RigidBody(new Rect(20, 20, 0, 180 - 20 * i), 1);
+            world.add(stack[i]);
+            stack[i].sleep();
+        }
+
+        world.step(DT);
+        assertEquals(0, world.getAwakeCount());
+        assertEquals(0, world.getPairChecks(), "Corpos dormindo e estáticos não são varridos entre si");
+        assertEquals(0, world.getContactCount());
+
+        // Um corpo acordado longe da pilha só testa o que pode alcançar em X
+        RigidBody ball = new RigidBody(new Rect(10, 10, 300, 100), 1);
+        world.add(ball);
+        world.step(DT);
+        assertEquals(1, world.getPairChecks(), "Só o chão está ao alcance da bola");
+        assertFalse(stack[stack.length - 1].isAwake());
+    }
+
+    @Test
+    void physicsWorld_updateBounds_picksUpMovedStaticBody() {
+        RigidBody crate = new RigidBody(new Rect(20, 20, 0, 0), 1);
+        world.add(crate);
+        RigidBody ledge = new RigidBody(new Rect(100, 10, 2000, 100), 0);
+        world.add(ledge);
+        world.step(DT);
+
+        ledge.getObject().getPosition().setX(-40);
+        world.updateBounds(ledge);
+        run(1);
+
+        double bottom = crate.getObject().getPosition().getY() + 20;
+        assertEquals(100, bottom, 1.0, "A caixa deve parar sobre a plataforma movida");
+    }
+
+    @Test
+    void rigidBody_invalidParameters_throw() {
+        Rect rect = new Rect(10, 10, 0, 0);
+        assertThrows(IllegalArgumentException.class, () -> new RigidBody(rect, -1));
+        assertThrows(IllegalArgumentException.class, () -> new RigidBody(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RigidBody(rect, 1).setRestitution(2));
+        assertTrue(new RigidBody(rect, 0).isStatic());
+    }
+}
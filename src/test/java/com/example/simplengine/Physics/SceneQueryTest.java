@@ -0,0 +1,133 @@
+package com.example.simplengine.Physics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.GameObjects.GameObject;
+import com.example.simplengine.GameObjects.Rect;
+
+public class SceneQueryTest {
+
+    private static final double DELTA = 1e-6;
+
+    /** Raycast por força bruta contra todas as caixas, para comparação. */
+    private static double bruteForce(List<GameObject> scene, double ox, double oy, double dx, double dy, double max) {
+        double best = Double.POSITIVE_INFINITY;
+        double length = Math.hypot(dx, dy);
+        SweepHit hit = new SweepHit();
+        for (GameObject o : scene) {
+            java.awt.geom.Rectangle2D.Float b = o.getBounds();
+            if (SweptAabb.sweep(ox, oy, 0, 0, dx / length * max, dy / length * max, b.x, b.y, b.width, b.height, hit)) {
+                best = Math.min(best, hit.getTime() * max);
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void sceneQuery_raycast_hitsNearestWithNormal() {
+        Rect near = new Rect(10, 100, 100, -50);
+        Rect far = new Rect(10, 100, 300, -50);
+        SceneQuery query = new SceneQuery(32);
+        query.build(List.of(far, near));
+
+        RayHit hit = new RayHit();
+        assertTrue(query.raycast(0, 0, 1, 0, 1000, hit));
+        assertSame(near, hit.getObject());
+        assertEquals(100, hit.getDistance(), DELTA);
+        assertEquals(100, hit.getX(), DELTA);
+        assertEquals(-1, hit.getNormalX(), DELTA);
+
+        assertTrue(query.raycast(0, 0, 1, 0, 1000, near, hit), "Ignorando o primeiro, acerta o segundo");
+        assertSame(far, hit.getObject());
+
+        assertFalse(query.raycast(0, 0, 1, 0, 50, hit), "Fora do alcance");
+        assertNull(hit.getObject());
+        assertFalse(query.raycast(0, 0, -1, 0, 1000, hit));
+    }
+
+    @Test
+    void sceneQuery_hasLineOfSight_blockedByWall() {
+        SceneQuery query = new SceneQuery(16);
+        query.build(List.of(new Rect(4, 40, 50, 0)));
+        assertFalse(query.hasLineOfSight(0, 20, 100, 20));
+        assertTrue(query.hasLineOfSight(0, 60, 100, 60));
+        assertTrue(query.hasLineOfSight(0, 20, 40, 20));
+    }
+
+    @Test
+    void sceneQuery_boxCast_stopsWhereBoxTouches() {
+        Rect wall = new Rect(10, 10, 100, 20);
+        SceneQuery query = new SceneQuery(8);
+        query.build(List.of(wall));
+
+        RayHit hit = new RayHit();
+        // Caixa 20x20 em y=0 passa raspando em y 0..20 com o topo da parede em y=20
+        assertTrue(query.boxCast(0, 5, 20, 20, 1, 0, 500, hit));
+        assertSame(wall, hit.getObject());
+        assertEquals(80, hit.getDistance(), DELTA);
+        assertFalse(query.boxCast(0, -5, 20, 20, 1, 0, 500, hit), "Acima da parede não encosta");
+    }
+
+    @Test
+    void sceneQuery_raycast_matchesBruteForceOnRandomScene() {
+        Random random = new Random(11);
+        List<GameObject> scene = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            scene.add(new Rect(2 + random.nextInt(30), 2 + random.nextInt(30), random.nextInt(2000), random.nextInt(2000)));
+        }
+        SceneQuery query = new SceneQuery(24);
+        query.build(scene);
+
+        RayHit hit = new RayHit();
+        for (int r = 0; r < 300; r++) {
+            double ox = random.nextDouble() * 2400 - 200;
+            double oy = random.nextDouble() * 2400 - 200;
+            double angle = random.nextDouble() * Math.PI * 2;
+            double dx = Math.cos(angle), dy = Math.sin(angle);
+            double expected = bruteForce(scene, ox, oy, dx, dy, 3000);
+            boolean found = query.raycast(ox, oy, dx, dy, 3000, hit);
+            if (Double.isInfinite(expected)) {
+                assertFalse(found, "Raio " + r);
+            } else {
+                assertTrue(found, "Raio " + r);
+                assertEquals(expected, hit.getDistance(), 1e-6, "Raio " + r);
+            }
+        }
+    }
+
+    @Test
+    void sceneQuery_raycastBatch_matchesSingleQueriesInParallel() {
+        Random random = new Random(3);
+        List<GameObject> scene = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            scene.add(new Rect(10, 10, random.nextInt(1000), random.nextInt(1000)));
+        }
+        SceneQuery query = new SceneQuery(20);
+        query.build(scene);
+
+        RayBatch batch = new RayBatch(5000);
+        batch.setCount(5000);
+        for (int i = 0; i < 5000; i++) {
+            double angle = i * 0.001256;
+            batch.setRay(i, 500, 500, Math.cos(angle), Math.sin(angle), 800);
+        }
+        query.raycast(batch);
+
+        RayHit hit = new RayHit();
+        for (int i = 0; i < 5000; i += 37) {
+            double angle = i * 0.001256;
+            boolean single = query.raycast(500, 500, Math.cos(angle), Math.sin(angle), 800, hit);
+            assertEquals(single, batch.isHit(i));
+            if (single) {
+                assertSame(hit.getObject(), batch.getHit(i));
+                assertEquals(hit.getDistance(), batch.getDistance(i), DELTA);
+            }
+        }
+    }
+}
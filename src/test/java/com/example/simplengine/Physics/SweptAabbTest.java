@@ -0,0 +1,118 @@
+package com.example.simplengine.Physics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.GameObjects.Rect;
+import com.example.simplengine.Vectors.Vector2;
+
+public class SweptAabbTest {
+
+    private static final double DELTA = 1e-6;
+
+    @Test
+    void sweep_movingRight_hitsLeftFaceWithTimeOfImpact() {
+        SweepHit hit = new SweepHit();
+        assertTrue(SweptAabb.sweep(0, 0, 10, 10, 100, 0, 50, 0, 5, 10, hit));
+        assertEquals(0.4, hit.getTime(), DELTA);
+        assertEquals(-1, hit.getNormalX(), DELTA);
+        assertEquals(0, hit.getNormalY(), DELTA);
+    }
+
+    @Test
+    void sweep_missesWhenPathDoesNotCross() {
+        SweepHit hit = new SweepHit();
+        assertFalse(SweptAabb.sweep(0, 0, 10, 10, 100, 0, 50, 20, 5, 10, hit), "Passa por baixo");
+        assertFalse(SweptAabb.sweep(0, 0, 10, 10, 30, 0, 50, 0, 5, 10, hit), "Não chega até a parede");
+        assertFalse(SweptAabb.sweep(0, 0, 10, 10, -100, 0, 50, 0, 5, 10, hit), "Vai para o outro lado");
+        assertFalse(SweptAabb.sweep(0, 0, 10, 10, 100, 0, 5, 0, 10, 10, hit), "Já sobrepostas não contam");
+        assertFalse(SweptAabb.sweep(0, 0, 10, 10, 100, 0, 0, 10, 200, 10, hit), "Deslizar sobre o chão não colide");
+    }
+
+    @Test
+    void sweep_againstObjects_returnsEarliestHit() {
+        Rect bullet = new Rect(4, 4, 0, 0);
+        Rect far = new Rect(2, 50, 300, -20);
+        Rect near = new Rect(2, 50, 100, -20);
+        SweepHit hit = new SweepHit();
+
+        assertTrue(SweptAabb.sweep(bullet, 1000, 0, List.of(bullet, far, near), hit));
+        assertSame(near, hit.getOther());
+        assertEquals(0.096, hit.getTime(), DELTA);
+    }
+
+    @Test
+    void gameObject_continuousUpdate_stopsFastBulletAtThinWall() {
+        Rect wall = new Rect(2, 100, 100, -50);
+        Rect bullet = new Rect(4, 4, 0, 0);
+        bullet.setSpeed(new Vector2(20000, 0));
+
+        assertFalse(bullet.update(1.0 / 60, List.of(wall)), "Sem CCD a bala atravessa");
+        assertTrue(bullet.getPosition().getX() > 102);
+
+        bullet.setPosition(new Vector2(0, 0));
+        bullet.setSpeed(new Vector2(20000, 0));
+        bullet.setContinuous(true);
+        assertTrue(bullet.update(1.0 / 60, List.of(wall)));
+        assertEquals(96, bullet.getPosition().getX(), DELTA);
+        assertEquals(0, bullet.getSpeed().getX(), DELTA);
+        assertSame(wall, bullet.getLastHit().getOther());
+    }
+
+    @Test
+    void gameObject_continuousUpdate_missKeepsLastHit() {
+        Rect wall = new Rect(2, 100, 100, -50);
+        Rect bullet = new Rect(4, 4, 0, 0);
+        bullet.setContinuous(true);
+        bullet.setSpeed(new Vector2(20000, 0));
+        assertTrue(bullet.update(1.0 / 60, List.of(wall)));
+        SweepHit first = bullet.getLastHit();
+
+        bullet.setPosition(new Vector2(0, 500));
+        bullet.setSpeed(new Vector2(20000, 0));
+        assertFalse(bullet.update(1.0 / 60, List.of(wall)), "Passa por baixo da parede");
+        assertSame(first, bullet.getLastHit());
+        assertSame(wall, bullet.getLastHit().getOther(), "O tick sem impacto não apaga o anterior");
+        assertEquals(-1, bullet.getLastHit().getNormalX(), DELTA);
+    }
+
+    @Test
+    void sweep_againstObjects_missLeavesOutUntouched() {
+        Rect bullet = new Rect(4, 4, 0, 0);
+        Rect wall = new Rect(2, 50, 100, -20);
+        SweepHit hit = new SweepHit();
+        hit.set(0.5, 0, 1, wall);
+
+        assertFalse(SweptAabb.sweep(bullet, 0, 1000, List.of(wall), hit));
+        assertEquals(0.5, hit.getTime(), DELTA);
+        assertSame(wall, hit.getOther());
+    }
+
+    @Test
+    void gameObject_continuousUpdate_slidesAlongSurface() {
+        Rect floor = new Rect(1000, 2, -500, 100);
+        Rect body = new Rect(4, 4, 0, 0);
+        body.setContinuous(true);
+        body.setSpeed(new Vector2(600, 12000));
+
+        assertTrue(body.update(0.1, List.of(floor)));
+        assertEquals(96, body.getPosition().getY(), DELTA);
+        assertEquals(60, body.getPosition().getX(), DELTA);
+        assertEquals(0, body.getLastHit().getNormalX(), DELTA);
+        assertEquals(-1, body.getLastHit().getNormalY(), DELTA);
+    }
+
+    @Test
+    void gameObject_continuousUpdate_slowMoverUsesNormalStep() {
+        Rect body = new Rect(10, 10, 0, 0);
+        body.setContinuous(true);
+        body.setSpeed(new Vector2(60, 0));
+
+        assertFalse(body.update(0.1, List.of(new Rect(2, 100, 300, -50))));
+        assertEquals(6, body.getPosition().getX(), DELTA);
+        assertNull(body.getLastHit(), "Objetos lentos não fazem a consulta contínua");
+    }
+}
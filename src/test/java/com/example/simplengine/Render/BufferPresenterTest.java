@@ -0,0 +1,60 @@
+package com.example.simplengine.Render;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class BufferPresenterTest {
+
+    @Test
+    void presenter_defaults_keepOriginalBehaviour() {
+        BufferPresenter presenter = new BufferPresenter();
+        assertEquals(2, presenter.getBufferCount(), "Padrão deve ser double buffering");
+        assertEquals(BufferPresenter.SyncPolicy.ALWAYS, presenter.getSyncPolicy(), "Padrão deve sincronizar sempre");
+        assertFalse(presenter.isVSync(), "VSync deve estar desligado por padrão");
+    }
+
+    @Test
+    void presenter_setBufferCount_acceptsDoubleAndTriple() {
+        BufferPresenter presenter = new BufferPresenter();
+        presenter.setBufferCount(3);
+        assertEquals(3, presenter.getBufferCount());
+        presenter.setBufferCount(2);
+        assertEquals(2, presenter.getBufferCount());
+    }
+
+    @Test
+    void presenter_setBufferCount_invalid_throwsException() {
+        BufferPresenter presenter = new BufferPresenter();
+        assertThrows(IllegalArgumentException.class, () -> presenter.setBufferCount(1));
+        assertThrows(IllegalArgumentException.class, () -> presenter.setBufferCount(4));
+    }
+
+    @Test
+    void presenter_syncPolicy_controlsToolkitSync() {
+        BufferPresenter presenter = new BufferPresenter();
+        presenter.setSyncPolicy(BufferPresenter.SyncPolicy.NEVER);
+        assertFalse(presenter.shouldSync());
+        presenter.setSyncPolicy(BufferPresenter.SyncPolicy.AUTO);
+        assertTrue(presenter.shouldSync(), "Sem page flipping ativo, AUTO deve sincronizar");
+        presenter.setSyncPolicy(BufferPresenter.SyncPolicy.ALWAYS);
+        assertTrue(presenter.shouldSync());
+    }
+
+    @Test
+    void presenter_record_tracksPresentTimes() {
+        BufferPresenter presenter = new BufferPresenter();
+        presenter.record(1_000);
+        presenter.record(5_000);
+
+        assertEquals(5_000, presenter.getLastPresentNanos());
+        assertEquals(5_000, presenter.getMaxPresentNanos());
+        assertEquals(2, presenter.getPresentedFrames());
+        assertTrue(presenter.getAveragePresentNanos() > 1_000 && presenter.getAveragePresentNanos() < 5_000,
+            "Média deve ficar entre as amostras");
+
+        presenter.resetPresentStats();
+        assertEquals(0, presenter.getPresentedFrames());
+        assertEquals(0, presenter.getMaxPresentNanos());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.simplengine.Render;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+public class MipChainTest {
+
+    @Test
+    void mipChain_levelFor_picksSmallestLevelNotBelowTarget() {
+        assertEquals(0, MipChain.levelFor(1.0));
+        assertEquals(0, MipChain.levelFor(0.5));
+        assertEquals(1, MipChain.levelFor(0.49));
+        assertEquals(1, MipChain.levelFor(0.3));
+        assertEquals(2, MipChain.levelFor(0.25));
+        assertEquals(3, MipChain.levelFor(0.1));
+    }
+
+    @Test
+    void mipChain_level_halvesEachLevelAndAveragesPixels() {
+        BufferedImage image = new BufferedImage(64, 32, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < 32; y++) {
+            for (int x = 0; x < 64; x++) {
+                image.setRGB(x, y, (x % 2 == 0) ? 0xFFFFFFFF : 0xFF000000);
+            }
+        }
+        MipChain chain = MipChain.of(image);
+
+        assertSame(image, chain.level(image, 0));
+        BufferedImage half = chain.level(image, 1);
+        assertEquals(32, half.getWidth());
+        assertEquals(16, half.getHeight());
+        int gray = half.getRGB(5, 5) & 0xFF;
+        assertTrue(gray > 100 && gray < 155, "Nível 1 deve ser a média 2x2, obtido " + gray);
+
+        BufferedImage quarter = chain.level(image, 2);
+        assertEquals(16, quarter.getWidth());
+        assertEquals(2, chain.getGeneratedLevels());
+    }
+
+    @Test
+    void mipChain_level_stopsAtOnePixelAndCachesPerImage() {
+        BufferedImage image = new BufferedImage(8, 2, BufferedImage.TYPE_INT_ARGB);
+        MipChain chain = MipChain.of(image);
+        assertSame(chain, MipChain.of(image));
+
+        BufferedImage last = chain.level(image, 20);
+        assertEquals(1, last.getWidth());
+        assertEquals(1, last.getHeight());
+        assertSame(last, chain.level(image, 30));
+        assertSame(chain.level(image, 1), chain.level(image, 1), "Níveis gerados devem ser reaproveitados");
+    }
+
+    @Test
+    void mipChain_readyForScale_buildsInBackground() throws Exception {
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        MipChain chain = MipChain.of(image);
+
+        BufferedImage first = chain.readyForScale(image, 0.25);
+        assertTrue(first == image || first.getWidth() >= 16, "Nunca menor que o nível pedido");
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (chain.readyForScale(image, 0.25) == image && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(16, chain.readyForScale(image, 0.25).getWidth());
+        assertEquals(6, chain.getGeneratedLevels(), "A cadeia inteira é gerada de uma vez, até 1x1");
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.simplengine.Render;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class RenderScaleTest {
+
+    private static final long BUDGET = 1_000_000_000L / 144;
+
+    @Test
+    void renderScale_default_isNativeResolution() {
+        RenderScale renderScale = new RenderScale();
+        assertEquals(1f, renderScale.getScale(), 0.0001f);
+        assertFalse(renderScale.isDynamic());
+        assertEquals(RenderScale.Interpolation.BILINEAR, renderScale.getInterpolation());
+    }
+
+    @Test
+    void renderScale_setScale_outOfRange_throwsException() {
+        RenderScale renderScale = new RenderScale();
+        assertThrows(IllegalArgumentException.class, () -> renderScale.setScale(0f));
+        assertThrows(IllegalArgumentException.class, () -> renderScale.setScale(1.5f));
+        renderScale.setScale(0.5f);
+        assertEquals(0.5f, renderScale.getScale(), 0.0001f);
+    }
+
+    @Test
+    void renderScale_adjust_lowersScaleWhenOverBudget() {
+        RenderScale renderScale = new RenderScale();
+        renderScale.adjust(BUDGET * 2, BUDGET);
+        assertTrue(renderScale.getScale() < 1f, "Escala deve cair quando o frame passa do orçamento");
+    }
+
+    @Test
+    void renderScale_adjust_neverGoesBelowMinimum() {
+        RenderScale renderScale = new RenderScale();
+        renderScale.setDynamicRange(0.6f, 1f);
+        for (int i = 0; i < 10_000; i++) {
+            renderScale.adjust(BUDGET * 3, BUDGET);
+        }
+        assertEquals(0.6f, renderScale.getScale(), 0.0001f);
+    }
+
+    @Test
+    void renderScale_adjust_recoversWhenUnderBudget() {
+        RenderScale renderScale = new RenderScale();
+        renderScale.setScale(0.5f);
+        for (int i = 0; i < 10_000; i++) {
+            renderScale.adjust(BUDGET / 4, BUDGET);
+        }
+        assertEquals(1f, renderScale.getScale(), 0.0001f);
+    }
+}
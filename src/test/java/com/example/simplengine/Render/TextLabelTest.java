@@ -0,0 +1,87 @@
+package com.example.simplengine.Render;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+public class TextLabelTest {
+
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 16);
+
+    @Test
+    void glyphAtlas_get_returnsSharedAtlas() {
+        GlyphAtlas first = GlyphAtlas.get(FONT, Color.WHITE);
+        GlyphAtlas second = GlyphAtlas.get(FONT, Color.WHITE);
+        GlyphAtlas other = GlyphAtlas.get(FONT, Color.RED);
+
+        assertSame(first, second, "Mesma fonte e cor devem compartilhar o atlas");
+        assertNotSame(first, other, "Cores diferentes devem ter atlas diferentes");
+    }
+
+    @Test
+    void textLabel_sameText_doesNotRelayout() {
+        TextLabel label = new TextLabel(FONT, Color.WHITE, "Score");
+        int layouts = label.getLayoutCount();
+
+        label.setText("Score");
+        label.setText(new StringBuilder("Score"));
+
+        assertEquals(layouts, label.getLayoutCount(), "Texto igual não deve refazer o layout");
+
+        label.setText("Score!");
+        assertEquals(layouts + 1, label.getLayoutCount(), "Texto diferente deve refazer o layout");
+    }
+
+    @Test
+    void textLabel_setTextWithNumber_formatsValue() {
+        TextLabel label = new TextLabel(FONT, Color.WHITE);
+
+        label.setText("FPS: ", 144);
+        assertEquals("FPS: 144", label.getText());
+
+        int layouts = label.getLayoutCount();
+        label.setText("FPS: ", 144);
+        assertEquals(layouts, label.getLayoutCount(), "Mesmo valor não deve refazer o layout");
+
+        label.setText("Δ ", -7);
+        assertEquals("Δ -7", label.getText());
+
+        label.setText(null, 0);
+        assertEquals("0", label.getText());
+    }
+
+    @Test
+    void textLabel_width_matchesAtlasMeasure() {
+        GlyphAtlas atlas = GlyphAtlas.get(FONT, Color.WHITE);
+        TextLabel label = new TextLabel(atlas);
+        label.setText("Hello");
+
+        assertEquals(atlas.stringWidth("Hello"), label.getWidth());
+        assertTrue(label.getWidth() > 0);
+    }
+
+    @Test
+    void textLabel_render_drawsGlyphs() {
+        TextLabel label = new TextLabel(new Font(Font.MONOSPACED, Font.BOLD, 24), Color.WHITE, "W");
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        label.render(g, 4, 4);
+        g.dispose();
+
+        boolean drawn = false;
+        for (int y = 0; y < 64 && !drawn; y++) {
+            for (int x = 0; x < 64; x++) {
+                if ((image.getRGB(x, y) >>> 24) != 0) {
+                    drawn = true;
+                    break;
+                }
+            }
+        }
+        assertTrue(drawn, "O texto deve desenhar pixels visíveis");
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.simplengine.Render;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.Camera.Camera;
+import com.example.simplengine.GameObjects.Rect;
+import com.example.simplengine.Vectors.Vector2;
+
+public class ViewportTest {
+
+    private static final double DELTA = 0.001;
+
+    private void begin(Viewport viewport, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            viewport.begin(g, width, height);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    @Test
+    void viewport_cameras_areIndependent() {
+        Camera first = new Camera();
+        Camera second = new Camera();
+        first.setPosition(100, 100);
+
+        assertNotSame(first, second);
+        assertEquals(0.0, second.getPosition().getX(), DELTA, "A segunda câmera não deve ser afetada");
+    }
+
+    @Test
+    void viewport_layout_splitsSurface() {
+        Viewport left = new Viewport(new Camera(), 0f, 0f, 0.5f, 1f);
+        Viewport right = new Viewport(new Camera(), 0.5f, 0f, 0.5f, 1f);
+        left.layout(800, 600);
+        right.layout(800, 600);
+
+        assertEquals(0, left.getPixelX());
+        assertEquals(400, left.getPixelWidth());
+        assertEquals(400, right.getPixelX());
+        assertEquals(400, right.getPixelWidth());
+        assertEquals(600, right.getPixelHeight());
+    }
+
+    @Test
+    void viewport_invalidBounds_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new Viewport(new Camera(), 0.5f, 0f, 0.6f, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new Viewport(null));
+    }
+
+    @Test
+    void viewport_worldBounds_followCameraAndZoom() {
+        Camera camera = new Camera();
+        camera.setPosition(1000, 500);
+        camera.setZoom(2.0f);
+        Viewport viewport = new Viewport(camera);
+
+        begin(viewport, 800, 600);
+
+        Rectangle2D.Double bounds = viewport.getWorldBounds();
+        assertEquals(800.0, bounds.x, DELTA, "Esquerda deve ser 1000 - 400/2");
+        assertEquals(350.0, bounds.y, DELTA, "Topo deve ser 500 - 300/2");
+        assertEquals(400.0, bounds.width, DELTA);
+        assertEquals(300.0, bounds.height, DELTA);
+    }
+
+    @Test
+    void viewport_isVisible_cullsObjectsOutsideView() {
+        Viewport viewport = new Viewport(new Camera());
+        begin(viewport, 800, 600);
+
+        assertTrue(viewport.isVisible(new Rect(10, 10, 0, 0)), "Objeto no centro deve ser visível");
+        assertFalse(viewport.isVisible(new Rect(10, 10, 1000, 0)), "Objeto fora da tela deve ser descartado");
+    }
+
+    @Test
+    void viewport_screenToWorld_usesViewportOrigin() {
+        Camera camera = new Camera();
+        camera.setPosition(50, 50);
+        Viewport viewport = new Viewport(camera, 0.5f, 0f, 0.5f, 1f);
+        begin(viewport, 800, 600);
+
+        Vector2 world = viewport.screenToWorld(600, 300);
+        assertEquals(50.0, world.getX(), DELTA, "Centro da viewport deve mapear para a posição da câmera");
+        assertEquals(50.0, world.getY(), DELTA);
+        assertTrue(viewport.contains(600, 300));
+        assertFalse(viewport.contains(100, 300));
+    }
+
+    @Test
+    void viewport_drawScale_combinesZoomAndRenderScale() {
+        Camera camera = new Camera();
+        camera.setZoom(0.25f);
+        Viewport viewport = new Viewport(camera);
+        BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.scale(0.5, 0.5);  // resolução interna reduzida
+            viewport.begin(g, 100, 100);
+            assertEquals(0.125, viewport.getDrawScale(), DELTA);
+        } finally {
+            g.dispose();
+        }
+    }
+}
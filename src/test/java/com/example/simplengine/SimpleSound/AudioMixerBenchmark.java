@@ -0,0 +1,41 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+
+/**
+ * Benchmark do mixer: renderiza blocos na {@link NullAudioOutput}, sem esperar
+ * o tempo real, para medir vazão e como o custo cresce com o número de vozes.
+ * Não é um teste; rode com
+ * {@code java -cp target/classes:target/test-classes com.example.simplengine.SimpleSound.AudioMixerBenchmark}.
+ */
+public final class AudioMixerBenchmark {
+
+    private static final int BLOCKS = 2000;
+
+    public static void main(String[] args) throws IOException {
+        short[] samples = new short[(int) AudioMixer.SAMPLE_RATE];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) (Math.sin(i * 0.05) * 8000);
+        }
+        SoundBuffer mono = new SoundBuffer(samples, 1);
+
+        System.out.printf("%8s %12s %14s %12s%n", "voices", "ns/block", "x realtime", "latency ms");
+        for (int voices = 1; voices <= 1024; voices *= 4) {
+            AudioMixer mixer = new AudioMixer(voices, AudioMixer.DEFAULT_BLOCK_FRAMES);
+            for (int v = 0; v < voices; v++) {
+                mixer.play(mono, 1f / voices, (v % 3) - 1f, true);
+            }
+            NullAudioOutput out = new NullAudioOutput();
+            mixer.render(out, BLOCKS / 10);
+
+            long start = System.nanoTime();
+            mixer.render(out, BLOCKS);
+            long elapsed = System.nanoTime() - start;
+
+            double perBlock = elapsed / (double) BLOCKS;
+            double blockNanos = mixer.getBlockFrames() * 1e9 / AudioMixer.SAMPLE_RATE;
+            System.out.printf("%8d %12.0f %14.1f %12.1f%n", voices, perBlock, blockNanos / perBlock,
+                    mixer.getLatencyMillis());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.simplengine.SimpleSound;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.simplengine.Camera.Camera;
+
+public class AudioMixerTest {
+
+    private static SoundBuffer constant(int frames, short value) {
+        short[] samples = new short[frames];
+        java.util.Arrays.fill(samples, value);
+        return new SoundBuffer(samples, 1);
+    }
+
+    @Test
+    void audioMixer_mixBlock_sumsVoices() {
+        AudioMixer mixer = new AudioMixer(4, 64);
+        mixer.play(constant(1000, (short) 1000));
+        mixer.play(constant(1000, (short) 2000));
+
+        short[] out = new short[128];
+        mixer.mixBlock(out, 64);
+        assertEquals(3000, out[0], 1);
+        assertEquals(3000, out[1], 1);
+        assertEquals(2, mixer.getActiveVoiceCount());
+    }
+
+    @Test
+    void audioMixer_panAndGain_applyPerVoice() {
+        AudioMixer mixer = new AudioMixer(4, 64);
+        int handle = mixer.play(constant(1000, (short) 1000), 0.5f, -1f, false);
+
+        short[] out = new short[128];
+        mixer.mixBlock(out, 64);
+        assertTrue(out[0] > 600, "Toda a energia vai para a esquerda");
+        assertEquals(0, out[1], 1);
+
+        mixer.setPan(handle, 1f);
+        mixer.mixBlock(out, 64);
+        assertEquals(0, out[0], 1);
+        assertTrue(out[1] > 600);
+    }
+
+    @Test
+    void audioMixer_voiceEndsOrLoops() {
+        AudioMixer mixer = new AudioMixer(4, 64);
+        int once = mixer.play(constant(100, (short) 100));
+        int looped = mixer.play(constant(100, (short) 100), 1f, 0f, true);
+
+        short[] out = new short[128];
+        mixer.mixBlock(out, 64);
+        mixer.mixBlock(out, 64);
+        assertEquals(100, out[126], 1, "Depois do fim só a voz em loop soa");
+        mixer.mixBlock(out, 64);
+        assertFalse(mixer.isPlaying(once));
+        assertTrue(mixer.isPlaying(looped));
+
+        mixer.stop(looped);
+        assertEquals(0, mixer.getActiveVoiceCount());
+    }
+
+    @Test
+    void audioMixer_stealsOldestVoice_andInvalidatesItsHandle() {
+        AudioMixer mixer = new AudioMixer(2, 64);
+        int first = mixer.play(constant(1000, (short) 1));
+        int second = mixer.play(constant(1000, (short) 1));
+        int third = mixer.play(constant(1000, (short) 1));
+
+        assertFalse(mixer.isPlaying(first), "A voz mais antiga é roubada");
+        assertTrue(mixer.isPlaying(second));
+        assertTrue(mixer.isPlaying(third));
+
+        mixer.stop(first);
+        assertTrue(mixer.isPlaying(third), "Handle antigo não afeta a voz nova");
+    }
+
+    @Test
+    void audioMixer_mixBlock_clipsInsteadOfWrapping() {
+        AudioMixer mixer = new AudioMixer(4, 16);
+        for (int i = 0; i < 3; i++) {
+            mixer.play(constant(100, (short) 30000));
+        }
+        short[] out = new short[32];
+        mixer.mixBlock(out, 16);
+        assertEquals(Short.MAX_VALUE, out[0]);
+    }
+
+    @Test
+    void soundBuffer_fromStream_convertsAndResamples() throws Exception {
+        byte[] pcm = new byte[22050];
+        java.util.Arrays.fill(pcm, (byte) 64);
+        AudioFormat format = new AudioFormat(22050f, 8, 1, true, false);
+        SoundBuffer buffer = SoundBuffer.fromStream(new AudioInputStream(new ByteArrayInputStream(pcm), format, pcm.length));
+
+        assertEquals(1, buffer.getChannels());
+        assertEquals(1.0, buffer.getDurationSeconds(), 0.01, "Um segundo a 22050 Hz continua um segundo");
+        assertEquals(64 << 8, buffer.samples()[100], 256, "8 bits devem virar 16 bits");
+    }
+
+    @Test
+    void audioMixer_maxPolyphony_stealsOwnOldestCopy() {
+        AudioMixer mixer = new AudioMixer(8, 64);
+        SoundBuffer shot = constant(1000, (short) 1);
+        SoundBuffer music = constant(1000, (short) 1);
+        shot.setMaxPolyphony(2);
+
+        int musicVoice = mixer.play(music);
+        int first = mixer.play(shot);
+        int second = mixer.play(shot);
+        int third = mixer.play(shot);
+
+        assertEquals(2, mixer.getActiveVoiceCount(shot));
+        assertFalse(mixer.isPlaying(first), "A cópia mais antiga do som é roubada");
+        assertTrue(mixer.isPlaying(second));
+        assertTrue(mixer.isPlaying(third));
+        assertTrue(mixer.isPlaying(musicVoice), "Outros sons não são afetados pelo limite");
+        assertEquals(3, mixer.getActiveVoiceCount());
+    }
+
+    @Test
+    void audioMixer_explicitPolyphony_overridesBufferLimit() {
+        AudioMixer mixer = new AudioMixer(8, 64);
+        SoundBuffer shot = constant(1000, (short) 1);
+        shot.setMaxPolyphony(3);
+
+        mixer.play(shot, 1f, 0f, false, 1);
+        int last = mixer.play(shot, 1f, 0f, false, 1);
+
+        assertEquals(1, mixer.getActiveVoiceCount(shot));
+        assertTrue(mixer.isPlaying(last));
+        assertEquals(3, shot.getMaxPolyphony(), "O buffer não é alterado");
+    }
+
+    @Test
+    void audioMixer_quietestPolicy_stealsLowestGain() {
+        AudioMixer mixer = new AudioMixer(3, 64);
+        mixer.setStealPolicy(AudioMixer.StealPolicy.QUIETEST);
+        SoundBuffer sound = constant(1000, (short) 1);
+
+        int loud = mixer.play(sound, 1f, 0f, false);
+        int quiet = mixer.play(sound, 0.1f, 0f, false);
+        int medium = mixer.play(sound, 0.5f, 0f, false);
+        int newest = mixer.play(sound, 1f, 0f, false);
+
+        assertFalse(mixer.isPlaying(quiet), "A voz mais baixa é roubada, mesmo não sendo a mais antiga");
+        assertTrue(mixer.isPlaying(loud));
+        assertTrue(mixer.isPlaying(medium));
+        assertTrue(mixer.isPlaying(newest));
+    }
+
+    @Test
+    void audioMixer_playAt_attenuatesAndPansByCameraDistance() {
+        AudioMixer mixer = new AudioMixer(8, 64);
+        Camera camera = new Camera();
+        camera.setPosition(1000, 500);
+        mixer.setListener(camera);
+        mixer.setAttenuation(100f, 1000f);
+        mixer.setPanDistance(400f);
+
+        int near = mixer.playAt(constant(10_000, (short) 1000), 1000, 500, 1f, true);
+        short[] out = new short[128];
+        mixer.mixBlock(out, 64);
+        assertEquals(1000, out[0], 2, "Na posição da câmera o som tem volume cheio");
+        assertEquals(1000, out[1], 2);
+
+        mixer.setPosition(near, 1000 + 400, 500);
+        mixer.mixBlock(out, 64);
+        assertEquals(0, out[0], 2, "À direita da câmera o som vai para a direita");
+        assertTrue(out[1] > 0 && out[1] < 1000, "E fica mais baixo com a distância");
+
+        int previous = out[1];
+        mixer.setPosition(near, 1000 + 400, 500 + 300);
+        mixer.mixBlock(out, 64);
+        assertTrue(out[1] < previous, "Mais longe é mais baixo");
+    }
+
+    @Test
+    void audioMixer_inaudibleVoices_areVirtualButKeepTime() {
+        AudioMixer mixer = new AudioMixer(8, 64);
+        Camera camera = new Camera();
+        mixer.setListener(camera);
+        mixer.setAttenuation(100f, 1000f);
+
+        int far = mixer.playAt(constant(200, (short) 1000), 5000, 0, 1f, false);
+        short[] out = new short[128];
+        mixer.mixBlock(out, 64);
+        assertTrue(mixer.isVirtual(far));
+        assertEquals(1, mixer.getVirtualVoiceCount());
+        assertEquals(0, out[0], "Voz virtual não é mixada");
+
+        mixer.setPosition(far, 0, 0);
+        mixer.mixBlock(out, 64);
+        assertFalse(mixer.isVirtual(far), "Ao se aproximar, volta a soar");
+        assertEquals(1000, out[0], 2);
+
+        mixer.setPosition(far, 5000, 0);
+        mixer.mixBlock(out, 64);
+        mixer.mixBlock(out, 64);
+        assertFalse(mixer.isPlaying(far), "Mesmo virtual, o som termina no tempo certo");
+    }
+
+    @Test
+    void audioMixer_virtualVoicesAreStolenFirst() {
+        AudioMixer mixer = new AudioMixer(2, 64);
+        mixer.setListener(new Camera());
+        int audible = mixer.play(constant(1000, (short) 1));
+        int far = mixer.playAt(constant(1000, (short) 1), 99_999, 0, 1f, true);
+        mixer.mixBlock(new short[128], 64);
+
+        int third = mixer.play(constant(1000, (short) 1));
+        assertFalse(mixer.isPlaying(far), "A voz virtual é roubada antes da mais antiga");
+        assertTrue(mixer.isPlaying(audible));
+        assertTrue(mixer.isPlaying(third));
+    }
+
+    @Test
+    void audioMixer_farPlayAt_neverMixesAtFullGain() throws Exception {
+        AudioMixer mixer = new AudioMixer(4, 64);
+        mixer.setListener(new Camera());
+        mixer.setAttenuation(100f, 1000f);
+        SoundBuffer loud = constant(1000, (short) 10_000);
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger loudest = new AtomicInteger();
+        Thread mixing = new Thread(() -> {
+            short[] out = new short[128];
+            while (!done.get()) {
+                mixer.mixBlock(out, 64);
+                for (short sample : out) {
+                    loudest.accumulateAndGet(Math.abs(sample), Math::max);
+                }
+                Thread.yield();
+            }
+        });
+        mixing.setDaemon(true);
+        mixing.start();
+        try {
+            for (int i = 0; i < 2000; i++) {
+                // Fora do alcance: a voz já nasce posicional e nunca é ouvida
+                mixer.playAt(loud, 50_000, 0);
+                if (i % 16 == 0) Thread.yield();
+            }
+        } finally {
+            done.set(true);
+            mixing.join(1000);
+        }
+        assertEquals(0, loudest.get(), "Um emissor distante não pode soar nem por um bloco");
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.simplengine.SimpleSound;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Path;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AudioOutputTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** Saída que guarda tudo em memória, para comparar renderizações. */
+    private static final class CapturingOutput implements AudioOutput {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        @Override
+        public void open(AudioFormat format, int blockFrames) {
+        }
+
+        @Override
+        public void write(byte[] data, int length) {
+            bytes.write(data, 0, length);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static SoundBuffer ramp(int frames) {
+        short[] samples = new short[frames];
+        for (int i = 0; i < frames; i++) {
+            samples[i] = (short) ((i * 37) % 20000 - 10000);
+        }
+        return new SoundBuffer(samples, 1);
+    }
+
+    @Test
+    void wavFileOutput_render_writesReadableWav() throws Exception {
+        AudioMixer mixer = new AudioMixer(4, 256);
+        short[] samples = new short[10_000];
+        java.util.Arrays.fill(samples, (short) 1000);
+        mixer.play(new SoundBuffer(samples, 1));
+
+        File file = tempDir.resolve("mix.wav").toFile();
+        try (WavFileAudioOutput out = new WavFileAudioOutput(file.toPath())) {
+            out.open(AudioMixer.FORMAT, mixer.getBlockFrames());
+            mixer.render(out, 10);
+            assertEquals(10 * 256 * 4, out.getDataBytes());
+        }
+
+        try (AudioInputStream stream = AudioSystem.getAudioInputStream(file)) {
+            AudioFormat format = stream.getFormat();
+            assertEquals(2, format.getChannels());
+            assertEquals(AudioMixer.SAMPLE_RATE, format.getSampleRate());
+            assertEquals(10 * 256, stream.getFrameLength());
+
+            byte[] data = stream.readAllBytes();
+            short first = (short) ((data[0] & 0xFF) | (data[1] << 8));
+            assertEquals(1000, first, 2, "O arquivo contém o áudio mixado");
+        }
+    }
+
+    @Test
+    void audioMixer_render_isDeterministic() throws Exception {
+        CapturingOutput[] outputs = new CapturingOutput[2];
+        for (int run = 0; run < 2; run++) {
+            AudioMixer mixer = new AudioMixer(8, 128);
+            mixer.play(ramp(3000), 0.7f, -0.3f, true);
+            mixer.play(ramp(1000), 0.5f, 0.8f, false);
+            outputs[run] = new CapturingOutput();
+            mixer.render(outputs[run], 40);
+        }
+        assertArrayEquals(outputs[0].bytes.toByteArray(), outputs[1].bytes.toByteArray());
+        assertEquals(40 * 128 * 4, outputs[0].bytes.size());
+    }
+
+    @Test
+    void nullOutput_isPacedInRealTime() throws Exception {
+        AudioMixer mixer = new AudioMixer(4, 441);
+        NullAudioOutput out = new NullAudioOutput();
+        long started = System.nanoTime();
+        assertTrue(mixer.start(out));
+        try {
+            assertSame(out, mixer.getOutput());
+            int voice = mixer.play(ramp(4410));
+            assertThrows(IllegalStateException.class, () -> mixer.render(out, 1),
+                    "render não pode concorrer com a thread do mixer");
+
+            // 441 quadros = 10 ms por bloco: 20 blocos cobrem o som de 100 ms
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (out.getBlocksWritten() < 20 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(out.getBlocksWritten() >= 20, "A thread do mixer deve escrever blocos");
+            assertFalse(mixer.isPlaying(voice), "Um som de 100 ms já terminou");
+            // Com ritmo de tempo real, 20 blocos não saem em menos de ~200 ms
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+            assertTrue(elapsedMs >= 150, "Saída não foi cadenciada: " + elapsedMs + " ms");
+        } finally {
+            mixer.close();
+        }
+        assertNull(mixer.getOutput());
+        // Com a thread encerrada, os contadores não mudam mais
+        assertEquals(out.getBlocksWritten() * 441, out.getFramesWritten());
+    }
+}
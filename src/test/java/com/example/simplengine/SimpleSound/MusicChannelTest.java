@@ -0,0 +1,190 @@
+package com.example.simplengine.SimpleSound;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MusicChannelTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Mixa blocos até a condição valer, dando tempo ao decoder entre os blocos.
+     */
+    private static void mixUntil(AudioMixer mixer, BooleanSupplier condition) throws InterruptedException {
+        short[] out = new short[mixer.getBlockFrames() * 2];
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Tempo esgotado esperando a música");
+            mixer.mixBlock(out, mixer.getBlockFrames());
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void pcmRingBuffer_preservesOrderAcrossThreads() throws Exception {
+        PcmRingBuffer ring = new PcmRingBuffer(100);
+        assertEquals(128, ring.capacity(), "Capacidade arredondada para potência de dois");
+
+        final int total = 50_000;
+        Thread producer = new Thread(() -> {
+            short[] chunk = new short[37];
+            int next = 0;
+            while (next < total) {
+                int n = Math.min(chunk.length, total - next);
+                for (int i = 0; i < n; i++) chunk[i] = (short) (next + i);
+                int offset = 0;
+                while (offset < n) {
+                    int written = ring.write(chunk, offset, n - offset);
+                    if (written == 0) Thread.yield();
+                    offset += written;
+                }
+                next += n;
+            }
+        });
+        producer.setDaemon(true);
+        producer.start();
+
+        short[] target = new short[53];
+        int expected = 0;
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (expected < total && System.nanoTime() < deadline) {
+            int n = ring.read(target, 0, target.length);
+            if (n == 0) Thread.yield();
+            for (int i = 0; i < n; i++) {
+                assertEquals((short) (expected + i), target[i]);
+            }
+            expected += n;
+        }
+        producer.join(1000);
+        assertEquals(total, expected);
+        assertEquals(0, ring.available());
+    }
+
+    @Test
+    void musicChannel_playsWholeTrackOnce() throws Exception {
+        String path = TestAudio.createSilentMp3(tempDir, "track.mp3", 10);
+        AudioMixer mixer = new AudioMixer(4, 512);
+        MusicChannel music = mixer.getMusic();
+
+        music.play(path, false);
+        assertTrue(music.isPlaying());
+        assertEquals(path, music.getCurrentPath());
+
+        mixUntil(mixer, () -> !music.isPlaying());
+        assertEquals(10 * TestAudio.MP3_FRAME_SAMPLES, music.getPlayedFrames(), 2, "Todos os quadros do arquivo são tocados");
+    }
+
+    @Test
+    void musicChannel_loop_keepsPlayingPastTheEnd() throws Exception {
+        String path = TestAudio.createSilentMp3(tempDir, "loop.mp3", 4);
+        AudioMixer mixer = new AudioMixer(4, 512);
+        MusicChannel music = mixer.getMusic();
+
+        music.play(path, true);
+        mixUntil(mixer, () -> music.getPlayedFrames() > 3L * 4 * TestAudio.MP3_FRAME_SAMPLES);
+
+        assertTrue(music.isPlaying(), "Faixa em loop não termina sozinha");
+        music.stop();
+        assertFalse(music.isPlaying());
+    }
+
+    @Test
+    void musicChannel_crossfade_replacesTrackAndFadesOldOne() throws Exception {
+        String first = TestAudio.createSilentMp3(tempDir, "first.mp3", 4);
+        String second = TestAudio.createSilentMp3(tempDir, "second.mp3", 4);
+        AudioMixer mixer = new AudioMixer(4, 512);
+        MusicChannel music = mixer.getMusic();
+
+        music.play(first, true);
+        mixUntil(mixer, () -> music.getPlayedFrames() > 0);
+
+        music.crossfade(second, true, 0.05f);
+        assertEquals(second, music.getCurrentPath());
+        mixUntil(mixer, () -> music.getPlayedFrames() > AudioMixer.SAMPLE_RATE * 0.1f);
+        assertTrue(music.isPlaying());
+
+        music.fadeOut(0.02f);
+        assertNull(music.getCurrentPath());
+        mixUntil(mixer, () -> !music.isPlaying());
+    }
+
+    @Test
+    void musicStream_decodesAheadIntoBoundedBuffer() throws Exception {
+        String path = TestAudio.createSilentMp3(tempDir, "long.mp3", 200);
+        MusicStream stream = new MusicStream(path, true, 4096, 512);
+        stream.start();
+        try {
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (stream.getBufferedFrames() < stream.getBufferCapacityFrames() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(4096, stream.getBufferCapacityFrames());
+            assertEquals(stream.getBufferCapacityFrames(), stream.getBufferedFrames(),
+                    "O decoder enche a fila e espera, sem decodificar a faixa inteira");
+        } finally {
+            stream.close();
+        }
+    }
+
+    @Test
+    void musicChannel_crossfade_rampsFromOldTrackToNewOne() throws Exception {
+        AudioMixer mixer = new AudioMixer(4, 256);
+        MusicChannel music = mixer.getMusic();
+        short[] out = new short[512];
+
+        music.crossfade(TestAudio.started(new MusicStream("a", TestAudio.constant(4096, 1000), true, 8192, 256)), 0f);
+        mixer.mixBlock(out, 256);
+        assertEquals(1000, out[0]);
+        assertEquals(1000, out[511]);
+
+        // 1024 quadros de crossfade = 4 blocos; a faixa nova é -1000, então a soma vai de 1000 a -1000
+        music.crossfade(TestAudio.started(new MusicStream("b", TestAudio.constant(4096, -1000), true, 8192, 256)),
+                1024 / AudioMixer.SAMPLE_RATE);
+        short[] ramp = new short[1024];
+        for (int b = 0; b < 4; b++) {
+            mixer.mixBlock(out, 256);
+            for (int i = 0; i < 256; i++) {
+                ramp[b * 256 + i] = out[i * 2];
+                assertEquals(out[i * 2], out[i * 2 + 1], "Os dois canais seguem a mesma rampa");
+            }
+        }
+        assertEquals(1000, ramp[0], 1, "O crossfade começa com a faixa antiga inteira");
+        assertEquals(0, ramp[512], 1, "No meio as duas faixas têm o mesmo peso");
+        assertEquals(-1000, ramp[1023], 1, "E termina só com a faixa nova");
+        for (int i = 1; i < ramp.length; i++) {
+            assertTrue(ramp[i] <= ramp[i - 1] + 1, "A rampa é contínua e decrescente em " + i);
+        }
+
+        mixer.mixBlock(out, 256);
+        assertEquals(-1000, out[0]);
+        assertEquals(-1000, out[511]);
+        assertEquals("b", music.getCurrentPath());
+    }
+
+    @Test
+    void musicStream_loop_isContinuousAcrossTheBoundary() throws Exception {
+        final int trackFrames = 1000;
+        AudioMixer mixer = new AudioMixer(4, 512);
+        MusicChannel music = mixer.getMusic();
+        music.crossfade(TestAudio.started(new MusicStream("ramp",
+                TestAudio.pcm(trackFrames, k -> k, k -> -k), true, 8192, 512)), 0f);
+
+        // 5 blocos cruzam duas vezes o fim da faixa
+        short[] out = new short[1024];
+        for (int b = 0; b < 5; b++) {
+            mixer.mixBlock(out, 512);
+            for (int i = 0; i < 512; i++) {
+                int expected = (b * 512 + i) % trackFrames;
+                assertEquals(expected, out[i * 2], "Quadro " + (b * 512 + i));
+                assertEquals(-expected, out[i * 2 + 1]);
+            }
+        }
+        assertEquals(0, music.getUnderruns());
+    }
+}
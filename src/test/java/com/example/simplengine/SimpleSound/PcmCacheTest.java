@@ -0,0 +1,161 @@
+package com.example.simplengine.SimpleSound;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PcmCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    /** Cria um WAV mono de 16 bits a 22050 Hz */
+    private String createWav(String fileName, int frames) throws Exception {
+        AudioFormat format = new AudioFormat(22050f, 16, 1, true, false);
+        byte[] pcm = new byte[frames * 2];
+        Path file = tempDir.resolve(fileName);
+        AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(pcm), format, frames),
+                AudioFileFormat.Type.WAVE, file.toFile());
+        return file.toString();
+    }
+
+    private static SoundBuffer buffer(int samples) {
+        return new SoundBuffer(new short[samples], 1);
+    }
+
+    @Test
+    void soundBuffer_fromMp3_decodesAllFrames() throws Exception {
+        String path = TestAudio.createSilentMp3(tempDir, "silence.mp3", 10);
+
+        SoundBuffer stereo = SoundBuffer.fromMp3(path, false);
+        assertEquals(2, stereo.getChannels());
+        assertEquals(10 * 1152, stereo.getFrames(), "Cada quadro Layer III tem 1152 amostras por canal");
+
+        SoundBuffer mono = SoundBuffer.fromMp3(path, true);
+        assertEquals(1, mono.getChannels());
+        assertEquals(stereo.getFrames(), mono.getFrames());
+        assertEquals(stereo.getMemoryBytes() / 2, mono.getMemoryBytes());
+    }
+
+    @Test
+    void pcmCache_load_decodesOnceAndReusesBuffer() throws Exception {
+        String path = TestAudio.createSilentMp3(tempDir, "once.mp3", 4);
+        PcmCache cache = new PcmCache();
+
+        SoundBuffer first = cache.load(path).get(5, TimeUnit.SECONDS);
+        CompletableFuture<SoundBuffer> second = cache.load(path);
+
+        assertTrue(second.isDone(), "Som em cache não é decodificado de novo");
+        assertSame(first, second.get());
+        assertEquals(1, cache.size());
+        assertEquals(first.getMemoryBytes(), cache.getMemoryBytes());
+    }
+
+    @Test
+    void pcmCache_invalidMp3_failsWithoutCaching() throws Exception {
+        Path fake = tempDir.resolve("fake.mp3");
+        Files.write(fake, new byte[]{0, 0, 0, 0});
+        PcmCache cache = new PcmCache();
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> cache.load(fake.toString()).get(5, TimeUnit.SECONDS));
+        assertNotNull(error.getCause());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void pcmCache_evictsLeastRecentlyUsed_whenOverCapacity() {
+        PcmCache cache = new PcmCache(3000);
+        cache.put("a", buffer(500));
+        cache.put("b", buffer(500));
+        cache.put("c", buffer(500));
+        assertEquals(3000, cache.getMemoryBytes());
+
+        assertNotNull(cache.get("a"), "Acessar 'a' o torna o mais recente");
+        cache.put("d", buffer(500));
+
+        assertFalse(cache.contains("b"), "O menos usado recentemente é descartado");
+        assertTrue(cache.contains("a"));
+        assertTrue(cache.contains("c"));
+        assertTrue(cache.contains("d"));
+        assertEquals(3000, cache.getMemoryBytes());
+
+        cache.setCapacityBytes(1000);
+        assertEquals(1, cache.size());
+        assertTrue(cache.contains("d"));
+    }
+
+    @Test
+    void pcmCache_invalidateAndClear_releaseMemory() {
+        PcmCache cache = new PcmCache();
+        cache.put("a", buffer(100));
+        cache.put("b", buffer(100));
+
+        cache.invalidate("a");
+        assertFalse(cache.contains("a"));
+        assertEquals(200, cache.getMemoryBytes());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMemoryBytes());
+    }
+
+    @Test
+    void pcmCache_invalidate_dropsInFlightDecode() throws Exception {
+        String path = TestAudio.createSilentMp3(tempDir, "edited.mp3", 200);
+        PcmCache cache = new PcmCache();
+
+        CompletableFuture<SoundBuffer> stale = cache.load(path);
+        cache.invalidate(path);
+        CompletableFuture<SoundBuffer> fresh = cache.load(path);
+        assertNotSame(stale, fresh, "Depois do invalidate o arquivo é lido de novo");
+
+        SoundBuffer old = stale.get(5, TimeUnit.SECONDS);
+        SoundBuffer current = fresh.get(5, TimeUnit.SECONDS);
+        assertNotSame(old, current);
+        assertSame(current, cache.get(path), "A decodificação antiga não volta para o cache");
+        assertEquals(current.getMemoryBytes(), cache.getMemoryBytes());
+    }
+
+    @Test
+    void pcmCache_load_decodesWavAndSharesItWithLoadNow() throws Exception {
+        String path = createWav("effect.wav", 1000);
+        PcmCache cache = new PcmCache();
+
+        SoundBuffer decoded = cache.load(path).get(5, TimeUnit.SECONDS);
+        assertEquals(1, decoded.getChannels());
+        assertEquals(2000, decoded.getFrames(), 2, "Reamostrado de 22050 Hz para 44100 Hz");
+        assertTrue(cache.contains(path));
+        assertSame(decoded, cache.loadNow(path), "Não decodifica o WAV de novo");
+    }
+
+    @Test
+    void pcmCache_longSounds_playButAreNotCached() throws Exception {
+        String path = TestAudio.createSilentMp3(tempDir, "long.mp3", 20);
+        PcmCache cache = new PcmCache();
+        cache.put("effect", buffer(100));
+        cache.setMaxEntryBytes(10_000);
+
+        SoundBuffer decoded = cache.load(path).get(5, TimeUnit.SECONDS);
+        assertTrue(decoded.getMemoryBytes() > 10_000);
+        assertFalse(cache.contains(path), "Faixas longas não entram no cache");
+        assertTrue(cache.contains("effect"), "E não expulsam os efeitos");
+
+        cache.put("big", buffer(6000));
+        assertFalse(cache.contains("big"));
+        assertEquals(200, cache.getMemoryBytes());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.simplengine.SimpleSound;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,12 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import javax.sound.sampled.AudioFileFormat;
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
@@ -26,6 +33,12 @@ public class SoundPlayerTest {
     private String validWavPath;
     private String invalidAudioPath;
 
+    @BeforeAll
+    static void useNullAudioOutput() {
+        // Sem placa de som no CI: o mixer compartilhado toca na saída nula
+        System.setProperty(AudioMixer.OUTPUT_PROPERTY, "null");
+    }
+
     @BeforeEach
     void setUp() throws Exception {
         // Cria arquivos de teste
@@ -68,25 +81,14 @@ public class SoundPlayerTest {
     }
 
     /**
-     * Limpa os mapas de sons carregados
+     * Limpa o registro de sons carregados
      */
     private void clearLoadedSounds() {
-        try {
-            java.lang.reflect.Field mp3Field = SoundPlayer.class.getDeclaredField("loadedMp3Paths");
-            mp3Field.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            java.util.Map<String, String> mp3Map = (java.util.Map<String, String>) mp3Field.get(null);
-            mp3Map.clear();
-
-            java.lang.reflect.Field wavField = SoundPlayer.class.getDeclaredField("loadedWavClips");
-            wavField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            java.util.Map<String, javax.sound.sampled.Clip> wavMap = 
-                (java.util.Map<String, javax.sound.sampled.Clip>) wavField.get(null);
-            wavMap.clear();
-        } catch (Exception e) {
-            fail("Não foi possível limpar sons carregados: " + e.getMessage());
-        }
+        SoundPlayer.registry().clear();
+    }
+
+    private static SoundRegistry.Sound loaded(String soundName) {
+        return SoundPlayer.registry().get(SoundPlayer.getSoundHandle(soundName));
     }
 
     @Test
@@ -101,6 +103,17 @@ public class SoundPlayerTest {
             "playSound não deve lançar exceção com WAV");
     }
 
+    @Test
+    void playSound_withWav_decodesOnceIntoCache() throws Exception {
+        SoundPlayer.getPcmCache().invalidate(validWavPath);
+        SoundPlayer.playSound(validWavPath);
+
+        // A decodificação acontece fora da thread que chamou playSound
+        SoundBuffer first = SoundPlayer.getPcmCache().load(validWavPath).get(5, TimeUnit.SECONDS);
+        SoundPlayer.playSound(validWavPath);
+        assertSame(first, SoundPlayer.getPcmCache().get(validWavPath), "O WAV fica em cache entre plays");
+    }
+
     @Test
     void playSound_withInvalidFile_doesNotThrow() {
         assertDoesNotThrow(() -> SoundPlayer.playSound(invalidAudioPath),
@@ -127,13 +140,10 @@ public class SoundPlayerTest {
         assertDoesNotThrow(() -> SoundPlayer.loadSound(soundName, validMp3Path),
             "loadSound não deve lançar exceção com MP3 válido");
         
-        java.lang.reflect.Field field = SoundPlayer.class.getDeclaredField("loadedMp3Paths");
-        field.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, String> map = (java.util.Map<String, String>) field.get(null);
-        
-        assertTrue(map.containsKey(soundName), "MP3 deve estar carregado no mapa");
-        assertEquals(validMp3Path, map.get(soundName), "Caminho do MP3 deve estar correto");
+        SoundRegistry.Sound sound = loaded(soundName);
+        assertNotNull(sound, "MP3 deve estar carregado no registro");
+        assertTrue(sound.state().cached());
+        assertEquals(validMp3Path, sound.state().path(), "Caminho do MP3 deve estar correto");
     }
 
     @Test
@@ -143,14 +153,11 @@ public class SoundPlayerTest {
         assertDoesNotThrow(() -> SoundPlayer.loadSound(soundName, validWavPath),
             "loadSound não deve lançar exceção com WAV válido");
         
-        java.lang.reflect.Field field = SoundPlayer.class.getDeclaredField("loadedWavClips");
-        field.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, javax.sound.sampled.Clip> map = 
-            (java.util.Map<String, javax.sound.sampled.Clip>) field.get(null);
-        
-        assertTrue(map.containsKey(soundName), "WAV deve estar carregado no mapa");
-        assertNotNull(map.get(soundName), "Clip do WAV não deve ser null");
+        SoundRegistry.Sound sound = loaded(soundName);
+        assertNotNull(sound, "WAV deve estar carregado no registro");
+        assertTrue(sound.state().cached(), "O WAV fica no cache, como o MP3");
+        assertSame(SoundPlayer.getPcmCache().get(validWavPath), sound.state().decoded().get(),
+            "Som do WAV não deve ser null");
     }
 
     @Test
@@ -173,21 +180,9 @@ public class SoundPlayerTest {
         SoundPlayer.loadSound(mp3Sound, validMp3Path);
         SoundPlayer.loadSound(wavSound, validWavPath);
         
-        java.lang.reflect.Field mp3Field = SoundPlayer.class.getDeclaredField("loadedMp3Paths");
-        mp3Field.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, String> mp3Map = (java.util.Map<String, String>) mp3Field.get(null);
-        
-        java.lang.reflect.Field wavField = SoundPlayer.class.getDeclaredField("loadedWavClips");
-        wavField.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, javax.sound.sampled.Clip> wavMap = 
-            (java.util.Map<String, javax.sound.sampled.Clip>) wavField.get(null);
-        
-        assertEquals(1, mp3Map.size(), "Deve haver 1 MP3 carregado");
-        assertEquals(1, wavMap.size(), "Deve haver 1 WAV carregado");
-        assertTrue(mp3Map.containsKey(mp3Sound), "MP3 deve estar carregado");
-        assertTrue(wavMap.containsKey(wavSound), "WAV deve estar carregado");
+        assertEquals(2, SoundPlayer.registry().size(), "Deve haver 2 sons carregados");
+        assertTrue(loaded(mp3Sound).state().cached(), "MP3 deve estar carregado");
+        assertTrue(loaded(wavSound).state().cached(), "WAV deve estar carregado");
     }
 
     @Test
@@ -196,21 +191,16 @@ public class SoundPlayerTest {
         String firstPath = validMp3Path;
         String secondPath = tempDir.resolve("another.mp3").toString();
         
-        SoundPlayer.loadSound(soundName, firstPath);
+        int handle = SoundPlayer.loadSound(soundName, firstPath);
         
-        java.lang.reflect.Field field = SoundPlayer.class.getDeclaredField("loadedMp3Paths");
-        field.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, String> map = 
-            (java.util.Map<String, String>) field.get(null);
-        
-        assertEquals(firstPath, map.get(soundName));
+        assertEquals(firstPath, loaded(soundName).state().path());
         
         // Carrega novamente com o mesmo nome
-        SoundPlayer.loadSound(soundName, secondPath);
+        int reloaded = SoundPlayer.loadSound(soundName, secondPath);
         
-        assertEquals(1, map.size(), "Deve haver apenas 1 som carregado");
-        assertEquals(secondPath, map.get(soundName), "O caminho deve ter sido substituído");
+        assertEquals(handle, reloaded, "Recarregar o mesmo nome mantém o handle");
+        assertEquals(1, SoundPlayer.registry().size(), "Deve haver apenas 1 som carregado");
+        assertEquals(secondPath, loaded(soundName).state().path(), "O caminho deve ter sido substituído");
     }
 
     @Test
@@ -260,13 +250,7 @@ public class SoundPlayerTest {
         String emptyName = "";
         SoundPlayer.loadSound(emptyName, validMp3Path);
         
-        java.lang.reflect.Field field = SoundPlayer.class.getDeclaredField("loadedMp3Paths");
-        field.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, String> map = 
-            (java.util.Map<String, String>) field.get(null);
-        
-        assertTrue(map.containsKey(emptyName), "Deve permitir nome vazio como chave");
+        assertTrue(SoundPlayer.isSoundLoaded(emptyName), "Deve permitir nome vazio como chave");
     }
 
     @Test
@@ -289,19 +273,171 @@ public class SoundPlayerTest {
             SoundPlayer.playSound(validWavPath);
         });
         
-        // Verifica estado dos mapas
-        java.lang.reflect.Field mp3Field = SoundPlayer.class.getDeclaredField("loadedMp3Paths");
-        mp3Field.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, String> mp3Map = (java.util.Map<String, String>) mp3Field.get(null);
-        
-        java.lang.reflect.Field wavField = SoundPlayer.class.getDeclaredField("loadedWavClips");
-        wavField.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, javax.sound.sampled.Clip> wavMap = 
-            (java.util.Map<String, javax.sound.sampled.Clip>) wavField.get(null);
-        
-        assertEquals(1, mp3Map.size(), "Deve haver 1 MP3 pré-carregado");
-        assertEquals(2, wavMap.size(), "Devem haver 2 WAV pré-carregados");
+        // Verifica estado do registro
+        assertEquals(3, SoundPlayer.registry().size(), "Devem haver 3 sons pré-carregados");
+        assertEquals(validMp3Path, loaded("bg_music").state().path(), "bg_music deve ser um MP3");
+        assertEquals(validWavPath, loaded("sfx_jump").state().path(), "sfx_jump deve ser um WAV");
+        assertEquals(validWavPath, loaded("sfx_coin").state().path(), "sfx_coin deve ser um WAV");
+    }
+
+    @Test
+    void loadSound_wav_followsCacheCapacity() throws Exception {
+        PcmCache cache = SoundPlayer.getPcmCache();
+        long capacity = cache.getCapacityBytes();
+        String otherWav = createTestWavFile(tempDir, "other.wav");
+        cache.clear();
+        try {
+            SoundPlayer.loadSound("wav_a", validWavPath);
+            long oneSound = cache.getMemoryBytes();
+            cache.setCapacityBytes(oneSound);
+            SoundPlayer.loadSound("wav_b", otherWav);
+
+            assertFalse(cache.contains(validWavPath), "O WAV usado há mais tempo é descartado");
+            assertEquals(oneSound, cache.getMemoryBytes(), "O cache conta todos os WAVs carregados");
+            assertNull(loaded("wav_a").state().buffer(), "O registro não segura o WAV descartado");
+
+            assertDoesNotThrow(() -> SoundPlayer.playLoadedSound("wav_a"));
+        } finally {
+            cache.setCapacityBytes(capacity);
+            cache.clear();
+        }
+    }
+
+    @Test
+    void playLoadedSound_byHandle_playsWithoutLookup() {
+        int handle = SoundPlayer.loadSound("handle_wav", validWavPath);
+
+        assertNotEquals(SoundPlayer.INVALID_HANDLE, handle);
+        assertEquals(handle, SoundPlayer.getSoundHandle("handle_wav"));
+        assertDoesNotThrow(() -> SoundPlayer.playLoadedSound(handle));
+        assertDoesNotThrow(() -> SoundPlayer.playLoadedSound(12345),
+            "Handle inválido não deve lançar exceção");
+        assertEquals(SoundPlayer.INVALID_HANDLE, SoundPlayer.loadSound("bad", invalidAudioPath.replace(".mp3", ".wav")));
+    }
+
+    @Test
+    void playLoadedSound_keepsBufferPolyphonyLimit() {
+        // Dez segundos de silêncio: as vozes continuam ativas durante o teste
+        SoundBuffer buffer = new SoundBuffer(new short[441000], 1);
+        buffer.setMaxPolyphony(2);
+        SoundPlayer.loadDecodedSound("limited", buffer);
+
+        for (int i = 0; i < 4; i++) {
+            SoundPlayer.playLoadedSound("limited");
+        }
+
+        assertEquals(2, buffer.getMaxPolyphony(), "Tocar não altera o limite do buffer");
+        assertEquals(2, AudioMixer.getInstance().getActiveVoiceCount(buffer));
+    }
+
+    @Test
+    void setMaxPolyphony_perName_doesNotTouchSharedBuffer() {
+        SoundBuffer buffer = new SoundBuffer(new short[441000], 1);
+        SoundPlayer.loadDecodedSound("single", buffer);
+        SoundPlayer.loadDecodedSound("unlimited", buffer);
+        SoundPlayer.setMaxPolyphony("single", 1);
+
+        SoundPlayer.playLoadedSound("single");
+        SoundPlayer.playLoadedSound("single");
+        assertEquals(1, AudioMixer.getInstance().getActiveVoiceCount(buffer));
+        assertEquals(0, buffer.getMaxPolyphony(), "O limite fica no registro, não no buffer");
+
+        SoundPlayer.playLoadedSound("unlimited");
+        SoundPlayer.playLoadedSound("unlimited");
+        assertEquals(3, AudioMixer.getInstance().getActiveVoiceCount(buffer),
+            "O outro nome não herda o limite");
+    }
+
+    @Test
+    void setMaxPolyphony_beforeLoad_doesNotRegisterName() {
+        SoundPlayer.setMaxPolyphony("later", 1);
+
+        assertEquals(SoundPlayer.INVALID_HANDLE, SoundPlayer.getSoundHandle("later"),
+            "Definir o limite não carrega o nome");
+        assertFalse(SoundPlayer.isSoundLoaded("later"));
+
+        SoundBuffer buffer = new SoundBuffer(new short[441000], 1);
+        SoundPlayer.loadDecodedSound("later", buffer);
+        SoundPlayer.playLoadedSound("later");
+        SoundPlayer.playLoadedSound("later");
+        assertEquals(1, AudioMixer.getInstance().getActiveVoiceCount(buffer),
+            "O limite definido antes vale quando o som é carregado");
+    }
+
+    @Test
+    void soundRegistry_reload_neverExposesHalfLoadedSound() throws Exception {
+        SoundRegistry.Sound sound = SoundPlayer.registry().register("swapping");
+        SoundBuffer buffer = new SoundBuffer(new short[64], 1);
+        sound.set(new SoundRegistry.State(validWavPath, false, buffer, null));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Alterna entre WAV e MP3 enquanto esta thread lê o estado
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    if (i % 2 == 0) {
+                        sound.set(new SoundRegistry.State(validMp3Path, true, null, null));
+                    } else {
+                        sound.set(new SoundRegistry.State(validWavPath, false, buffer, null));
+                    }
+                    if (i % 64 == 0) Thread.yield();
+                }
+            });
+            while (!writer.isDone()) {
+                SoundRegistry.State state = sound.state();
+                assertTrue(state.isLoaded(), "Uma troca nunca deixa o som sem buffer");
+                assertEquals(state.cached(), state.buffer() == null);
+                assertEquals(state.cached() ? validMp3Path : validWavPath, state.path());
+            }
+            writer.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void soundRegistry_staleDecode_doesNotOverwriteReload() {
+        SoundRegistry.Sound sound = SoundPlayer.registry().register("stale");
+        sound.set(new SoundRegistry.State(validMp3Path, true, null, null));
+        SoundRegistry.State before = sound.state();
+        SoundBuffer wav = new SoundBuffer(new short[64], 1);
+        sound.set(new SoundRegistry.State(validWavPath, false, wav, null));
+
+        sound.attachDecoded(before, new SoundBuffer(new short[64], 1));
+
+        assertSame(wav, sound.state().buffer(), "A decodificação antiga é descartada");
+        assertNull(sound.state().decoded());
+    }
+
+    @Test
+    void soundRegistry_concurrentRegistration_keepsHandlesConsistent() throws Exception {
+        SoundRegistry registry = new SoundRegistry();
+        final int perThread = 500;
+        final int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int id = t;
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        // Metade dos nomes é compartilhada entre as threads
+                        String name = (i % 2 == 0) ? "shared" + i : "t" + id + "_" + i;
+                        SoundRegistry.Sound sound = registry.register(name);
+                        assertSame(sound, registry.get(registry.getHandle(name)));
+                    }
+                }));
+            }
+            // get() relança na thread do teste qualquer falha das workers
+            for (Future<?> worker : workers) {
+                worker.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(perThread / 2 + threads * perThread / 2, registry.size());
+        for (int i = 0; i < perThread; i += 2) {
+            assertEquals("shared" + i, registry.get(registry.getHandle("shared" + i)).name);
+        }
     }
 }
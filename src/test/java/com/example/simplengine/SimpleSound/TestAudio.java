@@ -0,0 +1,100 @@
+package com.example.simplengine.SimpleSound;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Áudio sintético compartilhado pelos testes de som.
+ */
+final class TestAudio {
+
+    /** Amostras por canal de um quadro MPEG-1 Layer III */
+    static final int MP3_FRAME_SAMPLES = 1152;
+
+    private static final int CHUNK_FRAMES = 256;
+
+    private TestAudio() {
+    }
+
+    /**
+     * Cria um MP3 silencioso: quadros MPEG-1 Layer III, 128 kbps, 44.1 kHz, estéreo,
+     * com os dados zerados.
+     */
+    static String createSilentMp3(Path directory, String fileName, int frameCount) throws IOException {
+        final int frameSize = 417;
+        byte[] data = new byte[frameSize * frameCount];
+        for (int f = 0; f < frameCount; f++) {
+            data[f * frameSize] = (byte) 0xFF;
+            data[f * frameSize + 1] = (byte) 0xFB;
+            data[f * frameSize + 2] = (byte) 0x90;
+        }
+        Path file = directory.resolve(fileName);
+        Files.write(file, data);
+        return file.toString();
+    }
+
+    /**
+     * Fonte estéreo na taxa do mixer com {@code frames} quadros por volta; o
+     * valor de cada canal é uma função do índice do quadro dentro da volta.
+     */
+    static PcmSource.Opener pcm(int frames, IntUnaryOperator left, IntUnaryOperator right) {
+        return () -> new PcmSource() {
+            private final short[] buffer = new short[CHUNK_FRAMES * 2];
+            private int next;
+
+            @Override
+            public int nextFrame() {
+                if (next >= frames) return -1;
+                int count = Math.min(CHUNK_FRAMES, frames - next);
+                for (int i = 0; i < count; i++) {
+                    buffer[i * 2] = (short) left.applyAsInt(next + i);
+                    buffer[i * 2 + 1] = (short) right.applyAsInt(next + i);
+                }
+                next += count;
+                return count * 2;
+            }
+
+            @Override
+            public short[] buffer() {
+                return buffer;
+            }
+
+            @Override
+            public int getChannels() {
+                return 2;
+            }
+
+            @Override
+            public int getSampleRate() {
+                return (int) AudioMixer.SAMPLE_RATE;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /** Fonte com o mesmo valor nos dois canais */
+    static PcmSource.Opener constant(int frames, int value) {
+        return pcm(frames, k -> value, k -> value);
+    }
+
+    /**
+     * Inicia o stream e espera o decoder encher a fila, para que o teste não
+     * dependa do ritmo da thread de decodificação.
+     */
+    static MusicStream started(MusicStream stream) throws InterruptedException {
+        stream.start();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (stream.getBufferedFrames() < stream.getBufferCapacityFrames()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("O decoder não encheu a fila");
+            }
+            Thread.sleep(1);
+        }
+        return stream;
+    }
+}